@@ -27,25 +27,35 @@ public class BoxSeriesSerializer extends JsonSerializer<BoxSeries> {
     @Override
     public void serialize(final BoxSeries value, final JsonGenerator jgen, final SerializerProvider provider) throws IOException, JsonProcessingException {
 
-        StringBuffer result = new StringBuffer();
-        result.append("{");
+        RawTupleWriter.writeStart(jgen, "{");
         if (value.getData() != null) {
-            result.append("data: [");
+            jgen.writeRaw("data: [");
+            boolean first = true;
             for (Box point : value.getData()) {
+                if (!first) {
+                    jgen.writeRaw(',');
+                }
+                first = false;
+                jgen.writeRaw('[');
                 final Number timestamp = point.getTimestamp();
-                result.append("[" + (timestamp != null ? timestamp + ", " : "") +
-                        point.getLow() + ", " +
-                        point.getOpen() + ", " +
-                        point.getMedian() + ", " +
-                        point.getClose() + ", " +
-                        point.getHigh() +
-                        "],");
+                if (timestamp != null) {
+                    RawTupleWriter.writeValue(jgen, timestamp);
+                    RawTupleWriter.writeSeparator(jgen);
+                }
+                RawTupleWriter.writeValue(jgen, point.getLow());
+                RawTupleWriter.writeSeparator(jgen);
+                RawTupleWriter.writeValue(jgen, point.getOpen());
+                RawTupleWriter.writeSeparator(jgen);
+                RawTupleWriter.writeValue(jgen, point.getMedian());
+                RawTupleWriter.writeSeparator(jgen);
+                RawTupleWriter.writeValue(jgen, point.getClose());
+                RawTupleWriter.writeSeparator(jgen);
+                RawTupleWriter.writeValue(jgen, point.getHigh());
+                jgen.writeRaw(']');
             }
-            result = new StringBuffer(result.substring(0, result.length() - 1));
-            result.append("]");
+            jgen.writeRaw(']');
         }
-        result.append("}");
-        jgen.writeRawValue(result.toString());
+        RawTupleWriter.writeEnd(jgen, '}');
     }
 
 }
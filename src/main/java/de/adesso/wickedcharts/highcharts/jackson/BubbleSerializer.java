@@ -33,6 +33,12 @@ public class BubbleSerializer extends JsonSerializer<Bubble> {
 	public void serialize(final Bubble value, final JsonGenerator jgen, final SerializerProvider provider)
 	    throws IOException, JsonProcessingException {
 
-		jgen.writeRawValue("[" + value.getX() + ", " + value.getY() + ", " + value.getSize() + "]");
+		RawTupleWriter.writeStart(jgen, "[");
+		RawTupleWriter.writeValue(jgen, value.getX());
+		RawTupleWriter.writeSeparator(jgen);
+		RawTupleWriter.writeValue(jgen, value.getY());
+		RawTupleWriter.writeSeparator(jgen);
+		RawTupleWriter.writeValue(jgen, value.getSize());
+		RawTupleWriter.writeEnd(jgen, ']');
 	}
 }
@@ -32,16 +32,10 @@ public class CoordinateSerializer<T, U> extends JsonSerializer<Coordinate<T, U>>
     public void serialize(final Coordinate<T, U> value, final JsonGenerator jgen, final SerializerProvider provider)
             throws IOException, JsonProcessingException {
 
-        String xString = String.valueOf(value.getX());
-        if (value.isXQuoted()) {
-            xString = "'" + xString + "'";
-        }
-
-        String yString = String.valueOf(value.getY());
-        if (value.isYQuoted()) {
-            yString = "'" + yString + "'";
-        }
-
-        jgen.writeRawValue("[" + xString + ", " + yString + "]");
+        RawTupleWriter.writeStart(jgen, "[");
+        RawTupleWriter.writeValue(jgen, value.getX(), value.isXQuoted());
+        RawTupleWriter.writeSeparator(jgen);
+        RawTupleWriter.writeValue(jgen, value.getY(), value.isYQuoted());
+        RawTupleWriter.writeEnd(jgen, ']');
     }
 }
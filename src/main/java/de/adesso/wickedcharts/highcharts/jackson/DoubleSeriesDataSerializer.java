@@ -0,0 +1,53 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import de.adesso.wickedcharts.highcharts.options.series.DoubleSeries;
+import java.io.IOException;
+
+/**
+ * Serializes the data of a {@link DoubleSeries} directly from its primitive
+ * column without boxing the values.
+ */
+public class DoubleSeriesDataSerializer extends JsonSerializer<DoubleSeries.DataView> {
+
+	@Override
+	public void serialize(final DoubleSeries.DataView value, final JsonGenerator jgen, final SerializerProvider provider)
+	    throws IOException, JsonProcessingException {
+		DoubleSeries series = value.getSeries();
+		int size = series.size();
+		jgen.writeStartArray(series, size);
+		for (int i = 0; i < size; i++) {
+			writeDouble(jgen, series.getY(i));
+		}
+		jgen.writeEndArray();
+	}
+
+	/**
+	 * Writes the given value as number or as null, if the value is NaN.
+	 */
+	static void writeDouble(final JsonGenerator jgen, final double value) throws IOException {
+		if (Double.isNaN(value)) {
+			jgen.writeNull();
+		} else {
+			jgen.writeNumber(value);
+		}
+	}
+
+}
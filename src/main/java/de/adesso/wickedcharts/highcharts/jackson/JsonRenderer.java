@@ -15,29 +15,62 @@
 package de.adesso.wickedcharts.highcharts.jackson;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
 import de.adesso.wickedcharts.highcharts.json.JsonValueEnum;
 import de.adesso.wickedcharts.highcharts.json.LowercaseEnum;
+import de.adesso.wickedcharts.highcharts.options.Axis;
 import de.adesso.wickedcharts.highcharts.options.Center;
 import de.adesso.wickedcharts.highcharts.options.Crosshair;
 import de.adesso.wickedcharts.highcharts.options.CssStyle;
 import de.adesso.wickedcharts.highcharts.options.DateTimeLabelFormat;
 import de.adesso.wickedcharts.highcharts.options.Function;
 import de.adesso.wickedcharts.highcharts.options.MinorTickInterval;
+import de.adesso.wickedcharts.highcharts.options.Options;
 import de.adesso.wickedcharts.highcharts.options.PixelOrPercent;
+import de.adesso.wickedcharts.highcharts.options.RenderView;
 import de.adesso.wickedcharts.highcharts.options.Symbol;
 import de.adesso.wickedcharts.highcharts.options.color.HexColor;
 import de.adesso.wickedcharts.highcharts.options.color.HighchartsColor;
+import de.adesso.wickedcharts.highcharts.options.color.LinearGradient;
 import de.adesso.wickedcharts.highcharts.options.color.NullColor;
+import de.adesso.wickedcharts.highcharts.options.color.RadialGradient;
 import de.adesso.wickedcharts.highcharts.options.color.RgbaColor;
 import de.adesso.wickedcharts.highcharts.options.color.SimpleColor;
+import de.adesso.wickedcharts.highcharts.options.drilldown.DrilldownPoint;
+import de.adesso.wickedcharts.highcharts.options.series.BoxSeries;
 import de.adesso.wickedcharts.highcharts.options.series.Bubble;
+import de.adesso.wickedcharts.highcharts.options.series.BubbleSeries;
 import de.adesso.wickedcharts.highcharts.options.series.Coordinate;
+import de.adesso.wickedcharts.highcharts.options.series.CoordinatesSeries;
+import de.adesso.wickedcharts.highcharts.options.series.Custom3DCoordinateSeries;
+import de.adesso.wickedcharts.highcharts.options.series.CustomCoordinatesSeries;
+import de.adesso.wickedcharts.highcharts.options.series.DoubleSeries;
+import de.adesso.wickedcharts.highcharts.options.series.PointSeries;
 import de.adesso.wickedcharts.highcharts.options.series.RangeCoordinate;
+import de.adesso.wickedcharts.highcharts.options.series.RangeSeries;
+import de.adesso.wickedcharts.highcharts.options.series.SimpleSeries;
 import de.adesso.wickedcharts.highcharts.options.series.ThreeDCoordinate;
+import de.adesso.wickedcharts.highcharts.options.series.XYDoubleSeries;
+import de.adesso.wickedcharts.highcharts.theme.Theme;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.Locale;
+import java.util.Set;
 
 /**
  * A renderer for rendering Highcharts options into JSON objects based on the
@@ -57,6 +90,19 @@ public class JsonRenderer {
      */
     public final static ObjectMapper DEFAULT_MAPPER = createDefaultObjectMapper();
 
+    /**
+     * The classes whose serializers are loaded by {@link #preloadSerializers()}.
+     * Besides {@link Options} these are mainly the subclasses of abstract
+     * option types, which cannot be found by walking the properties of
+     * {@link Options}.
+     */
+    private static final Class<?>[] PRELOADED_CLASSES = new Class<?>[]{Options.class, Theme.class, Axis.class,
+            LinearGradient.class, RadialGradient.class, DrilldownPoint.class, SimpleSeries.class,
+            PointSeries.class, CoordinatesSeries.class, CustomCoordinatesSeries.class, Custom3DCoordinateSeries.class,
+            RangeSeries.class, BubbleSeries.class, BoxSeries.class, DoubleSeries.class, XYDoubleSeries.class};
+
+    private static final String OPTIONS_PACKAGE_PREFIX = "de.adesso.wickedcharts.highcharts.";
+
     public JsonRenderer() {
         this.jacksonModule = new WickedChartsJacksonModule();
         this.jacksonMapper = createJacksonMapper();
@@ -76,6 +122,70 @@ public class JsonRenderer {
         this.jacksonModule.addSerializer(clazz, serializer);
     }
 
+    /**
+     * Resolves the serializers of all option classes in advance. Jackson
+     * introspects each class lazily when it is serialized for the first time,
+     * which makes the first rendering of a chart considerably slower than the
+     * following ones. Calling this method once at application startup moves
+     * this cost out of the first request.
+     *
+     * @return this renderer for chaining
+     */
+    public JsonRenderer preloadSerializers() {
+        return preloadSerializers(PRELOADED_CLASSES);
+    }
+
+    /**
+     * @return the number of serializers resolved and cached so far.
+     */
+    int getCachedSerializersCount() {
+        return ((DefaultSerializerProvider) this.jacksonMapper.getSerializerProviderInstance())
+                .cachedSerializersCount();
+    }
+
+    /**
+     * Resolves the serializers of the given classes and of all option classes
+     * reachable via their properties in advance.
+     *
+     * @param classes the classes to start with
+     * @return this renderer for chaining
+     * @see #preloadSerializers()
+     */
+    public JsonRenderer preloadSerializers(final Class<?>... classes) {
+        SerializationConfig config = this.jacksonMapper.getSerializationConfig();
+        SerializerProvider provider = this.jacksonMapper.getSerializerProviderInstance();
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<JavaType> types = new ArrayDeque<>();
+        for (Class<?> clazz : classes) {
+            types.add(config.constructType(clazz));
+        }
+        while (!types.isEmpty()) {
+            JavaType type = types.poll();
+            if (type.isContainerType()) {
+                types.add(type.getContentType());
+                continue;
+            }
+            Class<?> clazz = type.getRawClass();
+            if (!clazz.getName().startsWith(OPTIONS_PACKAGE_PREFIX) || !visited.add(clazz)) {
+                continue;
+            }
+            try {
+                if (!clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers())) {
+                    provider.findValueSerializer(clazz);
+                }
+            } catch (Exception e) {
+                throw new RuntimeException("Error trying to create a serializer for class " + clazz.getName() + "!", e);
+            }
+            BeanDescription description = config.introspect(type);
+            for (BeanPropertyDefinition property : description.findProperties()) {
+                if (property.couldSerialize()) {
+                    types.add(property.getPrimaryType());
+                }
+            }
+        }
+        return this;
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     private ObjectMapper createJacksonMapper() {
 
@@ -98,6 +208,9 @@ public class JsonRenderer {
         this.jacksonModule.addSerializer(RangeCoordinate.class, new RangeCoordinateSerializer());
         this.jacksonModule.addSerializer(Bubble.class, new BubbleSerializer());
         this.jacksonModule.addSerializer(ThreeDCoordinate.class, new ThreeDimensionalCoordinateSerializer());
+        this.jacksonModule.addSerializer(DoubleSeries.DataView.class, new DoubleSeriesDataSerializer());
+        this.jacksonModule.addSerializer(XYDoubleSeries.DataView.class, new XYDoubleSeriesDataSerializer());
+        this.jacksonModule.addSerializer(RenderView.class, new RenderViewSerializer());
 
         ObjectMapper mapper = createDefaultObjectMapper();
         mapper.setLocale(Locale.ENGLISH);
@@ -123,6 +236,47 @@ public class JsonRenderer {
         }
     }
 
+    /**
+     * Serializes the given object directly into the given {@link Writer}
+     * without building an intermediate {@link String}. The output is the same
+     * as the one produced by {@link #toJson(Object)}. The writer is flushed
+     * but not closed.
+     *
+     * @param object the object to serialize
+     * @param writer the target to write the JSON to
+     */
+    public void writeTo(final Object object, final Writer writer) {
+        try (JsonGenerator generator = this.jacksonMapper.getFactory().createGenerator(writer)) {
+            writeTo(object, generator);
+        } catch (IOException e) {
+            throw new RuntimeException("Error trying to serialize object of type " + object.getClass().getName()
+                                       + " into JSON!", e);
+        }
+    }
+
+    /**
+     * Serializes the given object as UTF-8 encoded JSON directly into the
+     * given {@link OutputStream} without building an intermediate
+     * {@link String}. The stream is flushed but not closed.
+     *
+     * @param object the object to serialize
+     * @param out    the target to write the JSON to
+     */
+    public void writeTo(final Object object, final OutputStream out) {
+        try (JsonGenerator generator = this.jacksonMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            writeTo(object, generator);
+        } catch (IOException e) {
+            throw new RuntimeException("Error trying to serialize object of type " + object.getClass().getName()
+                                       + " into JSON!", e);
+        }
+    }
+
+    private void writeTo(final Object object, final JsonGenerator generator) throws IOException {
+        // the target belongs to the caller, so closing the generator must not close it
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.jacksonMapper.writeValue(generator, object);
+    }
+
     public <T> T fromJson(final String json, final Class<T> targetClazz) {
         try {
             return this.jacksonMapper.readValue(json, targetClazz);
@@ -39,6 +39,12 @@ public class RangeCoordinateSerializer<X, Y1, Y2> extends JsonSerializer<RangeCo
 	public void serialize(final RangeCoordinate<X, Y1, Y2> value, final JsonGenerator jgen,
 	    final SerializerProvider provider) throws IOException, JsonProcessingException {
 
-		jgen.writeRawValue("[" + value.getX() + ", " + value.getY1() + ", " + value.getY2() + "]");
+		RawTupleWriter.writeStart(jgen, "[");
+		RawTupleWriter.writeValue(jgen, value.getX());
+		RawTupleWriter.writeSeparator(jgen);
+		RawTupleWriter.writeValue(jgen, value.getY1());
+		RawTupleWriter.writeSeparator(jgen);
+		RawTupleWriter.writeValue(jgen, value.getY2());
+		RawTupleWriter.writeEnd(jgen, ']');
 	}
 }
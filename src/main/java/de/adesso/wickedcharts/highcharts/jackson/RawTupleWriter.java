@@ -0,0 +1,76 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.NumberOutput;
+import java.io.IOException;
+
+/**
+ * Writes tuples like <code>[x, y]</code> piece by piece into a
+ * {@link JsonGenerator}. The values are written raw, just like
+ * {@link String#valueOf(Object)} would print them, so that javascript
+ * expressions (e.g. <code>Date.UTC(1970, 9, 27)</code>) can be used as values.
+ *
+ * Integral numbers are formatted into a reusable buffer, so writing them does
+ * not allocate any objects.
+ */
+final class RawTupleWriter {
+
+	private static final ThreadLocal<char[]> NUMBER_BUFFER = ThreadLocal.withInitial(() -> new char[20]);
+
+	private RawTupleWriter() {
+
+	}
+
+	/**
+	 * Starts a tuple. The tuple counts as a single value for the enclosing JSON
+	 * context.
+	 */
+	static void writeStart(final JsonGenerator jgen, final String bracket) throws IOException {
+		jgen.writeRawValue(bracket);
+	}
+
+	static void writeEnd(final JsonGenerator jgen, final char bracket) throws IOException {
+		jgen.writeRaw(bracket);
+	}
+
+	static void writeSeparator(final JsonGenerator jgen) throws IOException {
+		jgen.writeRaw(", ");
+	}
+
+	static void writeValue(final JsonGenerator jgen, final Object value) throws IOException {
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			char[] buffer = NUMBER_BUFFER.get();
+			int length = NumberOutput.outputLong(((Number) value).longValue(), buffer, 0);
+			jgen.writeRaw(buffer, 0, length);
+		} else if (value instanceof Double) {
+			jgen.writeRaw(Double.toString((Double) value));
+		} else {
+			jgen.writeRaw(String.valueOf(value));
+		}
+	}
+
+	static void writeValue(final JsonGenerator jgen, final Object value, final boolean quoted) throws IOException {
+		if (quoted) {
+			jgen.writeRaw('\'');
+			writeValue(jgen, value);
+			jgen.writeRaw('\'');
+		} else {
+			writeValue(jgen, value);
+		}
+	}
+
+}
@@ -0,0 +1,59 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import de.adesso.wickedcharts.highcharts.options.RenderView;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Serializes a {@link RenderView} like the object it wraps, but writes the
+ * replaced properties instead of the values of the object.
+ */
+public class RenderViewSerializer extends JsonSerializer<RenderView> {
+
+	@Override
+	public void serialize(final RenderView value, final JsonGenerator jgen, final SerializerProvider provider)
+	    throws IOException {
+		Object bean = value.getValue();
+		Map<String, Object> replacements = value.getProperties();
+		JsonSerializer<Object> serializer = provider.findValueSerializer(bean.getClass());
+		jgen.writeStartObject(bean);
+		Iterator<PropertyWriter> properties = serializer.properties();
+		while (properties.hasNext()) {
+			PropertyWriter property = properties.next();
+			if (replacements.containsKey(property.getName())) {
+				provider.defaultSerializeField(property.getName(), replacements.get(property.getName()), jgen);
+			} else {
+				try {
+					property.serializeAsField(bean, jgen, provider);
+				} catch (IOException e) {
+					throw e;
+				} catch (Exception e) {
+					throw JsonMappingException.from(provider,
+					    "Error trying to serialize property " + property.getName() + "!", e);
+				}
+			}
+		}
+		jgen.writeEndObject();
+	}
+
+}
@@ -33,21 +33,12 @@ public class ThreeDimensionalCoordinateSerializer<X, Y, Z> extends JsonSerialize
     public void serialize(final ThreeDCoordinate<X, Y, Z> value, final JsonGenerator jgen, final SerializerProvider provider)
             throws IOException, JsonProcessingException {
 
-        String xString = String.valueOf(value.getX());
-        if (value.isXQuoted()) {
-            xString = "'" + xString + "'";
-        }
-
-        String yString = String.valueOf(value.getY());
-        if (value.isYQuoted()) {
-            yString = "'" + yString + "'";
-        }
-
-        String zString = String.valueOf(value.getZ());
-        if (value.isZQuoted()) {
-            zString = "'" + zString + "'";
-        }
-
-        jgen.writeRawValue("[" + xString + ", " + yString + ", " + zString + "]");
+        RawTupleWriter.writeStart(jgen, "[");
+        RawTupleWriter.writeValue(jgen, value.getX(), value.isXQuoted());
+        RawTupleWriter.writeSeparator(jgen);
+        RawTupleWriter.writeValue(jgen, value.getY(), value.isYQuoted());
+        RawTupleWriter.writeSeparator(jgen);
+        RawTupleWriter.writeValue(jgen, value.getZ(), value.isZQuoted());
+        RawTupleWriter.writeEnd(jgen, ']');
     }
 }
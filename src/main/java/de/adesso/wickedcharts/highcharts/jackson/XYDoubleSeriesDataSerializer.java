@@ -0,0 +1,64 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import de.adesso.wickedcharts.highcharts.options.series.XYDoubleSeries;
+import java.io.IOException;
+
+/**
+ * Serializes the data of a {@link XYDoubleSeries} directly from its primitive
+ * columns without creating an object per point.
+ */
+public class XYDoubleSeriesDataSerializer extends JsonSerializer<XYDoubleSeries.DataView> {
+
+	@Override
+	public void serialize(final XYDoubleSeries.DataView value, final JsonGenerator jgen,
+	    final SerializerProvider provider) throws IOException, JsonProcessingException {
+		XYDoubleSeries series = value.getSeries();
+		int size = series.size();
+		boolean range = series.isRange();
+		jgen.writeStartArray(series, size);
+		for (int i = 0; i < size; i++) {
+			jgen.writeStartArray();
+			writeX(jgen, series.getX(i));
+			if (range) {
+				DoubleSeriesDataSerializer.writeDouble(jgen, series.getLow(i));
+				DoubleSeriesDataSerializer.writeDouble(jgen, series.getHigh(i));
+			} else {
+				DoubleSeriesDataSerializer.writeDouble(jgen, series.getY(i));
+			}
+			jgen.writeEndArray();
+		}
+		jgen.writeEndArray();
+	}
+
+	/**
+	 * Writes integral x values like timestamps as long, so that they are not
+	 * rendered in exponential notation.
+	 */
+	private void writeX(final JsonGenerator jgen, final double x) throws IOException {
+		long integral = (long) x;
+		if (integral == x) {
+			jgen.writeNumber(integral);
+		} else {
+			DoubleSeriesDataSerializer.writeDouble(jgen, x);
+		}
+	}
+
+}
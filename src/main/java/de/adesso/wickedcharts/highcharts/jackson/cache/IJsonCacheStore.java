@@ -0,0 +1,52 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.jackson.cache;
+
+/**
+ * A second-tier store for a {@link JsonCache}. The store is asked for rendered
+ * JSON that is not contained in the (local) cache, and all newly rendered JSON
+ * is put into the store. Implement this interface to share rendered JSON
+ * between multiple nodes, e.g. via a distributed cache.
+ *
+ * Implementations must be thread-safe.
+ */
+public interface IJsonCacheStore {
+
+	/**
+	 * @param key
+	 *          the cache key.
+	 * @return the JSON stored under the given key or null, if there is none.
+	 */
+	String get(String key);
+
+	/**
+	 * Stores rendered JSON.
+	 *
+	 * @param key
+	 *          the cache key.
+	 * @param json
+	 *          the rendered JSON.
+	 */
+	void put(String key, String json);
+
+	/**
+	 * Removes the JSON stored under the given key, if any.
+	 *
+	 * @param key
+	 *          the cache key.
+	 */
+	void remove(String key);
+
+}
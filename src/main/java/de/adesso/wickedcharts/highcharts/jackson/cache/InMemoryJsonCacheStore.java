@@ -0,0 +1,103 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.jackson.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link IJsonCacheStore} that keeps its entries in memory. Like the
+ * {@link JsonCache} itself, it evicts the least recently used entries as soon
+ * as the size of all entries exceeds the configured maximum. It can be shared
+ * between multiple {@link JsonCache}s of the same JVM.
+ */
+public class InMemoryJsonCacheStore implements IJsonCacheStore {
+
+	private final long maxBytes;
+
+	private final LinkedHashMap<String, String> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long bytes;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxBytes
+	 *          the maximum size of all entries in bytes.
+	 */
+	public InMemoryJsonCacheStore(final long maxBytes) {
+		if (maxBytes <= 0) {
+			throw new IllegalArgumentException("maxBytes must be positive!");
+		}
+		this.maxBytes = maxBytes;
+	}
+
+	@Override
+	public synchronized String get(final String key) {
+		return this.entries.get(key);
+	}
+
+	@Override
+	public synchronized void put(final String key, final String json) {
+		long size = JsonCache.sizeOf(json);
+		if (size > this.maxBytes) {
+			remove(key);
+			return;
+		}
+		String previous = this.entries.put(key, json);
+		if (previous != null) {
+			this.bytes -= JsonCache.sizeOf(previous);
+		}
+		this.bytes += size;
+		Iterator<Map.Entry<String, String>> iterator = this.entries.entrySet().iterator();
+		while (this.bytes > this.maxBytes && iterator.hasNext()) {
+			this.bytes -= JsonCache.sizeOf(iterator.next().getValue());
+			iterator.remove();
+		}
+	}
+
+	@Override
+	public synchronized void remove(final String key) {
+		String json = this.entries.remove(key);
+		if (json != null) {
+			this.bytes -= JsonCache.sizeOf(json);
+		}
+	}
+
+	/**
+	 * @return the number of entries in this store.
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * @return the approximated size of all entries in bytes.
+	 */
+	public synchronized long getBytes() {
+		return this.bytes;
+	}
+
+	public long getMaxBytes() {
+		return this.maxBytes;
+	}
+
+	public synchronized void clear() {
+		this.entries.clear();
+		this.bytes = 0;
+	}
+
+}
@@ -0,0 +1,266 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.jackson.cache;
+
+import de.adesso.wickedcharts.highcharts.jackson.JsonRenderer;
+import de.adesso.wickedcharts.highcharts.options.Options;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache of rendered JSON, so that identical objects (e.g. the same chart
+ * shown to many users) do not have to be serialized again on every request.
+ *
+ * The cache holds its entries in memory and evicts the least recently used
+ * entries as soon as the size of all entries exceeds the configured maximum.
+ * The size of an entry is approximated with two bytes per character. Entries
+ * larger than the maximum size are not cached at all.
+ *
+ * Optionally, an {@link IJsonCacheStore} can be configured as second tier. It
+ * is asked for all entries missing in memory and receives all newly rendered
+ * entries.
+ *
+ * The cache is thread-safe. Rendering is done outside of any lock, so an entry
+ * missing in the cache may be rendered concurrently by multiple threads.
+ */
+public class JsonCache {
+
+	private final long maxBytes;
+
+	private final IJsonCacheStore store;
+
+	private final LinkedHashMap<String, String> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long bytes;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong storeHits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final AtomicLong evictions = new AtomicLong();
+
+	/**
+	 * Constructs a cache without second-tier store.
+	 *
+	 * @param maxBytes
+	 *          the maximum size of all entries in bytes.
+	 */
+	public JsonCache(final long maxBytes) {
+		this(maxBytes, null);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxBytes
+	 *          the maximum size of all entries held in memory in bytes.
+	 * @param store
+	 *          the second-tier store. May be null.
+	 */
+	public JsonCache(final long maxBytes, final IJsonCacheStore store) {
+		if (maxBytes <= 0) {
+			throw new IllegalArgumentException("maxBytes must be positive!");
+		}
+		this.maxBytes = maxBytes;
+		this.store = store;
+	}
+
+	/**
+	 * Creates the key under which the given chart options are cached. The key
+	 * consists of the cache key and the version of the options and the DOM ID
+	 * of the chart, which is rendered as part of the options.
+	 *
+	 * @param options
+	 *          the options of the chart.
+	 * @param markupId
+	 *          the DOM ID of the chart.
+	 * @return the key or null, if the options must not be cached since they do
+	 *         not have both a cache key and a version.
+	 */
+	public static String createKey(final Options options, final String markupId) {
+		String cacheKey = options.getCacheKey();
+		String version = options.getVersion();
+		if (cacheKey == null || version == null) {
+			return null;
+		}
+		// the lengths keep the parts apart even if they contain the separator
+		return cacheKey.length() + ":" + cacheKey + "|" + version.length() + ":" + version + "|" + markupId;
+	}
+
+	/**
+	 * Returns the JSON cached under the given key. If there is none, the given
+	 * object is rendered and the result is cached.
+	 *
+	 * @param key
+	 *          the cache key. It must identify the content of the object.
+	 * @param object
+	 *          the object to render if the cache does not contain the key.
+	 * @param renderer
+	 *          the renderer to use.
+	 * @return the JSON representation of the object.
+	 */
+	public String getOrRender(final String key, final Object object, final JsonRenderer renderer) {
+		String json = get(key);
+		if (json == null) {
+			this.misses.incrementAndGet();
+			json = renderer.toJson(object);
+			put(key, json);
+			if (this.store != null) {
+				this.store.put(key, json);
+			}
+		}
+		return json;
+	}
+
+	/**
+	 * Looks up the given key in memory and then in the second-tier store.
+	 *
+	 * @param key
+	 *          the cache key.
+	 * @return the cached JSON or null, if the key is not cached.
+	 */
+	public String get(final String key) {
+		String json;
+		synchronized (this) {
+			json = this.entries.get(key);
+		}
+		if (json != null) {
+			this.hits.incrementAndGet();
+			return json;
+		}
+		if (this.store != null) {
+			json = this.store.get(key);
+			if (json != null) {
+				this.storeHits.incrementAndGet();
+				put(key, json);
+			}
+		}
+		return json;
+	}
+
+	/**
+	 * Removes the given key from memory and from the second-tier store.
+	 *
+	 * @param key
+	 *          the cache key.
+	 */
+	public void invalidate(final String key) {
+		synchronized (this) {
+			String json = this.entries.remove(key);
+			if (json != null) {
+				this.bytes -= sizeOf(json);
+			}
+		}
+		if (this.store != null) {
+			this.store.remove(key);
+		}
+	}
+
+	/**
+	 * Removes all entries held in memory. The second-tier store is not touched.
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+		this.bytes = 0;
+	}
+
+	private synchronized void put(final String key, final String json) {
+		long size = sizeOf(json);
+		if (size > this.maxBytes) {
+			return;
+		}
+		String previous = this.entries.put(key, json);
+		if (previous != null) {
+			this.bytes -= sizeOf(previous);
+		}
+		this.bytes += size;
+		Iterator<Map.Entry<String, String>> iterator = this.entries.entrySet().iterator();
+		while (this.bytes > this.maxBytes && iterator.hasNext()) {
+			Map.Entry<String, String> eldest = iterator.next();
+			this.bytes -= sizeOf(eldest.getValue());
+			iterator.remove();
+			this.evictions.incrementAndGet();
+		}
+	}
+
+	static long sizeOf(final String json) {
+		return 2L * json.length();
+	}
+
+	/**
+	 * @return the number of entries held in memory.
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * @return the approximated size of all entries held in memory in bytes.
+	 */
+	public synchronized long getBytes() {
+		return this.bytes;
+	}
+
+	public long getMaxBytes() {
+		return this.maxBytes;
+	}
+
+	/**
+	 * @return the number of lookups answered from memory.
+	 */
+	public long getHits() {
+		return this.hits.get();
+	}
+
+	/**
+	 * @return the number of lookups answered from the second-tier store.
+	 */
+	public long getStoreHits() {
+		return this.storeHits.get();
+	}
+
+	/**
+	 * @return the number of lookups that required rendering.
+	 */
+	public long getMisses() {
+		return this.misses.get();
+	}
+
+	/**
+	 * @return the number of entries evicted from memory.
+	 */
+	public long getEvictions() {
+		return this.evictions.get();
+	}
+
+	public void resetStatistics() {
+		this.hits.set(0);
+		this.storeHits.set(0);
+		this.misses.set(0);
+		this.evictions.set(0);
+	}
+
+	@Override
+	public String toString() {
+		return "JsonCache(entries=" + size() + ", bytes=" + getBytes() + "/" + this.maxBytes + ", hits=" + getHits()
+				+ ", storeHits=" + getStoreHits() + ", misses=" + getMisses() + ", evictions=" + getEvictions() + ")";
+	}
+
+}
@@ -15,13 +15,16 @@
 package de.adesso.wickedcharts.highcharts.options;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import de.adesso.wickedcharts.highcharts.options.color.ColorReference;
 import de.adesso.wickedcharts.highcharts.options.heatmap.ColorAxis;
+import de.adesso.wickedcharts.highcharts.options.processing.WickedChartsIdIndex;
 import de.adesso.wickedcharts.highcharts.options.series.Series;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -45,6 +48,18 @@ public class Options implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    @JsonIgnore
+    private String version;
+
+    @JsonIgnore
+    private String cacheKey;
+
+    @JsonIgnore
+    private WickedChartsIdIndex wickedChartsIdIndex;
+
+    @JsonIgnore
+    private Map<Series<?>, List<?>> renderedData = new IdentityHashMap<Series<?>, List<?>>();
+
     private ColorAxis colorAxis;
 
     private ChartOptions chart;
@@ -159,6 +174,10 @@ public class Options implements Serializable {
         this.pane = template.pane;
         this.plotOptions = template.plotOptions;
         this.processingRegistry = template.processingRegistry;
+        this.version = template.version;
+        this.cacheKey = template.cacheKey;
+        this.wickedChartsIdIndex = template.wickedChartsIdIndex;
+        this.renderedData = template.renderedData;
         this.series = template.series;
         this.subtitle = template.subtitle;
         this.title = template.title;
@@ -175,6 +194,46 @@ public class Options implements Serializable {
         return colorAxis;
     }
 
+    /**
+     * Returns the key identifying these options in the cache of rendered JSON.
+     *
+     * @return the cache key or null, if no cache key has been set.
+     * @see #setCacheKey(String)
+     */
+    @JsonIgnore
+    public String getCacheKey() {
+        return this.cacheKey;
+    }
+
+    /**
+     * Returns the explicit version of these options.
+     *
+     * @return the version or null, if no version has been set.
+     * @see #setVersion(String)
+     */
+    @JsonIgnore
+    public String getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Returns the index of the elements of these options by their
+     * wickedChartsId.
+     *
+     * @return the index or null, if these options have not been processed by
+     * an
+     * {@link de.adesso.wickedcharts.highcharts.options.processing.IdGeneratorProcessor} yet.
+     */
+    @JsonIgnore
+    public WickedChartsIdIndex getWickedChartsIdIndex() {
+        return this.wickedChartsIdIndex;
+    }
+
+    public Options setWickedChartsIdIndex(final WickedChartsIdIndex wickedChartsIdIndex) {
+        this.wickedChartsIdIndex = wickedChartsIdIndex;
+        return this;
+    }
+
     @JsonIgnore
     public ChartOptions getChartOptions() {
         return this.chart;
@@ -241,11 +300,72 @@ public class Options implements Serializable {
         return this.plotOptions;
     }
 
+    @JsonIgnore
     @SuppressWarnings("rawtypes")
     public List<? extends Series> getSeries() {
         return this.series;
     }
 
+    /**
+     * Returns the series as they are rendered into JSON. Series for which
+     * other data has been set via {@link #setRenderedData(Series, List)} are
+     * rendered with that data instead of their own.
+     *
+     * @return the series to render.
+     */
+    @JsonProperty("series")
+    public List<?> getRenderedSeries() {
+        if (this.series == null || this.renderedData.isEmpty()) {
+            return this.series;
+        }
+        List<Object> result = new ArrayList<Object>(this.series.size());
+        for (Series<?> series : this.series) {
+            List<?> data = this.renderedData.get(series);
+            result.add(data == null ? series : new RenderView(series, "data", data));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the data that is rendered instead of the data of the given
+     * series.
+     *
+     * @param series the series.
+     * @return the data or null, if the series is rendered with its own data.
+     * @see #setRenderedData(Series, List)
+     */
+    @JsonIgnore
+    public List<?> getRenderedData(final Series<?> series) {
+        return this.renderedData.get(series);
+    }
+
+    /**
+     * Sets the data that is rendered instead of the data of the given series,
+     * e.g. a downsampled copy of it. The series itself is not modified.
+     *
+     * @param series the series.
+     * @param data the data to render or null to render the data of the series
+     * itself.
+     * @return this for chaining.
+     */
+    public Options setRenderedData(final Series<?> series, final List<?> data) {
+        if (data == null) {
+            this.renderedData.remove(series);
+        } else {
+            this.renderedData.put(series, data);
+        }
+        return this;
+    }
+
+    /**
+     * Renders all series with their own data again.
+     *
+     * @see #setRenderedData(Series, List)
+     */
+    public void clearRenderedData() {
+        this.renderedData.clear();
+    }
+
     /**
      * Returns the single xAxis. If there is more than one xAxis defined, the
      * first is returned.
@@ -434,6 +554,37 @@ public class Options implements Serializable {
         return this;
     }
 
+    /**
+     * Sets a key identifying these options in the cache of rendered JSON, which
+     * is shared by all charts and users of the application. Options are only
+     * rendered from the cache if they have both a cache key and a version (see
+     * {@link #setVersion(String)}), so only set a cache key for options whose
+     * content is the same for everyone who sees them, and make it unique among
+     * all such options of the application.
+     *
+     * @param cacheKey the cache key, or null to disable caching.
+     * @return the {@link Options} object for chaining.
+     */
+    public Options setCacheKey(final String cacheKey) {
+        this.cacheKey = cacheKey;
+        return this;
+    }
+
+    /**
+     * Sets an explicit version of the content of these options. Options with a
+     * version and a cache key (see {@link #setCacheKey(String)}) may be
+     * rendered from a cache of rendered JSON, so the version has to change
+     * whenever the content of the options changes. The version is not part of
+     * the JSON representation.
+     *
+     * @param version the version, or null to disable caching.
+     * @return the {@link Options} object for chaining.
+     */
+    public Options setVersion(final String version) {
+        this.version = version;
+        return this;
+    }
+
     public Options setColorAxis(final ColorAxis colorAxis) {
         this.colorAxis = colorAxis;
         return this;
@@ -0,0 +1,65 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Renders an object of the options with some of its properties replaced,
+ * without modifying the object itself. All other properties of the object are
+ * rendered as usual.
+ *
+ * @see de.adesso.wickedcharts.highcharts.jackson.RenderViewSerializer
+ */
+public class RenderView implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Object value;
+
+	private final Map<String, Object> properties;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param value
+	 *          the object to render.
+	 * @param property
+	 *          the name of the JSON property to replace.
+	 * @param replacement
+	 *          the value to render for the property instead of the value of the
+	 *          object.
+	 */
+	public RenderView(final Object value, final String property, final Object replacement) {
+		this.value = value;
+		this.properties = new LinkedHashMap<>();
+		this.properties.put(property, replacement);
+	}
+
+	public Object getValue() {
+		return this.value;
+	}
+
+	/**
+	 * @return the replaced properties by their JSON name.
+	 */
+	public Map<String, Object> getProperties() {
+		return Collections.unmodifiableMap(this.properties);
+	}
+
+}
@@ -41,4 +41,21 @@ public class DrilldownFunction extends Function {
 		setFunction("drilldown(this, " + drilldownArrayName + ");");
 	}
 
+	/**
+	 * Constructs a function that loads drilldown options lazily. If the
+	 * javascript array does not yet contain the options for a point, the load
+	 * function is called with the index of the options, which then has to add
+	 * them to the array.
+	 * 
+	 * @param drilldownArrayName
+	 *          name of the javascript array that holds the already loaded
+	 *          drilldown options.
+	 * @param loadFunction
+	 *          javascript function taking the index of the drilldown options to
+	 *          load.
+	 */
+	public DrilldownFunction(String drilldownArrayName, CharSequence loadFunction) {
+		setFunction("lazyDrilldown(this, " + drilldownArrayName + ", " + loadFunction + ");");
+	}
+
 }
@@ -37,6 +37,10 @@ public abstract class InteractionFunction extends Function implements IProcessab
 
 	private static final long serialVersionUID = 1L;
 
+	private InteractionRatePolicy ratePolicy = InteractionRatePolicy.NONE;
+
+	private long rateInterval;
+
 	/**
 	 * Constructor.
 	 * 
@@ -50,6 +54,41 @@ public abstract class InteractionFunction extends Function implements IProcessab
 		// rendering framework must call setFunction() to define the javascript.
 	}
 
+	/**
+	 * Defines how often the events of this function are sent to the server.
+	 *
+	 * @param ratePolicy
+	 *          the policy.
+	 * @param rateInterval
+	 *          the interval in milliseconds used by {@link InteractionRatePolicy#THROTTLE}
+	 *          and {@link InteractionRatePolicy#DEBOUNCE}. Ignored by the other
+	 *          policies.
+	 * @return this function for chaining.
+	 */
+	public InteractionFunction setRatePolicy(final InteractionRatePolicy ratePolicy, final long rateInterval) {
+		if (ratePolicy == null) {
+			throw new IllegalArgumentException("ratePolicy must not be null!");
+		}
+		if ((ratePolicy == InteractionRatePolicy.THROTTLE || ratePolicy == InteractionRatePolicy.DEBOUNCE)
+				&& rateInterval <= 0) {
+			throw new IllegalArgumentException("rateInterval must be positive!");
+		}
+		this.ratePolicy = ratePolicy;
+		this.rateInterval = rateInterval;
+		return this;
+	}
+
+	public InteractionRatePolicy getRatePolicy() {
+		return this.ratePolicy;
+	}
+
+	/**
+	 * @return the interval of the rate policy in milliseconds.
+	 */
+	public long getRateInterval() {
+		return this.rateInterval;
+	}
+
 	@Override
 	public String getProcessingKey() {
 		return PROCESSING_KEY;
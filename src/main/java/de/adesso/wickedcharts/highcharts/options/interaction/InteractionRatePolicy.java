@@ -0,0 +1,49 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.interaction;
+
+/**
+ * Defines how often the client sends the events of an
+ * {@link InteractionFunction} to the server. Use a policy other than
+ * {@link #NONE} for functions bound to high-frequency events like mouseOver.
+ */
+public enum InteractionRatePolicy {
+
+	/**
+	 * Each event is sent to the server.
+	 */
+	NONE,
+
+	/**
+	 * At most one event is sent per interval. Events occurring within the
+	 * interval replace each other, so the last one of them is sent at the end of
+	 * the interval.
+	 */
+	THROTTLE,
+
+	/**
+	 * An event is only sent when no further event occurred for the length of
+	 * the interval.
+	 */
+	DEBOUNCE,
+
+	/**
+	 * Events are sent through a dedicated channel that processes one request at
+	 * a time. While a request is running, only the latest of the events
+	 * occurring in the meantime is sent afterwards, the others are dropped.
+	 */
+	LATEST_WINS
+
+}
@@ -0,0 +1,100 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.interaction;
+
+import java.io.Serializable;
+
+/**
+ * A thread safe token bucket for limiting the rate of events. The bucket holds
+ * up to a given number of tokens and is refilled at a constant rate. Each
+ * event takes a token, events finding the bucket empty are excess events.
+ */
+public class TokenBucket implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+	private final int capacity;
+
+	private final double tokensPerSecond;
+
+	private double tokens;
+
+	private long lastRefill;
+
+	/**
+	 * Constructs a full bucket.
+	 *
+	 * @param capacity
+	 *          the maximum number of tokens, i.e. the number of events allowed
+	 *          in a burst.
+	 * @param tokensPerSecond
+	 *          the number of tokens added per second, i.e. the number of events
+	 *          allowed per second in the long run.
+	 */
+	public TokenBucket(final int capacity, final double tokensPerSecond) {
+		this(capacity, tokensPerSecond, System.nanoTime());
+	}
+
+	TokenBucket(final int capacity, final double tokensPerSecond, final long now) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive!");
+		}
+		if (!(tokensPerSecond > 0)) {
+			throw new IllegalArgumentException("tokensPerSecond must be positive!");
+		}
+		this.capacity = capacity;
+		this.tokensPerSecond = tokensPerSecond;
+		this.tokens = capacity;
+		this.lastRefill = now;
+	}
+
+	/**
+	 * Takes a token from the bucket, if there is one.
+	 *
+	 * @return 0, if a token has been taken, otherwise the number of milliseconds
+	 *         until the next token is available.
+	 */
+	public long tryAcquire() {
+		return tryAcquire(System.nanoTime());
+	}
+
+	synchronized long tryAcquire(final long now) {
+		refill(now);
+		if (this.tokens >= 1) {
+			this.tokens -= 1;
+			return 0;
+		}
+		return Math.max(1, (long) Math.ceil((1 - this.tokens) / this.tokensPerSecond * 1000));
+	}
+
+	private void refill(final long now) {
+		// the bucket may have been deserialized in another JVM with another
+		// time origin
+		long elapsed = Math.max(0, now - this.lastRefill);
+		this.tokens = Math.min(this.capacity, this.tokens + elapsed / NANOS_PER_SECOND * this.tokensPerSecond);
+		this.lastRefill = now;
+	}
+
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	public double getTokensPerSecond() {
+		return this.tokensPerSecond;
+	}
+
+}
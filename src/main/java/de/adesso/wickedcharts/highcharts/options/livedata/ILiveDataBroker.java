@@ -0,0 +1,72 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import java.util.function.Consumer;
+
+/**
+ * Service provider interface for a publish/subscribe system distributing live
+ * data points between the nodes of a cluster. With a broker, a
+ * {@link LiveDataFeed} is computed by one node only, and every node serves the
+ * points to its own sessions.
+ *
+ * The node computing a feed starts it with
+ * {@link LiveDataFeed#start(String, int, ILiveDataProducer, ILiveDataBroker)},
+ * which publishes the points to the broker instead of the local channel.
+ * Every node, including the publishing one, connects its local
+ * {@link LiveDataChannel} to the broker:
+ *
+ * <pre>
+ * LiveDataChannel.get(&quot;throughput&quot;).connect(broker);
+ * </pre>
+ *
+ * Series bound to the channel via {@link LiveDataSeries#setChannel(String)}
+ * or showing it via {@link LiveDataFeedSeries} are then updated on every
+ * node.
+ *
+ * @see InMemoryLiveDataBroker
+ * @see SocketLiveDataBroker
+ */
+public interface ILiveDataBroker {
+
+	/**
+	 * Publishes a point to all subscribers of the given topic on all nodes.
+	 *
+	 * @param topic
+	 *          the topic, usually the name of a {@link LiveDataChannel}.
+	 * @param point
+	 *          the point to publish.
+	 */
+	void publish(String topic, Point point);
+
+	/**
+	 * Subscribes to the points published to the given topic from now on. The
+	 * listener is called in a thread of the broker, so it should return
+	 * quickly.
+	 *
+	 * @param topic
+	 *          the topic.
+	 * @param listener
+	 *          the listener receiving the points.
+	 */
+	void subscribe(String topic, Consumer<Point> listener);
+
+	/**
+	 * Removes a listener previously subscribed to the given topic.
+	 */
+	void unsubscribe(String topic, Consumer<Point> listener);
+
+}
@@ -0,0 +1,32 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+
+/**
+ * Produces the points of a {@link LiveDataFeed}.
+ */
+public interface ILiveDataProducer {
+
+	/**
+	 * Called once per tick of the feed, no matter how many clients show the
+	 * feed.
+	 *
+	 * @return the new point or null, if there is no new point.
+	 */
+	Point produce();
+
+}
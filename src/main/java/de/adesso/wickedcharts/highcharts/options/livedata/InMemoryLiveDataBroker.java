@@ -0,0 +1,62 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * An {@link ILiveDataBroker} distributing points within the JVM only. The
+ * listeners are called in the thread of the publisher. Use this broker for a
+ * single node, or to test code written against the broker interface.
+ */
+public class InMemoryLiveDataBroker implements ILiveDataBroker {
+
+	private final ConcurrentMap<String, List<Consumer<Point>>> listeners = new ConcurrentHashMap<String, List<Consumer<Point>>>();
+
+	@Override
+	public void publish(final String topic, final Point point) {
+		List<Consumer<Point>> topicListeners = this.listeners.get(topic);
+		if (topicListeners == null) {
+			return;
+		}
+		for (Consumer<Point> listener : topicListeners) {
+			try {
+				listener.accept(point);
+			} catch (RuntimeException e) {
+				// a failing listener must not keep the others from receiving the point
+				Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+			}
+		}
+	}
+
+	@Override
+	public void subscribe(final String topic, final Consumer<Point> listener) {
+		this.listeners.computeIfAbsent(topic, key -> new CopyOnWriteArrayList<Consumer<Point>>()).add(listener);
+	}
+
+	@Override
+	public void unsubscribe(final String topic, final Consumer<Point> listener) {
+		List<Consumer<Point>> topicListeners = this.listeners.get(topic);
+		if (topicListeners != null) {
+			topicListeners.remove(listener);
+		}
+	}
+
+}
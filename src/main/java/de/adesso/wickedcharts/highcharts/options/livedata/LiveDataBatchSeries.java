@@ -0,0 +1,56 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import java.util.List;
+
+/**
+ * Base class for {@link LiveDataSeries} that may produce more than one point
+ * per update. Subclasses implement {@link #updatePoints(LiveDataUpdateEvent)}
+ * instead of {@link #update(LiveDataUpdateEvent)}.
+ */
+public abstract class LiveDataBatchSeries extends LiveDataSeries {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param parentOptions
+	 *          the {@link Options} to which this series are added.
+	 * @param updateIntervalMs
+	 *          the interval in which to update the series in milliseconds.
+	 */
+	public LiveDataBatchSeries(final Options parentOptions, final int updateIntervalMs) {
+		super(parentOptions, updateIntervalMs);
+	}
+
+	@Override
+	public abstract List<Point> updatePoints(final LiveDataUpdateEvent event);
+
+	/**
+	 * Returns the last of the points returned by
+	 * {@link #updatePoints(LiveDataUpdateEvent)}. The other points are
+	 * dropped, so callers should use updatePoints() instead.
+	 */
+	@Override
+	public Point update(final LiveDataUpdateEvent event) {
+		List<Point> points = updatePoints(event);
+		return points.isEmpty() ? null : points.get(points.size() - 1);
+	}
+
+}
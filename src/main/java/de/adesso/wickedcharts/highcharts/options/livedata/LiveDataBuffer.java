@@ -0,0 +1,173 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A bounded buffer of sequence-numbered points. Each appended point gets the
+ * next sequence number, and the most recent points are kept, so that a client
+ * that has seen the points up to a certain sequence number can catch up on
+ * all points appended since then.
+ *
+ * This class is not thread-safe.
+ */
+public class LiveDataBuffer implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Point[] points;
+
+	/**
+	 * The number of points appended so far, i.e. the sequence number of the
+	 * next point.
+	 */
+	private long sequence;
+
+	/**
+	 * The sequence number of the oldest point this buffer has ever kept.
+	 */
+	private long start;
+
+	/**
+	 * @param capacity
+	 *          the number of recent points to keep.
+	 */
+	public LiveDataBuffer(final int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive!");
+		}
+		this.points = new Point[capacity];
+	}
+
+	/**
+	 * Constructs a buffer with a different capacity that continues the
+	 * numbering of the given buffer and keeps as many of its recent points as
+	 * fit, so that clients of the given buffer can catch up on this one.
+	 *
+	 * @param buffer
+	 *          the buffer to continue.
+	 * @param capacity
+	 *          the number of recent points to keep.
+	 */
+	public LiveDataBuffer(final LiveDataBuffer buffer, final int capacity) {
+		this(capacity);
+		this.sequence = buffer.sequence;
+		this.start = Math.max(buffer.getOldest(), this.sequence - capacity);
+		for (long i = this.start; i < this.sequence; i++) {
+			this.points[(int) (i % capacity)] = buffer.points[(int) (i % buffer.points.length)];
+		}
+	}
+
+	public int getCapacity() {
+		return this.points.length;
+	}
+
+	/**
+	 * @return the number of points appended so far.
+	 */
+	public long getSequence() {
+		return this.sequence;
+	}
+
+	public void append(final Point point) {
+		this.points[(int) (this.sequence % this.points.length)] = point;
+		this.sequence++;
+	}
+
+	public void append(final List<Point> points) {
+		for (Point point : points) {
+			append(point);
+		}
+	}
+
+	/**
+	 * @return the sequence number of the oldest point still kept.
+	 */
+	private long getOldest() {
+		return Math.max(this.sequence - this.points.length, this.start);
+	}
+
+	/**
+	 * Returns the points appended after the given sequence number. If the
+	 * client is lagging behind more than the capacity of this buffer, only the
+	 * points still in the buffer are returned and the update is marked as
+	 * incomplete. If the client is ahead of this buffer, it has seen a previous
+	 * incarnation of the buffer, e.g. before a restart, and the update is
+	 * marked as incomplete as well.
+	 *
+	 * @param lastSequence
+	 *          the sequence number up to which the client has seen the points,
+	 *          i.e. the value of {@link #getSequence()} at the time of the last
+	 *          update.
+	 */
+	public Update getUpdateSince(final long lastSequence) {
+		if (lastSequence >= this.sequence) {
+			// no new points or the client has seen a previous incarnation of the
+			// buffer, e.g. before a restart
+			return new Update(this.sequence, Collections.<Point> emptyList(), lastSequence == this.sequence);
+		}
+		long oldest = getOldest();
+		long from = Math.max(Math.max(lastSequence, 0), oldest);
+		List<Point> result = new ArrayList<Point>((int) (this.sequence - from));
+		for (long i = from; i < this.sequence; i++) {
+			result.add(this.points[(int) (i % this.points.length)]);
+		}
+		return new Update(this.sequence, result, lastSequence >= oldest);
+	}
+
+	/**
+	 * The points appended to a buffer since a given sequence number.
+	 */
+	public static class Update {
+
+		private final long sequence;
+
+		private final List<Point> points;
+
+		private final boolean complete;
+
+		public Update(final long sequence, final List<Point> points, final boolean complete) {
+			this.sequence = sequence;
+			this.points = points;
+			this.complete = complete;
+		}
+
+		/**
+		 * @return the sequence number of the buffer after the points of this
+		 *         update.
+		 */
+		public long getSequence() {
+			return this.sequence;
+		}
+
+		public List<Point> getPoints() {
+			return this.points;
+		}
+
+		/**
+		 * @return false, if points have been dropped from the buffer before the
+		 *         client could retrieve them.
+		 */
+		public boolean isComplete() {
+			return this.complete;
+		}
+	}
+
+}
@@ -0,0 +1,224 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * A named channel to which server-side producers publish the points of a
+ * {@link LiveDataSeries} as they arrive. A series bound to a channel via
+ * {@link LiveDataSeries#setChannel(String)} is updated by push instead of
+ * being polled via {@link LiveDataSeries#update(LiveDataUpdateEvent)}.
+ *
+ * Each published point gets a sequence number. A channel keeps a bounded
+ * {@link LiveDataBuffer} of the most recent points, so that a client that has
+ * seen the points up to a certain sequence number can retrieve all points
+ * published since then. Channels are thread-safe and shared by all sessions of the
+ * JVM. They stay registered until they are removed via {@link #remove(String)}
+ * or {@link #removeAll()}.
+ */
+public class LiveDataChannel {
+
+	/**
+	 * The default number of points a channel keeps for clients that are
+	 * lagging behind.
+	 */
+	public static final int DEFAULT_CAPACITY = 1000;
+
+	private static final ConcurrentMap<String, LiveDataChannel> CHANNELS = new ConcurrentHashMap<String, LiveDataChannel>();
+
+	private final String name;
+
+	private final LiveDataBuffer buffer;
+
+	private final List<Runnable> listeners = new CopyOnWriteArrayList<Runnable>();
+
+	private volatile LiveDataHistory history;
+
+	private final Consumer<Point> brokerListener = this::publish;
+
+	private ILiveDataBroker broker;
+
+	/**
+	 * Constructs a channel that is not registered under its name. Use
+	 * {@link #get(String)} to retrieve a shared channel.
+	 *
+	 * @param name
+	 *          the name of the channel.
+	 * @param capacity
+	 *          the number of recent points the channel keeps.
+	 */
+	public LiveDataChannel(final String name, final int capacity) {
+		this.name = name;
+		this.buffer = new LiveDataBuffer(capacity);
+	}
+
+	/**
+	 * Returns the channel with the given name. The channel is created with
+	 * {@link #DEFAULT_CAPACITY} if it does not exist yet.
+	 */
+	public static LiveDataChannel get(final String name) {
+		return CHANNELS.computeIfAbsent(name, key -> new LiveDataChannel(key, DEFAULT_CAPACITY));
+	}
+
+	/**
+	 * Returns the channel with the given name.
+	 *
+	 * @return the channel or null, if no channel with the given name exists.
+	 */
+	public static LiveDataChannel find(final String name) {
+		return CHANNELS.get(name);
+	}
+
+	/**
+	 * Registers the given channel under its name, e.g. to use a custom
+	 * capacity. Replaces a channel previously registered under the same name.
+	 */
+	public static void register(final LiveDataChannel channel) {
+		CHANNELS.put(channel.getName(), channel);
+	}
+
+	/**
+	 * Removes the channel with the given name and disconnects it from its
+	 * broker. Clients still showing the channel no longer receive points.
+	 *
+	 * @return the removed channel or null, if no channel with the given name
+	 *         exists.
+	 */
+	public static LiveDataChannel remove(final String name) {
+		LiveDataChannel channel = CHANNELS.remove(name);
+		if (channel != null) {
+			channel.disconnect();
+		}
+		return channel;
+	}
+
+	/**
+	 * Removes all channels, e.g. when the application that created them is shut
+	 * down. Channels are not removed automatically, since they are shared by all
+	 * applications of the JVM.
+	 */
+	public static void removeAll() {
+		for (String name : CHANNELS.keySet()) {
+			remove(name);
+		}
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public int getCapacity() {
+		return this.buffer.getCapacity();
+	}
+
+	/**
+	 * @return the number of points published to this channel so far.
+	 */
+	public synchronized long getSequence() {
+		return this.buffer.getSequence();
+	}
+
+	/**
+	 * Sets the window of recent points that is rendered along with the static
+	 * data of all series showing this channel.
+	 *
+	 * @param history
+	 *          the window or null to render the static data only.
+	 */
+	public void setHistory(final LiveDataHistory history) {
+		this.history = history;
+	}
+
+	public LiveDataHistory getHistory() {
+		return this.history;
+	}
+
+	/**
+	 * Subscribes this channel to the topic of the same name of the given
+	 * broker, so that points published to the broker on any node are published
+	 * to this channel. Replaces a previously connected broker.
+	 *
+	 * @param broker
+	 *          the broker.
+	 */
+	public synchronized void connect(final ILiveDataBroker broker) {
+		disconnect();
+		this.broker = broker;
+		broker.subscribe(this.name, this.brokerListener);
+	}
+
+	/**
+	 * Unsubscribes this channel from its broker, if any.
+	 */
+	public synchronized void disconnect() {
+		if (this.broker != null) {
+			this.broker.unsubscribe(this.name, this.brokerListener);
+			this.broker = null;
+		}
+	}
+
+	/**
+	 * Publishes the given points to all clients of this channel.
+	 */
+	public void publish(final Point... points) {
+		synchronized (this) {
+			LiveDataHistory currentHistory = this.history;
+			long now = System.currentTimeMillis();
+			for (Point point : points) {
+				this.buffer.append(point);
+				if (currentHistory != null) {
+					currentHistory.add(point, now);
+				}
+			}
+		}
+		for (Runnable listener : this.listeners) {
+			listener.run();
+		}
+	}
+
+	/**
+	 * Returns the points published after the given sequence number. If the
+	 * client is lagging behind more than the capacity of this channel, only
+	 * the points still in the buffer are returned.
+	 *
+	 * @param lastSequence
+	 *          the sequence number up to which the client has seen the points,
+	 *          i.e. the value of {@link #getSequence()} at the time of the last
+	 *          update.
+	 */
+	public synchronized LiveDataBuffer.Update getUpdateSince(final long lastSequence) {
+		return this.buffer.getUpdateSince(lastSequence);
+	}
+
+	/**
+	 * Adds a listener that is called each time points are published to this
+	 * channel. The listener is called in the thread of the producer, so it
+	 * should return quickly.
+	 */
+	public void addListener(final Runnable listener) {
+		this.listeners.add(listener);
+	}
+
+	public void removeListener(final Runnable listener) {
+		this.listeners.remove(listener);
+	}
+
+}
@@ -0,0 +1,67 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+/**
+ * Defines how a {@link LiveDataFlowSubscriber} handles points arriving faster
+ * than the series is updated.
+ */
+public enum LiveDataConflationPolicy {
+
+	/**
+	 * All points are buffered. The subscriber requests only as many points
+	 * from the publisher as fit into its buffer, so a fast publisher is slowed
+	 * down instead of points being lost.
+	 */
+	BUFFER,
+
+	/**
+	 * All points are buffered. If the buffer is full, the oldest point is
+	 * dropped to make room for the new one.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * Only the latest point since the last update is kept.
+	 */
+	LATEST,
+
+	/**
+	 * The points since the last update are conflated into one point with the
+	 * x value of the latest point and the minimum y value.
+	 */
+	MIN,
+
+	/**
+	 * The points since the last update are conflated into one point with the
+	 * x value of the latest point and the maximum y value.
+	 */
+	MAX,
+
+	/**
+	 * The points since the last update are conflated into one point with the
+	 * x value of the latest point and the average y value.
+	 */
+	AVERAGE;
+
+	/**
+	 * @return true, if the points between two updates are conflated into a
+	 *         single point.
+	 */
+	public boolean isConflating() {
+		return this != BUFFER && this != DROP_OLDEST;
+	}
+
+}
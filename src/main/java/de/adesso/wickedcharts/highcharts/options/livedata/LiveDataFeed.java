@@ -0,0 +1,235 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A named live data feed shared by all sessions of the JVM. The feed calls its
+ * {@link ILiveDataProducer} once per tick on a scheduled executor and
+ * publishes the point to the {@link LiveDataChannel} of the same name, which
+ * numbers and buffers the points.
+ *
+ * Charts show a feed either by polling it with a {@link LiveDataFeedSeries}
+ * or by binding a series to the channel of the feed via
+ * {@link LiveDataSeries#setChannel(String)}. Either way, each point is
+ * produced only once, no matter how many clients show the feed.
+ *
+ * Usage:
+ *
+ * <pre>
+ * LiveDataFeed.start(&quot;throughput&quot;, 1000, () -&gt; new Point(queryThroughput()));
+ * </pre>
+ *
+ * In a cluster, the feed can be started on one node only and its points
+ * distributed to the other nodes via an {@link ILiveDataBroker}.
+ *
+ * Feeds run until they are stopped via {@link #stop(String)} or
+ * {@link #stopAll()}. Since feeds are shared by all applications of the JVM,
+ * they are not stopped automatically; the application starting them stops
+ * them when it is shut down.
+ */
+public class LiveDataFeed {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LiveDataFeed.class);
+
+	private static final ConcurrentMap<String, LiveDataFeed> FEEDS = new ConcurrentHashMap<String, LiveDataFeed>();
+
+	private static volatile ScheduledExecutorService executor;
+
+	private static volatile boolean defaultExecutor;
+
+	private final String name;
+
+	private final int intervalMs;
+
+	private final ILiveDataProducer producer;
+
+	private final LiveDataChannel channel;
+
+	private final ILiveDataBroker broker;
+
+	private ScheduledFuture<?> task;
+
+	private LiveDataFeed(final String name, final int intervalMs, final ILiveDataProducer producer,
+			final ILiveDataBroker broker) {
+		this.name = name;
+		this.intervalMs = intervalMs;
+		this.producer = producer;
+		this.channel = LiveDataChannel.get(name);
+		this.broker = broker;
+	}
+
+	/**
+	 * Starts a feed. The first point is produced after one interval. A feed
+	 * previously started under the same name is stopped.
+	 *
+	 * @param name
+	 *          the name of the feed and its {@link LiveDataChannel}.
+	 * @param intervalMs
+	 *          the interval in which to produce points in milliseconds.
+	 * @param producer
+	 *          the producer of the points.
+	 * @return the started feed.
+	 */
+	public static LiveDataFeed start(final String name, final int intervalMs, final ILiveDataProducer producer) {
+		return start(name, intervalMs, producer, null);
+	}
+
+	/**
+	 * Starts a feed publishing its points to the given broker instead of the
+	 * local channel. The points reach the channels of all nodes connected to
+	 * the broker via {@link LiveDataChannel#connect(ILiveDataBroker)},
+	 * including the channel of this node. Start the feed on one node only.
+	 *
+	 * @param name
+	 *          the name of the feed and the topic of the broker.
+	 * @param intervalMs
+	 *          the interval in which to produce points in milliseconds.
+	 * @param producer
+	 *          the producer of the points.
+	 * @param broker
+	 *          the broker or null to publish to the local channel.
+	 * @return the started feed.
+	 */
+	public static LiveDataFeed start(final String name, final int intervalMs, final ILiveDataProducer producer,
+			final ILiveDataBroker broker) {
+		if (intervalMs <= 0) {
+			throw new IllegalArgumentException("intervalMs must be positive!");
+		}
+		LiveDataFeed feed = new LiveDataFeed(name, intervalMs, producer, broker);
+		LiveDataFeed previous = FEEDS.put(name, feed);
+		if (previous != null) {
+			previous.cancel();
+		}
+		feed.schedule();
+		return feed;
+	}
+
+	/**
+	 * @return the feed with the given name or null, if no such feed has been
+	 *         started.
+	 */
+	public static LiveDataFeed get(final String name) {
+		return FEEDS.get(name);
+	}
+
+	/**
+	 * Stops the feed with the given name. Its channel and the points buffered in
+	 * it are kept.
+	 */
+	public static void stop(final String name) {
+		LiveDataFeed feed = FEEDS.remove(name);
+		if (feed != null) {
+			feed.cancel();
+		}
+	}
+
+	/**
+	 * Stops all feeds and shuts the default executor down. A feed started
+	 * afterwards creates a new default executor. An executor set via
+	 * {@link #setExecutor(ScheduledExecutorService)} is left to the caller.
+	 */
+	public static void stopAll() {
+		for (String name : FEEDS.keySet()) {
+			stop(name);
+		}
+		synchronized (LiveDataFeed.class) {
+			if (executor != null && defaultExecutor) {
+				executor.shutdownNow();
+				executor = null;
+			}
+		}
+	}
+
+	/**
+	 * Sets the executor on which all feeds produce their points. Only feeds
+	 * started afterwards are affected. By default, a pool of two daemon threads
+	 * is used.
+	 */
+	public static synchronized void setExecutor(final ScheduledExecutorService executor) {
+		LiveDataFeed.executor = executor;
+		LiveDataFeed.defaultExecutor = false;
+	}
+
+	private static ScheduledExecutorService getExecutor() {
+		if (executor == null) {
+			synchronized (LiveDataFeed.class) {
+				if (executor == null) {
+					executor = Executors.newScheduledThreadPool(2, runnable -> {
+						Thread thread = new Thread(runnable, "wicked-charts-live-data-feed");
+						thread.setDaemon(true);
+						return thread;
+					});
+					defaultExecutor = true;
+				}
+			}
+		}
+		return executor;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public int getIntervalMs() {
+		return this.intervalMs;
+	}
+
+	public LiveDataChannel getChannel() {
+		return this.channel;
+	}
+
+	/**
+	 * Produces and publishes the point of one tick. Called by the executor.
+	 */
+	void tick() {
+		try {
+			Point point = this.producer.produce();
+			if (point == null) {
+				return;
+			}
+			if (this.broker != null) {
+				this.broker.publish(this.name, point);
+			} else {
+				this.channel.publish(point);
+			}
+		} catch (RuntimeException e) {
+			// an exception would cancel all further ticks of the feed
+			LOGGER.warn("Error trying to produce a point of the live data feed " + this.name + "!", e);
+		}
+	}
+
+	private synchronized void schedule() {
+		this.task = getExecutor().scheduleAtFixedRate(this::tick, this.intervalMs, this.intervalMs, TimeUnit.MILLISECONDS);
+	}
+
+	private synchronized void cancel() {
+		if (this.task != null) {
+			this.task.cancel(false);
+			this.task = null;
+		}
+	}
+
+}
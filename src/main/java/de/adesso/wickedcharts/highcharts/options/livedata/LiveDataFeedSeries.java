@@ -0,0 +1,79 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link LiveDataBatchSeries} showing the points of a shared
+ * {@link LiveDataFeed}. On each update, the series returns the points the
+ * feed has produced since the last update of this series. The points are
+ * produced once by the feed and served to all series showing it.
+ *
+ * The series is polled in the interval of the feed by default. If the channel
+ * of the feed has a {@link LiveDataHistory}, the window is rendered along with
+ * the data of the series.
+ */
+public class LiveDataFeedSeries extends LiveDataBatchSeries {
+
+	private static final long serialVersionUID = 1L;
+
+	@JsonIgnore
+	private final String feedName;
+
+	@JsonIgnore
+	private long lastSequence;
+
+	/**
+	 * Constructs a series showing the points the given feed produces from now
+	 * on.
+	 *
+	 * @param parentOptions
+	 *          the {@link Options} to which this series are added.
+	 * @param feed
+	 *          the feed to show.
+	 */
+	public LiveDataFeedSeries(final Options parentOptions, final LiveDataFeed feed) {
+		super(parentOptions, feed.getIntervalMs());
+		this.feedName = feed.getName();
+		this.lastSequence = feed.getChannel().getSequence();
+	}
+
+	public String getFeedName() {
+		return this.feedName;
+	}
+
+	@Override
+	protected LiveDataHistory getSharedHistory() {
+		LiveDataChannel channel = LiveDataChannel.find(this.feedName);
+		return channel == null ? null : channel.getHistory();
+	}
+
+	@Override
+	public List<Point> updatePoints(final LiveDataUpdateEvent event) {
+		LiveDataChannel channel = LiveDataChannel.find(this.feedName);
+		if (channel == null) {
+			return Collections.emptyList();
+		}
+		LiveDataBuffer.Update update = channel.getUpdateSince(this.lastSequence);
+		this.lastSequence = update.getSequence();
+		return update.getPoints();
+	}
+
+}
@@ -0,0 +1,127 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link LiveDataBatchSeries} showing the points of a {@link Flow.Publisher}. The
+ * series subscribes to the publisher with a {@link LiveDataFlowSubscriber}
+ * and returns the points collected since the last update on each update.
+ *
+ * The subscription is not serialized along with the series. If the series is
+ * deserialized, e.g. when its page is restored from the page store, it does
+ * not receive new points anymore. Call {@link #cancel()} when the series is
+ * not shown anymore. Otherwise, the subscription is cancelled when its
+ * points have not been drained for
+ * {@link LiveDataFlowSubscriber#DEFAULT_ABANDON_TIMEOUT_MS}, and renewed if the
+ * series is updated again.
+ */
+public class LiveDataFlowSeries extends LiveDataBatchSeries {
+
+	private static final long serialVersionUID = 1L;
+
+	@JsonIgnore
+	private final LiveDataConflationPolicy policy;
+
+	@JsonIgnore
+	private final int capacity;
+
+	@JsonIgnore
+	private transient Flow.Publisher<Point> publisher;
+
+	@JsonIgnore
+	private transient LiveDataFlowSubscriber subscriber;
+
+	/**
+	 * Constructs a series buffering all points of the given publisher, see
+	 * {@link LiveDataConflationPolicy#BUFFER}.
+	 *
+	 * @param parentOptions
+	 *          the {@link Options} to which this series are added.
+	 * @param updateIntervalMs
+	 *          the interval in which to update the series in milliseconds.
+	 * @param publisher
+	 *          the publisher of the points.
+	 */
+	public LiveDataFlowSeries(final Options parentOptions, final int updateIntervalMs,
+			final Flow.Publisher<Point> publisher) {
+		this(parentOptions, updateIntervalMs, publisher, LiveDataConflationPolicy.BUFFER,
+				LiveDataFlowSubscriber.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a series showing the points of the given publisher.
+	 *
+	 * @param parentOptions
+	 *          the {@link Options} to which this series are added.
+	 * @param updateIntervalMs
+	 *          the interval in which to update the series in milliseconds.
+	 * @param publisher
+	 *          the publisher of the points.
+	 * @param policy
+	 *          how to handle points published faster than the series is
+	 *          updated.
+	 * @param capacity
+	 *          the maximum number of points buffered between two updates.
+	 */
+	public LiveDataFlowSeries(final Options parentOptions, final int updateIntervalMs,
+			final Flow.Publisher<Point> publisher, final LiveDataConflationPolicy policy, final int capacity) {
+		super(parentOptions, updateIntervalMs);
+		this.publisher = publisher;
+		this.policy = policy;
+		this.capacity = capacity;
+		subscribe();
+	}
+
+	/**
+	 * Cancels the subscription to the publisher.
+	 */
+	public void cancel() {
+		if (this.subscriber != null) {
+			this.subscriber.cancel();
+		}
+		this.publisher = null;
+	}
+
+	@JsonIgnore
+	public LiveDataConflationPolicy getPolicy() {
+		return this.policy;
+	}
+
+	@Override
+	public List<Point> updatePoints(final LiveDataUpdateEvent event) {
+		if (this.subscriber == null) {
+			return Collections.emptyList();
+		}
+		List<Point> points = this.subscriber.drain();
+		if (this.subscriber.isAbandoned() && this.publisher != null) {
+			subscribe();
+		}
+		return points;
+	}
+
+	private void subscribe() {
+		this.subscriber = new LiveDataFlowSubscriber(this.policy, this.capacity,
+				LiveDataFlowSubscriber.DEFAULT_ABANDON_TIMEOUT_MS);
+		this.publisher.subscribe(this.subscriber);
+	}
+
+}
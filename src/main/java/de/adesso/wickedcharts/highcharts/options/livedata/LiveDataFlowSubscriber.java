@@ -0,0 +1,316 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link Flow.Subscriber} collecting the points of a publisher until they
+ * are drained by a {@link LiveDataFlowSeries}. The points are kept in a bounded
+ * lock-free buffer or, depending on the {@link LiveDataConflationPolicy},
+ * conflated into a single point, so the memory used does not depend on the
+ * rate of the publisher.
+ *
+ * The subscriber is thread-safe. It supports one draining thread at a time,
+ * which is guaranteed by the page lock when used by a series.
+ */
+public class LiveDataFlowSubscriber implements Flow.Subscriber<Point> {
+
+	/**
+	 * The default number of points buffered.
+	 */
+	public static final int DEFAULT_CAPACITY = 1000;
+
+	/**
+	 * The default time after which the subscription is cancelled if the points
+	 * are not drained, e.g. because the page showing them has been closed.
+	 */
+	public static final long DEFAULT_ABANDON_TIMEOUT_MS = 10 * 60 * 1000;
+
+	private final LiveDataConflationPolicy policy;
+
+	private final int capacity;
+
+	private final long abandonTimeoutMs;
+
+	private final AtomicReferenceArray<Point> slots;
+
+	/**
+	 * The number of points read from the buffer, incremented by the consumer
+	 * and, when dropping the oldest point, by the producer.
+	 */
+	private final AtomicLong head = new AtomicLong();
+
+	/**
+	 * The number of points written to the buffer, incremented by the producer
+	 * only.
+	 */
+	private final AtomicLong tail = new AtomicLong();
+
+	private final AtomicReference<Window> window = new AtomicReference<>();
+
+	private final AtomicLong droppedPoints = new AtomicLong();
+
+	private volatile Flow.Subscription subscription;
+
+	private volatile boolean cancelled;
+
+	private volatile boolean abandoned;
+
+	private volatile boolean completed;
+
+	private volatile Throwable error;
+
+	private volatile long lastDrainTime = System.currentTimeMillis();
+
+	public LiveDataFlowSubscriber(final LiveDataConflationPolicy policy) {
+		this(policy, DEFAULT_CAPACITY, DEFAULT_ABANDON_TIMEOUT_MS);
+	}
+
+	/**
+	 * Constructs a new subscriber.
+	 *
+	 * @param policy
+	 *          how to handle points arriving faster than they are drained.
+	 * @param capacity
+	 *          the maximum number of points buffered. Ignored by conflating
+	 *          policies.
+	 * @param abandonTimeoutMs
+	 *          the time after which the subscription is cancelled if the points
+	 *          are not drained.
+	 */
+	public LiveDataFlowSubscriber(final LiveDataConflationPolicy policy, final int capacity,
+			final long abandonTimeoutMs) {
+		if (policy == null) {
+			throw new IllegalArgumentException("policy must not be null!");
+		}
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive!");
+		}
+		this.policy = policy;
+		this.capacity = capacity;
+		this.abandonTimeoutMs = abandonTimeoutMs;
+		this.slots = new AtomicReferenceArray<Point>(policy.isConflating() ? 1 : capacity);
+	}
+
+	@Override
+	public void onSubscribe(final Flow.Subscription subscription) {
+		if (this.subscription != null || this.cancelled) {
+			subscription.cancel();
+			return;
+		}
+		this.subscription = subscription;
+		subscription.request(this.policy == LiveDataConflationPolicy.BUFFER ? this.capacity : Long.MAX_VALUE);
+	}
+
+	@Override
+	public void onNext(final Point point) {
+		if (point == null) {
+			throw new NullPointerException("point must not be null!");
+		}
+		if (this.cancelled) {
+			return;
+		}
+		if (System.currentTimeMillis() - this.lastDrainTime > this.abandonTimeoutMs) {
+			this.abandoned = true;
+			cancel();
+			return;
+		}
+		if (this.policy.isConflating()) {
+			Window current;
+			do {
+				current = this.window.get();
+			} while (!this.window.compareAndSet(current, Window.add(current, point)));
+		} else {
+			offer(point);
+		}
+	}
+
+	@Override
+	public void onError(final Throwable throwable) {
+		this.error = throwable;
+		this.completed = true;
+	}
+
+	@Override
+	public void onComplete() {
+		this.completed = true;
+	}
+
+	/**
+	 * Removes the points collected since the last call.
+	 *
+	 * @return the points, or the conflated point, in the order they have been
+	 *         published.
+	 */
+	public List<Point> drain() {
+		this.lastDrainTime = System.currentTimeMillis();
+		List<Point> points = new ArrayList<Point>();
+		if (this.policy.isConflating()) {
+			Window current = this.window.getAndSet(null);
+			if (current != null) {
+				points.add(current.toPoint(this.policy));
+			}
+			return points;
+		}
+		Point point;
+		while ((point = poll()) != null) {
+			points.add(point);
+		}
+		Flow.Subscription currentSubscription = this.subscription;
+		if (this.policy == LiveDataConflationPolicy.BUFFER && !points.isEmpty() && currentSubscription != null
+				&& !this.cancelled) {
+			currentSubscription.request(points.size());
+		}
+		return points;
+	}
+
+	/**
+	 * Cancels the subscription. Points already collected can still be drained.
+	 */
+	public void cancel() {
+		this.cancelled = true;
+		Flow.Subscription currentSubscription = this.subscription;
+		if (currentSubscription != null) {
+			currentSubscription.cancel();
+		}
+	}
+
+	public boolean isCancelled() {
+		return this.cancelled;
+	}
+
+	/**
+	 * @return true, if the subscription has been cancelled because the points
+	 *         have not been drained for too long.
+	 */
+	public boolean isAbandoned() {
+		return this.abandoned;
+	}
+
+	/**
+	 * @return true, if the publisher has completed, either regularly or with an
+	 *         error.
+	 */
+	public boolean isCompleted() {
+		return this.completed;
+	}
+
+	/**
+	 * @return the error the publisher has completed with or null.
+	 */
+	public Throwable getError() {
+		return this.error;
+	}
+
+	/**
+	 * @return the number of points dropped because the buffer was full.
+	 */
+	public long getDroppedPoints() {
+		return this.droppedPoints.get();
+	}
+
+	public LiveDataConflationPolicy getPolicy() {
+		return this.policy;
+	}
+
+	private void offer(final Point point) {
+		// onNext is never called concurrently, so there is only one producer
+		long currentTail = this.tail.get();
+		long currentHead = this.head.get();
+		if (currentTail - currentHead >= this.capacity) {
+			// if this fails, the consumer has just made room
+			if (this.head.compareAndSet(currentHead, currentHead + 1)) {
+				this.droppedPoints.incrementAndGet();
+			}
+		}
+		this.slots.set((int) (currentTail % this.capacity), point);
+		this.tail.set(currentTail + 1);
+	}
+
+	private Point poll() {
+		while (true) {
+			long currentHead = this.head.get();
+			if (currentHead >= this.tail.get()) {
+				return null;
+			}
+			Point point = this.slots.get((int) (currentHead % this.capacity));
+			// fails if the producer has dropped the point in the meantime
+			if (this.head.compareAndSet(currentHead, currentHead + 1)) {
+				return point;
+			}
+		}
+	}
+
+	/**
+	 * Immutable aggregate of the points published between two updates.
+	 */
+	private static final class Window {
+
+		private final Point latest;
+
+		private final int count;
+
+		private final double sum;
+
+		private final double min;
+
+		private final double max;
+
+		private Window(final Point latest, final int count, final double sum, final double min, final double max) {
+			this.latest = latest;
+			this.count = count;
+			this.sum = sum;
+			this.min = min;
+			this.max = max;
+		}
+
+		static Window add(final Window window, final Point point) {
+			Number y = point.getY();
+			if (window == null) {
+				return y == null ? new Window(point, 0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY)
+						: new Window(point, 1, y.doubleValue(), y.doubleValue(), y.doubleValue());
+			}
+			if (y == null) {
+				return new Window(point, window.count, window.sum, window.min, window.max);
+			}
+			double value = y.doubleValue();
+			return new Window(point, window.count + 1, window.sum + value, Math.min(window.min, value),
+					Math.max(window.max, value));
+		}
+
+		Point toPoint(final LiveDataConflationPolicy policy) {
+			if (policy == LiveDataConflationPolicy.LATEST || this.count == 0) {
+				return this.latest;
+			}
+			double value;
+			if (policy == LiveDataConflationPolicy.MIN) {
+				value = this.min;
+			} else if (policy == LiveDataConflationPolicy.MAX) {
+				value = this.max;
+			} else {
+				value = this.sum / this.count;
+			}
+			return new Point(this.latest.getX(), value);
+		}
+	}
+
+}
@@ -0,0 +1,216 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A bounded window of the most recent points of a {@link LiveDataSeries}: the
+ * last N points, optionally restricted to the points of the last T
+ * milliseconds. The window is rendered along with the static data of the
+ * series, so that a refreshed page shows the recent live data immediately.
+ *
+ * The x and y values of the points are kept in primitive ring buffers, along
+ * with their id and name, so that the window can be applied in
+ * {@link LiveDataUpdateMode#UPDATE_BY_ID} mode. Other attributes of the points
+ * are not kept. Points without x value are rendered
+ * without x value, so the live series should use explicit x values (e.g.
+ * timestamps) for the window to show up at the right position.
+ *
+ * A window is either owned by a single series (see
+ * {@link LiveDataSeries#setHistory(LiveDataHistory)}) or shared by all series
+ * showing a {@link LiveDataChannel} (see
+ * {@link LiveDataChannel#setHistory(LiveDataHistory)}). Instances are
+ * thread-safe.
+ */
+public class LiveDataHistory implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Doubles can represent all integers up to this value exactly.
+	 */
+	private static final double MAX_EXACT_INTEGER = 9007199254740992d;
+
+	private final long maxAgeMs;
+
+	private final double[] x;
+
+	private final double[] y;
+
+	private final long[] times;
+
+	private final String[] ids;
+
+	private final String[] names;
+
+	private int start;
+
+	private int size;
+
+	/**
+	 * Constructs a window of the last points.
+	 *
+	 * @param maxPoints
+	 *          the maximum number of points in the window.
+	 */
+	public LiveDataHistory(final int maxPoints) {
+		this(maxPoints, 0);
+	}
+
+	/**
+	 * Constructs a window of the last points of a period of time.
+	 *
+	 * @param maxPoints
+	 *          the maximum number of points in the window.
+	 * @param maxAgeMs
+	 *          the maximum time in milliseconds a point stays in the window
+	 *          after it has been added, or 0 to keep points regardless of their
+	 *          age.
+	 */
+	public LiveDataHistory(final int maxPoints, final long maxAgeMs) {
+		if (maxPoints <= 0) {
+			throw new IllegalArgumentException("maxPoints must be positive!");
+		}
+		if (maxAgeMs < 0) {
+			throw new IllegalArgumentException("maxAgeMs must not be negative!");
+		}
+		this.maxAgeMs = maxAgeMs;
+		this.x = new double[maxPoints];
+		this.y = new double[maxPoints];
+		this.times = new long[maxPoints];
+		this.ids = new String[maxPoints];
+		this.names = new String[maxPoints];
+	}
+
+	public int getMaxPoints() {
+		return this.x.length;
+	}
+
+	public long getMaxAgeMs() {
+		return this.maxAgeMs;
+	}
+
+	public void add(final List<Point> points) {
+		long now = System.currentTimeMillis();
+		for (Point point : points) {
+			add(point, now);
+		}
+	}
+
+	public void add(final Point point) {
+		add(point, System.currentTimeMillis());
+	}
+
+	/**
+	 * Adds a point to the window. If the window is full, the oldest point is
+	 * removed.
+	 *
+	 * @param point
+	 *          the point to add.
+	 * @param time
+	 *          the time at which the point has been added in milliseconds.
+	 */
+	public synchronized void add(final Point point, final long time) {
+		int index;
+		if (this.size < this.x.length) {
+			index = (this.start + this.size) % this.x.length;
+			this.size++;
+		} else {
+			index = this.start;
+			this.start = (this.start + 1) % this.x.length;
+		}
+		this.x[index] = toDouble(point.getX());
+		this.y[index] = toDouble(point.getY());
+		this.times[index] = time;
+		this.ids[index] = point.getId();
+		this.names[index] = point.getName();
+	}
+
+	/**
+	 * @return the points currently in the window, oldest first.
+	 */
+	public List<Point> getPoints() {
+		return getPoints(System.currentTimeMillis());
+	}
+
+	/**
+	 * Returns the points in the window at the given time, oldest first.
+	 *
+	 * @param now
+	 *          the current time in milliseconds.
+	 */
+	public synchronized List<Point> getPoints(final long now) {
+		evict(now);
+		List<Point> points = new ArrayList<Point>(this.size);
+		for (int i = 0; i < this.size; i++) {
+			int index = (this.start + i) % this.x.length;
+			Number y = toNumber(this.y[index]);
+			Point point = Double.isNaN(this.x[index]) ? new Point(y) : new Point(toNumber(this.x[index]), y);
+			point.setId(this.ids[index]);
+			point.setName(this.names[index]);
+			points.add(point);
+		}
+		return points;
+	}
+
+	/**
+	 * @return the number of points in the window, including points that are
+	 *         older than the maximum age but have not been evicted yet.
+	 */
+	public synchronized int size() {
+		return this.size;
+	}
+
+	public synchronized void clear() {
+		this.start = 0;
+		this.size = 0;
+		Arrays.fill(this.ids, null);
+		Arrays.fill(this.names, null);
+	}
+
+	private void evict(final long now) {
+		if (this.maxAgeMs == 0) {
+			return;
+		}
+		while (this.size > 0 && now - this.times[this.start] > this.maxAgeMs) {
+			this.start = (this.start + 1) % this.x.length;
+			this.size--;
+		}
+	}
+
+	private static double toDouble(final Number number) {
+		return number == null ? Double.NaN : number.doubleValue();
+	}
+
+	/**
+	 * Converts a value back into a number. Integral values, e.g. timestamps,
+	 * are converted into longs, so that they are rendered without fraction.
+	 */
+	private static Number toNumber(final double value) {
+		if (Double.isNaN(value)) {
+			return null;
+		}
+		if (value == Math.rint(value) && Math.abs(value) < MAX_EXACT_INTEGER) {
+			return (long) value;
+		}
+		return value;
+	}
+
+}
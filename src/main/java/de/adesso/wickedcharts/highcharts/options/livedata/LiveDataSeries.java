@@ -19,7 +19,9 @@ import de.adesso.wickedcharts.highcharts.options.IProcessableOption;
 import de.adesso.wickedcharts.highcharts.options.Options;
 import de.adesso.wickedcharts.highcharts.options.series.Point;
 import de.adesso.wickedcharts.highcharts.options.series.PointSeries;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -40,12 +42,45 @@ public abstract class LiveDataSeries extends PointSeries implements IProcessable
 	 */
 	public static final String PROCESSING_KEY = "LIVEUPDATE";
 
+	/**
+	 * The default number of points a client can catch up on after missed
+	 * updates.
+	 */
+	public static final int DEFAULT_CATCH_UP_CAPACITY = 100;
+
+	/**
+	 * The default number of points kept in {@link LiveDataUpdateMode#WINDOW}
+	 * mode.
+	 */
+	public static final int DEFAULT_WINDOW_SIZE = 100;
+
 	@JsonIgnore
 	private final Options parentOptions;
 
 	@JsonIgnore
 	private int updateIntervalMs;
 
+	@JsonIgnore
+	private String channel;
+
+	@JsonIgnore
+	private LiveDataHistory history;
+
+	@JsonIgnore
+	private int catchUpCapacity = DEFAULT_CATCH_UP_CAPACITY;
+
+	@JsonIgnore
+	private int idleTimeoutMs;
+
+	@JsonIgnore
+	private boolean sharedAcrossTabs;
+
+	@JsonIgnore
+	private LiveDataUpdateMode updateMode = LiveDataUpdateMode.APPEND_AND_SHIFT;
+
+	@JsonIgnore
+	private int windowSize = DEFAULT_WINDOW_SIZE;
+
 	/**
 	 * Constructs a new {@link LiveDataSeries}.
 	 * 
@@ -97,6 +132,247 @@ public abstract class LiveDataSeries extends PointSeries implements IProcessable
 		return this.updateIntervalMs;
 	}
 
+	/**
+	 * Sets the time after which the client stops updating this series if the
+	 * user does not interact with the page. Updating resumes with the next
+	 * interaction, and the points missed in between are caught up on. Updating
+	 * is always suspended while the page is hidden, e.g. in a background tab.
+	 *
+	 * If a chart contains several series, it is updated as long as one of its
+	 * series is to be updated.
+	 *
+	 * @param idleTimeoutMs
+	 *          the idle timeout in milliseconds or 0 to update this series
+	 *          regardless of user interaction.
+	 * @return this object for chaining
+	 */
+	public LiveDataSeries setIdleTimeoutMs(final int idleTimeoutMs) {
+		if (idleTimeoutMs < 0) {
+			throw new IllegalArgumentException("idleTimeoutMs must not be negative!");
+		}
+		this.idleTimeoutMs = idleTimeoutMs;
+		return this;
+	}
+
+	public int getIdleTimeoutMs() {
+		return this.idleTimeoutMs;
+	}
+
+	/**
+	 * Returns the idle timeout for a group of series updated together, i.e.
+	 * the longest idle timeout of the series, or 0 if one of the series is to
+	 * be updated regardless of user interaction.
+	 *
+	 * @param series
+	 *          the series.
+	 * @return the idle timeout in milliseconds or 0.
+	 */
+	public static int getIdleTimeoutMs(final List<LiveDataSeries> series) {
+		int idleTimeoutMs = 0;
+		for (LiveDataSeries liveDataSeries : series) {
+			if (liveDataSeries.getIdleTimeoutMs() == 0) {
+				return 0;
+			}
+			idleTimeoutMs = Math.max(idleTimeoutMs, liveDataSeries.getIdleTimeoutMs());
+		}
+		return idleTimeoutMs;
+	}
+
+	/**
+	 * Sets how the client applies live updates to this series. Updating the
+	 * existing chart in place is much cheaper than re-rendering the chart
+	 * component.
+	 *
+	 * @param updateMode
+	 *          the update mode.
+	 * @return this object for chaining
+	 */
+	public LiveDataSeries setUpdateMode(final LiveDataUpdateMode updateMode) {
+		if (updateMode == null) {
+			throw new IllegalArgumentException("updateMode must not be null!");
+		}
+		this.updateMode = updateMode;
+		return this;
+	}
+
+	@JsonIgnore
+	public LiveDataUpdateMode getUpdateMode() {
+		return this.updateMode;
+	}
+
+	/**
+	 * Sets the number of most recent points the series shows in
+	 * {@link LiveDataUpdateMode#WINDOW} mode.
+	 *
+	 * @param windowSize
+	 *          the number of points.
+	 * @return this object for chaining
+	 */
+	public LiveDataSeries setWindowSize(final int windowSize) {
+		if (windowSize <= 0) {
+			throw new IllegalArgumentException("windowSize must be positive!");
+		}
+		this.windowSize = windowSize;
+		return this;
+	}
+
+	@JsonIgnore
+	public int getWindowSize() {
+		return this.windowSize;
+	}
+
+	/**
+	 * Renders the update mode into the series options for the client-side
+	 * live data script. This method is not part of the public API!
+	 *
+	 * @return the update mode or null, if it is the default.
+	 */
+	public LiveDataUpdateMode getWickedChartsUpdateMode() {
+		return this.updateMode == LiveDataUpdateMode.APPEND_AND_SHIFT ? null : this.updateMode;
+	}
+
+	/**
+	 * Renders the window size into the series options for the client-side
+	 * live data script. This method is not part of the public API!
+	 *
+	 * @return the window size or null, if it is not used.
+	 */
+	public Integer getWickedChartsWindowSize() {
+		return this.updateMode == LiveDataUpdateMode.WINDOW ? this.windowSize : null;
+	}
+
+	/**
+	 * Defines whether the channel of this series is received once per browser
+	 * instead of once per tab. If several tabs of the same origin display
+	 * series bound to shared channels, only one of the tabs keeps a connection
+	 * to the server and relays the points to the other tabs.
+	 *
+	 * Only applies to series bound to a channel (see {@link #setChannel(String)}).
+	 * Polled series are never shared, since their updates depend on the state
+	 * of the page.
+	 *
+	 * @param sharedAcrossTabs
+	 *          true to share the channel with other tabs.
+	 * @return this object for chaining
+	 */
+	public LiveDataSeries setSharedAcrossTabs(final boolean sharedAcrossTabs) {
+		this.sharedAcrossTabs = sharedAcrossTabs;
+		return this;
+	}
+
+	@JsonIgnore
+	public boolean isSharedAcrossTabs() {
+		return this.sharedAcrossTabs;
+	}
+
+	/**
+	 * Binds this series to a {@link LiveDataChannel}. Points published to the
+	 * channel are pushed to the client as they arrive, instead of polling
+	 * {@link #update(LiveDataUpdateEvent)} in the update interval of this
+	 * series.
+	 *
+	 * @param channel
+	 *          the name of the channel or null to poll this series.
+	 * @return this object for chaining
+	 */
+	public LiveDataSeries setChannel(final String channel) {
+		this.channel = channel;
+		return this;
+	}
+
+	/**
+	 * @return the name of the {@link LiveDataChannel} this series is bound to
+	 *         or null, if this series is polled.
+	 */
+	public String getChannel() {
+		return this.channel;
+	}
+
+	/**
+	 * Sets a window of recent points of this series. The points returned by
+	 * the updates of this series are added to the window, and the window is
+	 * rendered along with the data of this series. This way, a refreshed page
+	 * shows the recent points immediately.
+	 *
+	 * Series showing a {@link LiveDataChannel} render the window of the channel
+	 * (see {@link LiveDataChannel#setHistory(LiveDataHistory)}), unless they
+	 * have a window of their own.
+	 *
+	 * @param history
+	 *          the window or null to render the data of this series only.
+	 * @return this object for chaining
+	 */
+	public LiveDataSeries setHistory(final LiveDataHistory history) {
+		this.history = history;
+		return this;
+	}
+
+	@JsonIgnore
+	public LiveDataHistory getHistory() {
+		return this.history;
+	}
+
+	/**
+	 * @return true, if a window of recent points is rendered along with the data
+	 *         of this series.
+	 */
+	@JsonIgnore
+	public boolean isHistoryEnabled() {
+		return this.history != null || getSharedHistory() != null;
+	}
+
+	/**
+	 * Sets the number of points the server keeps for each client of this
+	 * series. The updates of a series are numbered. If a client misses updates,
+	 * e.g. because a request has failed, it receives the missed points with
+	 * the next update. If it has missed more points than this number, the
+	 * series is resynchronized instead.
+	 *
+	 * @param catchUpCapacity
+	 *          the number of points kept for each client.
+	 * @return this object for chaining
+	 */
+	public LiveDataSeries setCatchUpCapacity(final int catchUpCapacity) {
+		if (catchUpCapacity <= 0) {
+			throw new IllegalArgumentException("catchUpCapacity must be positive!");
+		}
+		this.catchUpCapacity = catchUpCapacity;
+		return this;
+	}
+
+	public int getCatchUpCapacity() {
+		return this.catchUpCapacity;
+	}
+
+	/**
+	 * Returns the data of this series with the points of its window of recent
+	 * points, if any, applied in the update mode of this series.
+	 */
+	@Override
+	public List<Point> getData() {
+		LiveDataHistory window = this.history != null ? this.history : getSharedHistory();
+		if (window == null) {
+			return super.getData();
+		}
+		List<Point> recentPoints = window.getPoints();
+		if (recentPoints.isEmpty()) {
+			return super.getData();
+		}
+		return this.updateMode.apply(super.getData(), recentPoints, this.windowSize);
+	}
+
+	/**
+	 * @return the window of recent points shared by all series showing the
+	 *         same {@link LiveDataChannel} or null, if there is none.
+	 */
+	protected LiveDataHistory getSharedHistory() {
+		if (this.channel == null) {
+			return null;
+		}
+		LiveDataChannel liveDataChannel = LiveDataChannel.find(this.channel);
+		return liveDataChannel == null ? null : liveDataChannel.getHistory();
+	}
+
 	@Override
 	@JsonIgnore
 	public String getProcessingKey() {
@@ -108,6 +384,9 @@ public abstract class LiveDataSeries extends PointSeries implements IProcessable
 	 * which is then added to the series on the fly.
 	 *
 	 * May return null. In that case, the chart is simply not updated.
+	 *
+	 * Series producing more than one point per update should extend
+	 * {@link LiveDataBatchSeries} instead.
 	 * 
 	 * @param event
 	 *          the LiveDataUpdateEvent
@@ -120,4 +399,46 @@ public abstract class LiveDataSeries extends PointSeries implements IProcessable
 	 */
 	public abstract Point update(final LiveDataUpdateEvent event);
 
+	/**
+	 * This method is called for each update interval. It returns all points
+	 * that have been produced since the last update, so that feeds producing
+	 * more than one point per interval do not lose any data. The points are
+	 * added to the series on the client in one go and the chart is redrawn only
+	 * once.
+	 *
+	 * The default implementation returns the single point returned by
+	 * {@link #update(LiveDataUpdateEvent)}.
+	 *
+	 * @param event
+	 *          the LiveDataUpdateEvent
+	 *
+	 * @return the new points to add to the series, in the order in which they
+	 *         are to be added. May be empty, but not null.
+	 */
+	public List<Point> updatePoints(final LiveDataUpdateEvent event) {
+		Point point = update(event);
+		if (point == null) {
+			return Collections.emptyList();
+		}
+		return Collections.singletonList(point);
+	}
+
+	/**
+	 * This method is called after each update. It may return the delay after
+	 * which the client should send the next update request, e.g. to reduce the
+	 * load on a struggling backend. The client uses the delay for the next
+	 * request only and returns to the update interval afterwards.
+	 *
+	 * If a chart contains several series returning a delay, the shortest delay
+	 * is used.
+	 *
+	 * @return the delay until the next update request in milliseconds or null
+	 *         to poll in the update interval. The default implementation
+	 *         returns null.
+	 */
+	@JsonIgnore
+	public Integer getNextUpdateDelayMs() {
+		return null;
+	}
+
 }
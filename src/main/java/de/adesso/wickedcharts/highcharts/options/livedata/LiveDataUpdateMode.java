@@ -0,0 +1,127 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.json.JsonValueEnum;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Defines how the points of a live update are applied to a
+ * {@link LiveDataSeries} on the client.
+ */
+public enum LiveDataUpdateMode implements JsonValueEnum {
+
+	/**
+	 * The points are added to the series.
+	 */
+	APPEND("append"),
+
+	/**
+	 * The points are added to the series and the same number of points is
+	 * removed from the beginning of the series. This is the default.
+	 */
+	APPEND_AND_SHIFT("appendAndShift"),
+
+	/**
+	 * The last point of the series is replaced by the latest point of the
+	 * update. Use this mode for gauges or "current value" charts.
+	 */
+	REPLACE_LAST("replaceLast"),
+
+	/**
+	 * Each point of the update replaces the point of the series with the same
+	 * id (see {@link Point#setId(String)}). Points with an unknown id are
+	 * added. Use this mode e.g. for pie or column charts with a fixed set of
+	 * points.
+	 */
+	UPDATE_BY_ID("updateById"),
+
+	/**
+	 * The points are added to the series, and the data of the series is
+	 * replaced by its most recent points in one step. See
+	 * {@link LiveDataSeries#setWindowSize(int)}.
+	 */
+	WINDOW("window");
+
+	private final String value;
+
+	private LiveDataUpdateMode(final String value) {
+		this.value = value;
+	}
+
+	@Override
+	public String getJsonValue() {
+		return this.value;
+	}
+
+	/**
+	 * Applies points to the data of a series the way the client does.
+	 *
+	 * @param data
+	 *          the data of the series, may be null.
+	 * @param points
+	 *          the points to apply.
+	 * @param windowSize
+	 *          the number of points to keep in {@link #WINDOW} mode.
+	 * @return the new data of the series.
+	 */
+	public List<Point> apply(final List<Point> data, final List<Point> points, final int windowSize) {
+		List<Point> result = data == null ? new ArrayList<Point>() : new ArrayList<Point>(data);
+		switch (this) {
+		case REPLACE_LAST:
+			if (!points.isEmpty()) {
+				if (!result.isEmpty()) {
+					result.remove(result.size() - 1);
+				}
+				result.add(points.get(points.size() - 1));
+			}
+			return result;
+		case UPDATE_BY_ID:
+			for (Point point : points) {
+				int index = indexOfId(result, point.getId());
+				if (index < 0) {
+					result.add(point);
+				} else {
+					result.set(index, point);
+				}
+			}
+			return result;
+		case WINDOW:
+			result.addAll(points);
+			if (result.size() > windowSize) {
+				return new ArrayList<Point>(result.subList(result.size() - windowSize, result.size()));
+			}
+			return result;
+		default:
+			result.addAll(points);
+			return result;
+		}
+	}
+
+	private static int indexOfId(final List<Point> data, final String id) {
+		if (id == null) {
+			return -1;
+		}
+		for (int i = 0; i < data.size(); i++) {
+			if (id.equals(data.get(i).getId())) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+}
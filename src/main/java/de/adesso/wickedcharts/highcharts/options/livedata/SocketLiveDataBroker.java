@@ -0,0 +1,226 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.color.Gradient;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.function.Consumer;
+
+/**
+ * Reference implementation of an {@link ILiveDataBroker} exchanging points
+ * via a {@link SocketLiveDataHub}. Each node connects one broker to the hub.
+ * The hub relays each published point to all connected brokers, which pass it
+ * to their local subscribers.
+ *
+ * Points are transferred with Java serialization, restricted to {@link Point}
+ * and its value types, i.e. numbers, strings and plain colors. Points with
+ * events, data labels, markers or gradients cannot be published, since these
+ * may contain javascript functions. A broker authenticates itself to the hub
+ * with a shared secret, but the connection is not encrypted, and a broker
+ * does not reconnect if the connection is lost, so this implementation is
+ * meant for local testing and as an example for implementations based on a
+ * real message broker.
+ */
+public class SocketLiveDataBroker implements ILiveDataBroker, Closeable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SocketLiveDataBroker.class);
+
+	/**
+	 * The maximum size of a serialized point in bytes.
+	 */
+	static final int MAX_FRAME_SIZE = 1024 * 1024;
+
+	private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter("maxdepth=5;"
+			+ "de.adesso.wickedcharts.highcharts.options.series.Point;"
+			+ "de.adesso.wickedcharts.highcharts.options.color.ColorReference;"
+			+ "de.adesso.wickedcharts.highcharts.options.color.HexColor;"
+			+ "de.adesso.wickedcharts.highcharts.options.color.HighchartsColor;"
+			+ "de.adesso.wickedcharts.highcharts.options.color.NullColor;"
+			+ "de.adesso.wickedcharts.highcharts.options.color.RgbaColor;"
+			+ "de.adesso.wickedcharts.highcharts.options.color.SimpleColor;"
+			+ "java.awt.Color;java.lang.Number;java.lang.Byte;java.lang.Short;java.lang.Integer;java.lang.Long;"
+			+ "java.lang.Float;java.lang.Double;java.lang.Boolean;java.math.BigInteger;java.math.BigDecimal;!*");
+
+	private final InMemoryLiveDataBroker localBroker = new InMemoryLiveDataBroker();
+
+	private final Socket socket;
+
+	private final DataOutputStream output;
+
+	/**
+	 * Connects to a hub on the loopback interface that does not require a
+	 * secret.
+	 *
+	 * @param port
+	 *          the port of the hub.
+	 * @throws IOException
+	 *           if the hub cannot be reached.
+	 */
+	public SocketLiveDataBroker(final int port) throws IOException {
+		this(InetAddress.getLoopbackAddress(), port, null);
+	}
+
+	/**
+	 * Connects to a hub.
+	 *
+	 * @param address
+	 *          the address of the hub.
+	 * @param port
+	 *          the port of the hub.
+	 * @param secret
+	 *          the secret shared with the hub or null, if the hub does not
+	 *          require one.
+	 * @throws IOException
+	 *           if the hub cannot be reached.
+	 */
+	public SocketLiveDataBroker(final InetAddress address, final int port, final String secret) throws IOException {
+		this.socket = new Socket(address, port);
+		this.socket.setTcpNoDelay(true);
+		this.output = new DataOutputStream(this.socket.getOutputStream());
+		writeFrame(this.output, encodeSecret(secret));
+		Thread reader = new Thread(this::read, "wicked-charts-live-data-broker");
+		reader.setDaemon(true);
+		reader.start();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws IllegalArgumentException
+	 *           if the point has events, data labels, a marker or a gradient.
+	 */
+	@Override
+	public void publish(final String topic, final Point point) {
+		if (point.getEvents() != null || point.getDataLabels() != null || point.getMarker() != null
+				|| point.getColor() instanceof Gradient) {
+			throw new IllegalArgumentException("Only the values of a point can be published!");
+		}
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+				objectOutput.writeUTF(topic);
+				objectOutput.writeObject(point);
+			}
+			writeFrame(this.output, bytes.toByteArray());
+		} catch (IOException e) {
+			throw new RuntimeException("Error trying to publish a point to topic " + topic + "!", e);
+		}
+	}
+
+	@Override
+	public void subscribe(final String topic, final Consumer<Point> listener) {
+		this.localBroker.subscribe(topic, listener);
+	}
+
+	@Override
+	public void unsubscribe(final String topic, final Consumer<Point> listener) {
+		this.localBroker.unsubscribe(topic, listener);
+	}
+
+	/**
+	 * Disconnects from the hub.
+	 */
+	@Override
+	public void close() throws IOException {
+		this.socket.close();
+	}
+
+	private void read() {
+		try {
+			DataInputStream input = new DataInputStream(this.socket.getInputStream());
+			while (true) {
+				byte[] frame = readFrame(input);
+				if (frame == null) {
+					return;
+				}
+				dispatch(frame);
+			}
+		} catch (IOException e) {
+			// the connection has been closed
+		}
+	}
+
+	private void dispatch(final byte[] frame) {
+		try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(frame))) {
+			objectInput.setObjectInputFilter(FILTER);
+			String topic = objectInput.readUTF();
+			Point point = (Point) objectInput.readObject();
+			this.localBroker.publish(topic, point);
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			// skip the invalid frame, the following frames are not affected
+			LOGGER.warn("Error trying to read a point received from the live data hub!", e);
+		}
+	}
+
+	/**
+	 * Encodes the secret sent as the first frame of a connection.
+	 */
+	static byte[] encodeSecret(final String secret) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream dataOutput = new DataOutputStream(bytes)) {
+			dataOutput.writeUTF(secret == null ? "" : secret);
+		} catch (IOException e) {
+			throw new RuntimeException("Error trying to encode the secret!", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Writes a frame consisting of its length followed by its bytes.
+	 */
+	static void writeFrame(final DataOutputStream output, final byte[] frame) throws IOException {
+		synchronized (output) {
+			output.writeInt(frame.length);
+			output.write(frame);
+			output.flush();
+		}
+	}
+
+	/**
+	 * @return the next frame or null, if the connection has been closed.
+	 * @throws IOException
+	 *           if the connection fails or the frame is invalid.
+	 */
+	static byte[] readFrame(final DataInputStream input) throws IOException {
+		int length;
+		try {
+			length = input.readInt();
+		} catch (EOFException e) {
+			return null;
+		}
+		if (length <= 0 || length > MAX_FRAME_SIZE) {
+			throw new IOException("Invalid frame length " + length + "!");
+		}
+		byte[] frame = new byte[length];
+		input.readFully(frame);
+		return frame;
+	}
+
+}
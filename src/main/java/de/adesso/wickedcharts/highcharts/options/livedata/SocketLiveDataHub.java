@@ -0,0 +1,184 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The server side of the {@link SocketLiveDataBroker}. The hub accepts
+ * connections of brokers on the loopback interface and relays each point
+ * published by one broker to all connected brokers, including the publishing
+ * one. The points are relayed as they are, without being deserialized.
+ *
+ * A broker has to send the secret of the hub as the first frame of its
+ * connection. Connections with a wrong secret are closed. Any local process
+ * can connect to the loopback interface, so set a secret if other users
+ * have access to the machine.
+ *
+ * Usage, e.g. in a test starting several nodes in one JVM:
+ *
+ * <pre>
+ * SocketLiveDataHub hub = new SocketLiveDataHub(0);
+ * ILiveDataBroker broker = new SocketLiveDataBroker(hub.getPort());
+ * </pre>
+ */
+public class SocketLiveDataHub implements Closeable {
+
+	/**
+	 * The time a broker has to send the secret after connecting.
+	 */
+	private static final int SECRET_TIMEOUT_MS = 10000;
+
+	private final ServerSocket serverSocket;
+
+	private final List<Connection> connections = new CopyOnWriteArrayList<Connection>();
+
+	private final byte[] secret;
+
+	/**
+	 * Starts a hub listening on the loopback interface that does not require a
+	 * secret.
+	 *
+	 * @param port
+	 *          the port to listen on or 0 to use any free port.
+	 * @throws IOException
+	 *           if the port cannot be bound.
+	 */
+	public SocketLiveDataHub(final int port) throws IOException {
+		this(port, null);
+	}
+
+	/**
+	 * Starts a hub listening on the loopback interface.
+	 *
+	 * @param port
+	 *          the port to listen on or 0 to use any free port.
+	 * @param secret
+	 *          the secret the brokers have to send or null, if any broker may
+	 *          connect.
+	 * @throws IOException
+	 *           if the port cannot be bound.
+	 */
+	public SocketLiveDataHub(final int port, final String secret) throws IOException {
+		this.secret = SocketLiveDataBroker.encodeSecret(secret);
+		this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+		startThread(this::accept);
+	}
+
+	public int getPort() {
+		return this.serverSocket.getLocalPort();
+	}
+
+	/**
+	 * @return the number of connected brokers.
+	 */
+	public int getConnectionCount() {
+		return this.connections.size();
+	}
+
+	/**
+	 * Stops the hub and closes all connections.
+	 */
+	@Override
+	public void close() throws IOException {
+		this.serverSocket.close();
+		for (Connection connection : this.connections) {
+			connection.close();
+		}
+	}
+
+	private void accept() {
+		try {
+			while (true) {
+				Socket socket = this.serverSocket.accept();
+				socket.setTcpNoDelay(true);
+				startThread(new Connection(socket)::relay);
+			}
+		} catch (IOException e) {
+			// the hub has been closed
+		}
+	}
+
+	private static void startThread(final Runnable runnable) {
+		Thread thread = new Thread(runnable, "wicked-charts-live-data-hub");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * The connection to one broker.
+	 */
+	private final class Connection {
+
+		private final Socket socket;
+
+		private final DataOutputStream output;
+
+		Connection(final Socket socket) throws IOException {
+			this.socket = socket;
+			this.output = new DataOutputStream(socket.getOutputStream());
+		}
+
+		void relay() {
+			try {
+				DataInputStream input = new DataInputStream(this.socket.getInputStream());
+				this.socket.setSoTimeout(SECRET_TIMEOUT_MS);
+				byte[] secretFrame = SocketLiveDataBroker.readFrame(input);
+				this.socket.setSoTimeout(0);
+				if (secretFrame == null || !MessageDigest.isEqual(secretFrame, SocketLiveDataHub.this.secret)) {
+					close();
+					return;
+				}
+				SocketLiveDataHub.this.connections.add(this);
+				byte[] frame;
+				while ((frame = SocketLiveDataBroker.readFrame(input)) != null) {
+					for (Connection connection : SocketLiveDataHub.this.connections) {
+						connection.send(frame);
+					}
+				}
+			} catch (IOException e) {
+				// the connection has been closed or is broken
+			}
+			close();
+		}
+
+		void send(final byte[] frame) {
+			try {
+				SocketLiveDataBroker.writeFrame(this.output, frame);
+			} catch (IOException e) {
+				close();
+			}
+		}
+
+		void close() {
+			SocketLiveDataHub.this.connections.remove(this);
+			try {
+				this.socket.close();
+			} catch (IOException e) {
+				// nothing left to clean up
+			}
+		}
+	}
+
+}
@@ -0,0 +1,222 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.processing;
+
+import java.util.Arrays;
+
+/**
+ * The downsampling algorithms used by the {@link DownsamplingProcessor}. They
+ * work on primitive arrays of x and y values which have to be sorted by x.
+ * {@link Double#NaN} values (i.e. null values) are never selected.
+ */
+final class Downsampler {
+
+	private Downsampler() {
+	}
+
+	/**
+	 * Largest-Triangle-Three-Buckets. Always selects the first and the last
+	 * point and one point of each bucket in between.
+	 *
+	 * @return the ascending indices of the selected points.
+	 */
+	static int[] lttb(final double[] x, final double[] y, final int n, final int threshold) {
+		if (threshold >= n || threshold < 3) {
+			return all(n);
+		}
+		int[] selected = new int[threshold];
+		int count = 0;
+		selected[count++] = 0;
+		double bucketSize = (double) (n - 2) / (threshold - 2);
+		// the anchor of the first triangle is the first point with a value
+		int a = 0;
+		while (a < n - 1 && Double.isNaN(y[a])) {
+			a++;
+		}
+		for (int i = 0; i < threshold - 2; i++) {
+			// average of the next bucket is the third point of the triangle
+			int avgStart = (int) ((i + 1) * bucketSize) + 1;
+			int avgEnd = Math.min((int) ((i + 2) * bucketSize) + 1, n);
+			double avgX = 0;
+			double avgY = 0;
+			int avgCount = 0;
+			for (int j = avgStart; j < avgEnd; j++) {
+				if (!Double.isNaN(y[j])) {
+					avgX += x[j];
+					avgY += y[j];
+					avgCount++;
+				}
+			}
+			if (avgCount > 0) {
+				avgX /= avgCount;
+				avgY /= avgCount;
+			} else {
+				// the next bucket only contains null values, so its end at the
+				// height of the anchor is used instead
+				avgX = x[avgEnd - 1];
+				avgY = y[a];
+			}
+
+			int rangeStart = (int) (i * bucketSize) + 1;
+			int rangeEnd = (int) ((i + 1) * bucketSize) + 1;
+			double maxArea = -1;
+			int next = -1;
+			for (int j = rangeStart; j < rangeEnd; j++) {
+				if (Double.isNaN(y[j])) {
+					continue;
+				}
+				if (Double.isNaN(y[a])) {
+					// there is no anchor with a value, so any point of the bucket will do
+					next = j;
+					break;
+				}
+				double area = Math.abs((x[a] - avgX) * (y[j] - y[a]) - (x[a] - x[j]) * (avgY - y[a]));
+				if (area > maxArea) {
+					maxArea = area;
+					next = j;
+				}
+			}
+			if (next >= 0) {
+				selected[count++] = next;
+				a = next;
+			}
+		}
+		selected[count++] = n - 1;
+		return count == selected.length ? selected : Arrays.copyOf(selected, count);
+	}
+
+	/**
+	 * M4 aggregation. Selects the first, last, minimum and maximum point of each
+	 * bucket. If firstAndLast is false, only the minimum and maximum points are
+	 * selected.
+	 *
+	 * @return the ascending indices of the selected points.
+	 */
+	static int[] m4(final double[] x, final double[] y, final int n, final int buckets, final boolean firstAndLast) {
+		int[] selected = new int[Math.min(n, buckets * (firstAndLast ? 4 : 2))];
+		int count = 0;
+		int[] candidates = new int[4];
+		int current = -1;
+		int first = -1;
+		int last = -1;
+		int min = -1;
+		int max = -1;
+		for (int i = 0; i < n; i++) {
+			if (Double.isNaN(y[i])) {
+				continue;
+			}
+			int bucket = bucket(x, i, n, buckets);
+			if (bucket != current) {
+				if (current >= 0) {
+					count = flush(selected, count, candidates, first, last, min, max, firstAndLast);
+				}
+				current = bucket;
+				first = i;
+				min = i;
+				max = i;
+			}
+			last = i;
+			if (y[i] < y[min]) {
+				min = i;
+			}
+			if (y[i] > y[max]) {
+				max = i;
+			}
+		}
+		if (current >= 0) {
+			count = flush(selected, count, candidates, first, last, min, max, firstAndLast);
+		}
+		return count == selected.length ? selected : Arrays.copyOf(selected, count);
+	}
+
+	/**
+	 * Aggregates ranges to a min/max envelope. Each bucket is reduced to the x
+	 * value of its first point, its lowest low and its highest high value.
+	 *
+	 * @return the number of aggregated points written to the out arrays.
+	 */
+	static int envelope(final double[] x, final double[] low, final double[] high, final int n, final int buckets,
+			final double[] outX, final double[] outLow, final double[] outHigh) {
+		int count = -1;
+		int current = -1;
+		for (int i = 0; i < n; i++) {
+			if (Double.isNaN(low[i]) && Double.isNaN(high[i])) {
+				continue;
+			}
+			int bucket = bucket(x, i, n, buckets);
+			if (bucket != current) {
+				current = bucket;
+				count++;
+				outX[count] = x[i];
+				outLow[count] = low[i];
+				outHigh[count] = high[i];
+			} else {
+				outLow[count] = min(outLow[count], low[i]);
+				outHigh[count] = max(outHigh[count], high[i]);
+			}
+		}
+		return count + 1;
+	}
+
+	/**
+	 * Buckets are equally wide intervals on the x axis, like pixel columns. If
+	 * the x values do not span an interval, the points are distributed by
+	 * index.
+	 */
+	private static int bucket(final double[] x, final int i, final int n, final int buckets) {
+		double xMin = x[0];
+		double xMax = x[n - 1];
+		if (!(xMax > xMin)) {
+			return (int) ((long) i * buckets / n);
+		}
+		int bucket = (int) ((x[i] - xMin) / (xMax - xMin) * buckets);
+		return Math.max(0, Math.min(bucket, buckets - 1));
+	}
+
+	private static int flush(final int[] selected, int count, final int[] candidates, final int first,
+			final int last, final int min, final int max, final boolean firstAndLast) {
+		int size = 0;
+		if (firstAndLast) {
+			candidates[size++] = first;
+			candidates[size++] = last;
+		}
+		candidates[size++] = min;
+		candidates[size++] = max;
+		Arrays.sort(candidates, 0, size);
+		for (int i = 0; i < size; i++) {
+			if (i == 0 || candidates[i] != candidates[i - 1]) {
+				selected[count++] = candidates[i];
+			}
+		}
+		return count;
+	}
+
+	private static double min(final double a, final double b) {
+		return Double.isNaN(a) ? b : Double.isNaN(b) ? a : Math.min(a, b);
+	}
+
+	private static double max(final double a, final double b) {
+		return Double.isNaN(a) ? b : Double.isNaN(b) ? a : Math.max(a, b);
+	}
+
+	private static int[] all(final int n) {
+		int[] indices = new int[n];
+		for (int i = 0; i < n; i++) {
+			indices[i] = i;
+		}
+		return indices;
+	}
+
+}
@@ -0,0 +1,72 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.processing;
+
+import java.io.Serializable;
+
+/**
+ * Configures how a {@link DownsamplingProcessor} reduces a series.
+ */
+public class Downsampling implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final DownsamplingAlgorithm algorithm;
+
+	private final Integer targetPoints;
+
+	/**
+	 * Constructs a configuration that derives the target number of points from
+	 * the width of the chart (see
+	 * {@link de.adesso.wickedcharts.highcharts.options.ChartOptions#setWidth(Integer)}
+	 * ).
+	 *
+	 * @param algorithm
+	 *          the algorithm to use.
+	 */
+	public Downsampling(final DownsamplingAlgorithm algorithm) {
+		this(algorithm, null);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param algorithm
+	 *          the algorithm to use.
+	 * @param targetPoints
+	 *          the maximum number of points a series should contain after
+	 *          downsampling. If null, the target is derived from the width of
+	 *          the chart.
+	 */
+	public Downsampling(final DownsamplingAlgorithm algorithm, final Integer targetPoints) {
+		if (algorithm == null) {
+			throw new IllegalArgumentException("algorithm must not be null!");
+		}
+		if (targetPoints != null && targetPoints < 1) {
+			throw new IllegalArgumentException("targetPoints must be positive!");
+		}
+		this.algorithm = algorithm;
+		this.targetPoints = targetPoints;
+	}
+
+	public DownsamplingAlgorithm getAlgorithm() {
+		return this.algorithm;
+	}
+
+	public Integer getTargetPoints() {
+		return this.targetPoints;
+	}
+
+}
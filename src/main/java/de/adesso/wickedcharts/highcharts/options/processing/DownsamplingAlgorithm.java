@@ -0,0 +1,61 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.processing;
+
+/**
+ * The algorithms a {@link DownsamplingProcessor} can use to reduce the number
+ * of points of a series.
+ *
+ * Series containing ranges (low and high values) are always reduced to a
+ * min/max envelope, since the other algorithms would not preserve the extent
+ * of the range.
+ */
+public enum DownsamplingAlgorithm {
+
+	/**
+	 * Largest-Triangle-Three-Buckets. Selects one point per bucket so that the
+	 * visual shape of a line is preserved. Produces at most one point per
+	 * pixel.
+	 */
+	LTTB(1),
+
+	/**
+	 * Selects the first, last, minimum and maximum point of each pixel column.
+	 * The rendered line is pixel-exact compared to the original data. Produces
+	 * at most four points per pixel.
+	 */
+	M4(4),
+
+	/**
+	 * Selects the minimum and maximum point of each bucket, or aggregates a
+	 * range series to the lowest low and highest high value of each bucket.
+	 * Produces at most two points per pixel (one for range series).
+	 */
+	MIN_MAX(2);
+
+	private final int pointsPerBucket;
+
+	DownsamplingAlgorithm(final int pointsPerBucket) {
+		this.pointsPerBucket = pointsPerBucket;
+	}
+
+	/**
+	 * @return the maximum number of points this algorithm selects per bucket.
+	 */
+	public int getPointsPerBucket() {
+		return this.pointsPerBucket;
+	}
+
+}
@@ -0,0 +1,401 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.processing;
+
+import de.adesso.wickedcharts.highcharts.options.ChartOptions;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.RenderView;
+import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataSeries;
+import de.adesso.wickedcharts.highcharts.options.series.Coordinate;
+import de.adesso.wickedcharts.highcharts.options.series.CoordinatesSeries;
+import de.adesso.wickedcharts.highcharts.options.series.DoubleSeries;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import de.adesso.wickedcharts.highcharts.options.series.PointSeries;
+import de.adesso.wickedcharts.highcharts.options.series.RangeCoordinate;
+import de.adesso.wickedcharts.highcharts.options.series.RangeSeries;
+import de.adesso.wickedcharts.highcharts.options.series.Series;
+import de.adesso.wickedcharts.highcharts.options.series.SimpleSeries;
+import de.adesso.wickedcharts.highcharts.options.series.XYDoubleSeries;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This {@link IOptionsProcessor} reduces the number of points of large series
+ * before they are rendered, since a chart cannot display more points than it
+ * has pixels anyway.
+ *
+ * Supported are {@link CoordinatesSeries}, {@link SimpleSeries},
+ * {@link PointSeries}, {@link RangeSeries}, {@link DoubleSeries} and
+ * {@link XYDoubleSeries}. Other series and {@link LiveDataSeries} are left
+ * untouched, as are series whose x values are not sorted. Which
+ * {@link DownsamplingAlgorithm} is used can be configured per series. The
+ * target number of points is either configured explicitly or derived from
+ * {@link ChartOptions#getWidth()}.
+ *
+ * The series themselves are not modified. Instead, the selected points are
+ * set as the data to render for a series via
+ * {@link Options#setRenderedData(Series, List)}. Points of series without
+ * explicit x values ({@link SimpleSeries}, {@link DoubleSeries}) are rendered
+ * as [x, y] pairs, since the selected points are no longer equidistant.
+ * Selected {@link Point}s without an x value are rendered with their implicit
+ * x value.
+ */
+public class DownsamplingProcessor implements IOptionsProcessor {
+
+	private final Downsampling defaultDownsampling;
+
+	private final Map<Series<?>, Downsampling> seriesDownsampling = new IdentityHashMap<>();
+
+	/**
+	 * Constructs a processor that only downsamples the series configured via
+	 * {@link #setDownsampling(Series, Downsampling)}.
+	 */
+	public DownsamplingProcessor() {
+		this(null);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param defaultDownsampling
+	 *          the downsampling to apply to all series that are not configured
+	 *          explicitly. May be null.
+	 */
+	public DownsamplingProcessor(final Downsampling defaultDownsampling) {
+		this.defaultDownsampling = defaultDownsampling;
+	}
+
+	/**
+	 * Configures the downsampling of a single series.
+	 *
+	 * @param series
+	 *          the series to configure.
+	 * @param downsampling
+	 *          the downsampling to apply to the series. If null, the series is
+	 *          not downsampled at all.
+	 * @return this processor for chaining.
+	 */
+	public DownsamplingProcessor setDownsampling(final Series<?> series, final Downsampling downsampling) {
+		this.seriesDownsampling.put(series, downsampling);
+		return this;
+	}
+
+	@Override
+	public void processOptions(final Options options, final OptionsProcessorContext context) {
+		options.clearRenderedData();
+		if (options.getSeries() == null) {
+			return;
+		}
+		for (Series<?> series : options.getSeries()) {
+			Downsampling downsampling = getDownsampling(series);
+			if (downsampling == null || series.getData() == null) {
+				continue;
+			}
+			options.setRenderedData(series,
+					downsample(series, downsampling.getAlgorithm(), getBuckets(options, downsampling, series)));
+		}
+	}
+
+	private Downsampling getDownsampling(final Series<?> series) {
+		if (this.seriesDownsampling.containsKey(series)) {
+			return this.seriesDownsampling.get(series);
+		}
+		return this.defaultDownsampling;
+	}
+
+	/**
+	 * Calculates the number of buckets to reduce the series to. Each bucket is
+	 * one pixel wide if the target is derived from the chart width.
+	 *
+	 * @return the number of buckets or 0 if no target is known.
+	 */
+	private int getBuckets(final Options options, final Downsampling downsampling, final Series<?> series) {
+		if (downsampling.getTargetPoints() != null) {
+			int pointsPerBucket = isRange(series) ? 1 : downsampling.getAlgorithm().getPointsPerBucket();
+			return Math.max(1, downsampling.getTargetPoints() / pointsPerBucket);
+		}
+		ChartOptions chartOptions = options.getChartOptions();
+		if (chartOptions != null && chartOptions.getWidth() != null) {
+			return chartOptions.getWidth();
+		}
+		return 0;
+	}
+
+	private static boolean isRange(final Series<?> series) {
+		return series instanceof RangeSeries || (series instanceof XYDoubleSeries && ((XYDoubleSeries) series).isRange());
+	}
+
+	/**
+	 * @return the data to render instead of the data of the series or null, if
+	 *         the series is not reduced.
+	 */
+	private List<?> downsample(final Series<?> series, final DownsamplingAlgorithm algorithm, final int buckets) {
+		if (buckets <= 0) {
+			return null;
+		}
+		if (series instanceof CoordinatesSeries) {
+			return downsampleCoordinates((CoordinatesSeries) series, algorithm, buckets);
+		} else if (series instanceof RangeSeries) {
+			return downsampleRanges((RangeSeries) series, buckets);
+		} else if (series instanceof LiveDataSeries) {
+			return null;
+		} else if (series instanceof PointSeries) {
+			return downsamplePoints((PointSeries) series, algorithm, buckets);
+		} else if (series instanceof SimpleSeries) {
+			return downsampleSimple((SimpleSeries) series, algorithm, buckets);
+		} else if (series instanceof DoubleSeries) {
+			return downsampleDoubles((DoubleSeries) series, algorithm, buckets);
+		} else if (series instanceof XYDoubleSeries) {
+			return downsampleXYDoubles((XYDoubleSeries) series, algorithm, buckets);
+		}
+		return null;
+	}
+
+	private List<?> downsampleCoordinates(final CoordinatesSeries series, final DownsamplingAlgorithm algorithm,
+			final int buckets) {
+		List<Coordinate<Number, Number>> data = series.getData();
+		int n = data.size();
+		if (n <= buckets * algorithm.getPointsPerBucket()) {
+			return null;
+		}
+		double[] x = new double[n];
+		double[] y = new double[n];
+		for (int i = 0; i < n; i++) {
+			Coordinate<Number, Number> coordinate = data.get(i);
+			x[i] = coordinate == null ? Double.NaN : toDouble(coordinate.getX());
+			y[i] = coordinate == null ? Double.NaN : toDouble(coordinate.getY());
+		}
+		if (!isSorted(x, n)) {
+			return null;
+		}
+		int[] selected = select(x, y, n, algorithm, buckets);
+		if (selected.length == n) {
+			return null;
+		}
+		List<Coordinate<Number, Number>> result = new ArrayList<>(selected.length);
+		for (int index : selected) {
+			result.add(data.get(index));
+		}
+		return result;
+	}
+
+	private List<?> downsamplePoints(final PointSeries series, final DownsamplingAlgorithm algorithm,
+			final int buckets) {
+		List<Point> data = series.getData();
+		int n = data.size();
+		if (n <= buckets * algorithm.getPointsPerBucket()) {
+			return null;
+		}
+		double start = toDouble(series.getPointStart(), 0);
+		double interval = toDouble(series.getPointInterval(), 1);
+		double[] x = new double[n];
+		double[] y = new double[n];
+		for (int i = 0; i < n; i++) {
+			Point point = data.get(i);
+			x[i] = point == null || point.getX() == null ? start + i * interval : toDouble(point.getX());
+			y[i] = point == null ? Double.NaN : toDouble(point.getY());
+		}
+		if (!isSorted(x, n)) {
+			return null;
+		}
+		int[] selected = select(x, y, n, algorithm, buckets);
+		if (selected.length == n) {
+			return null;
+		}
+		List<Object> result = new ArrayList<>(selected.length);
+		for (int index : selected) {
+			Point point = data.get(index);
+			if (point != null && point.getX() == null) {
+				result.add(new RenderView(point, "x", toNumber(x[index])));
+			} else {
+				result.add(point);
+			}
+		}
+		return result;
+	}
+
+	private List<?> downsampleSimple(final SimpleSeries series, final DownsamplingAlgorithm algorithm,
+			final int buckets) {
+		List<Number> data = series.getData();
+		int n = data.size();
+		if (n <= buckets * algorithm.getPointsPerBucket()) {
+			return null;
+		}
+		double start = toDouble(series.getPointStart(), 0);
+		double interval = toDouble(series.getPointInterval(), 1);
+		double[] x = new double[n];
+		double[] y = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = start + i * interval;
+			y[i] = toDouble(data.get(i));
+		}
+		if (!isSorted(x, n)) {
+			return null;
+		}
+		int[] selected = select(x, y, n, algorithm, buckets);
+		if (selected.length == n) {
+			return null;
+		}
+		List<Coordinate<Number, Number>> result = new ArrayList<>(selected.length);
+		for (int index : selected) {
+			result.add(new Coordinate<Number, Number>(toNumber(x[index]), data.get(index)));
+		}
+		return result;
+	}
+
+	private List<?> downsampleRanges(final RangeSeries series, final int buckets) {
+		List<RangeCoordinate<Number, Number, Number>> data = series.getData();
+		int n = data.size();
+		if (n <= buckets) {
+			return null;
+		}
+		double[] x = new double[n];
+		double[] low = new double[n];
+		double[] high = new double[n];
+		for (int i = 0; i < n; i++) {
+			RangeCoordinate<Number, Number, Number> coordinate = data.get(i);
+			x[i] = coordinate == null ? Double.NaN : toDouble(coordinate.getX());
+			low[i] = coordinate == null ? Double.NaN : toDouble(coordinate.getY1());
+			high[i] = coordinate == null ? Double.NaN : toDouble(coordinate.getY2());
+		}
+		if (!isSorted(x, n)) {
+			return null;
+		}
+		return envelope(x, low, high, n, buckets);
+	}
+
+	private List<?> downsampleDoubles(final DoubleSeries series, final DownsamplingAlgorithm algorithm,
+			final int buckets) {
+		int n = series.size();
+		if (n <= buckets * algorithm.getPointsPerBucket()) {
+			return null;
+		}
+		double start = toDouble(series.getPointStart(), 0);
+		double interval = toDouble(series.getPointInterval(), 1);
+		double[] x = new double[n];
+		double[] y = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = start + i * interval;
+			y[i] = series.getY(i);
+		}
+		if (!isSorted(x, n)) {
+			return null;
+		}
+		return coordinates(x, y, select(x, y, n, algorithm, buckets));
+	}
+
+	private List<?> downsampleXYDoubles(final XYDoubleSeries series, final DownsamplingAlgorithm algorithm,
+			final int buckets) {
+		int n = series.size();
+		boolean range = series.isRange();
+		if (n <= buckets * (range ? 1 : algorithm.getPointsPerBucket())) {
+			return null;
+		}
+		double[] x = new double[n];
+		double[] y = new double[n];
+		double[] high = range ? new double[n] : null;
+		for (int i = 0; i < n; i++) {
+			x[i] = series.getX(i);
+			if (range) {
+				y[i] = series.getLow(i);
+				high[i] = series.getHigh(i);
+			} else {
+				y[i] = series.getY(i);
+			}
+		}
+		if (!isSorted(x, n)) {
+			return null;
+		}
+		if (range) {
+			return envelope(x, y, high, n, buckets);
+		}
+		return coordinates(x, y, select(x, y, n, algorithm, buckets));
+	}
+
+	private static List<?> envelope(final double[] x, final double[] low, final double[] high, final int n,
+			final int buckets) {
+		double[] outX = new double[buckets];
+		double[] outLow = new double[buckets];
+		double[] outHigh = new double[buckets];
+		int count = Downsampler.envelope(x, low, high, n, buckets, outX, outLow, outHigh);
+		List<RangeCoordinate<Number, Number, Number>> result = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			result.add(new RangeCoordinate<Number, Number, Number>(toNumber(outX[i]), toNumber(outLow[i]),
+					toNumber(outHigh[i])));
+		}
+		return result;
+	}
+
+	private static List<?> coordinates(final double[] x, final double[] y, final int[] selected) {
+		if (selected.length == x.length) {
+			return null;
+		}
+		List<Coordinate<Number, Number>> result = new ArrayList<>(selected.length);
+		for (int index : selected) {
+			result.add(new Coordinate<Number, Number>(toNumber(x[index]), toNumber(y[index])));
+		}
+		return result;
+	}
+
+	private static int[] select(final double[] x, final double[] y, final int n,
+			final DownsamplingAlgorithm algorithm, final int buckets) {
+		switch (algorithm) {
+			case LTTB:
+				return Downsampler.lttb(x, y, n, buckets);
+			case M4:
+				return Downsampler.m4(x, y, n, buckets, true);
+			case MIN_MAX:
+				return Downsampler.m4(x, y, n, buckets, false);
+			default:
+				throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+		}
+	}
+
+	private static boolean isSorted(final double[] x, final int n) {
+		for (int i = 1; i < n; i++) {
+			if (!(x[i] >= x[i - 1])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static double toDouble(final Object value) {
+		return value instanceof Number ? ((Number) value).doubleValue() : Double.NaN;
+	}
+
+	private static double toDouble(final Number value, final double defaultValue) {
+		return value == null ? defaultValue : value.doubleValue();
+	}
+
+	/**
+	 * Converts a calculated value back into a {@link Number}, using a
+	 * {@link Long} for integral values so that they are rendered without a
+	 * fraction.
+	 */
+	private static Number toNumber(final double value) {
+		if (Double.isNaN(value)) {
+			return null;
+		}
+		if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+			return (long) value;
+		}
+		return value;
+	}
+
+}
@@ -0,0 +1,94 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.processing;
+
+import de.adesso.wickedcharts.highcharts.options.Axis;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import de.adesso.wickedcharts.highcharts.options.series.Series;
+
+/**
+ * Visitor for the elements of an {@link Options} object. An
+ * {@link IOptionsProcessor} that implements this interface is not called via
+ * {@link IOptionsProcessor#processOptions(Options, OptionsProcessorContext)} by
+ * an {@link OptionsProcessingPipeline}. Instead, it is called back for the
+ * types of elements it is interested in while the pipeline traverses the
+ * options, which is done once for all consecutive visitors.
+ *
+ * All methods have an empty default implementation, so that a visitor only
+ * needs to implement the callbacks for the elements it needs.
+ */
+public interface IOptionsVisitor {
+
+	/**
+	 * Called before the elements of the given {@link Options} are visited.
+	 *
+	 * @param options
+	 *          the {@link Options} to visit.
+	 * @param context
+	 *          the context of the current processing run.
+	 * @return true, if the elements of the options should be visited, false if
+	 *         this visitor is not interested in them.
+	 */
+	default boolean beginVisit(final Options options, final OptionsProcessorContext context) {
+		return true;
+	}
+
+	/**
+	 * Called for each {@link Series} of the options.
+	 *
+	 * @param series
+	 *          the series.
+	 * @param seriesIndex
+	 *          the index of the series within the options.
+	 * @return true, if the {@link Point}s of the series should be visited.
+	 */
+	default boolean visitSeries(final Series<?> series, final int seriesIndex) {
+		return false;
+	}
+
+	/**
+	 * Called for each {@link Point} of a series for which
+	 * {@link #visitSeries(Series, int)} returned true.
+	 *
+	 * @param point
+	 *          the point.
+	 * @param seriesIndex
+	 *          the index of the series containing the point.
+	 */
+	default void visitPoint(final Point point, final int seriesIndex) {
+	}
+
+	/**
+	 * Called for each x and y {@link Axis} of the options.
+	 *
+	 * @param axis
+	 *          the axis.
+	 */
+	default void visitAxis(final Axis axis) {
+	}
+
+	/**
+	 * Called after all elements of the given {@link Options} have been visited.
+	 * Only called if {@link #beginVisit(Options, OptionsProcessorContext)}
+	 * returned true.
+	 *
+	 * @param options
+	 *          the visited {@link Options}.
+	 */
+	default void endVisit(final Options options) {
+	}
+
+}
@@ -15,57 +15,177 @@
 package de.adesso.wickedcharts.highcharts.options.processing;
 
 import de.adesso.wickedcharts.highcharts.options.Axis;
+import de.adesso.wickedcharts.highcharts.options.Events;
+import de.adesso.wickedcharts.highcharts.options.Function;
 import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.PlotOptions;
+import de.adesso.wickedcharts.highcharts.options.PlotOptionsChoice;
+import de.adesso.wickedcharts.highcharts.options.SeriesType;
+import de.adesso.wickedcharts.highcharts.options.interaction.InteractionFunction;
 import de.adesso.wickedcharts.highcharts.options.series.Point;
 import de.adesso.wickedcharts.highcharts.options.series.Series;
+import java.util.Collections;
 
 /**
- * This {@link IOptionsProcessor} assigns a unique ID to all {@link Series},
+ * This {@link IOptionsProcessor} assigns a unique ID to the {@link Series},
  * {@link Axis} and {@link Point}s that are contained in an {@link Options}
- * object.
+ * object, as far as they are needed by the features of the options:
+ *
+ * <ul>
+ * <li>series get an ID if the options contain live data or interaction,</li>
+ * <li>axes get an ID if the options contain selection,</li>
+ * <li>points get an ID if an {@link InteractionFunction} is registered as
+ * point event handler for their series or for themselves.</li>
+ * </ul>
  *
  * After this processor has processed an {@link Options} object, you can
  * retrieve the assigned IDs by calling getWickedChartsId() on the
- * {@link Series} and {@link Point}s.
+ * {@link Series} and {@link Point}s. The processor also stores a
+ * {@link WickedChartsIdIndex} in the options, which is used to look the
+ * elements up by their IDs.
+ *
+ * IDs are stable: processing the same options again keeps the IDs assigned
+ * before and assigns new IDs only to new elements. IDs of removed elements are
+ * not reused, so the IDs in use may become sparse when elements are replaced.
  * 
  * @author Tom Hombergs (tom.hombergs@gmail.com)
  * 
  */
-public class IdGeneratorProcessor implements IOptionsProcessor {
+public class IdGeneratorProcessor implements IOptionsProcessor, IOptionsVisitor {
 
 	private int currentId = 0;
 
+	private WickedChartsIdIndex previousIndex;
+
+	private WickedChartsIdIndex index;
+
+	private Options options;
+
+	private boolean seriesIds;
+
+	private boolean pointIds;
+
+	private boolean axisIds;
+
+	private boolean allPoints;
+
 	@Override
 	public void processOptions(final Options options, final OptionsProcessorContext context) {
-		if (options.getSeries() != null) {
-			for (Series<?> series : options.getSeries()) {
-				series.setWickedChartsId(++this.currentId);
-
-				if (series.getData() != null) {
-					for (Object object : series.getData()) {
-						if (!(object instanceof Point)) {
-							break;
-						} else {
-							Point point = (Point) object;
-							point.setWickedChartsId(++this.currentId);
-						}
-					}
-				}
-			}
+		OptionsProcessingPipeline.traverse(options, context, Collections.singletonList(this));
+	}
+
+	@Override
+	public boolean beginVisit(final Options options, final OptionsProcessorContext context) {
+		this.seriesIds = context.containsFeature(Feature.LIVEDATA) || context.containsFeature(Feature.INTERACTION);
+		this.pointIds = context.containsFeature(Feature.INTERACTION);
+		this.axisIds = context.containsFeature(Feature.SELECTION);
+		if (!this.seriesIds && !this.pointIds && !this.axisIds) {
+			return false;
+		}
+
+		this.options = options;
+		this.previousIndex = options.getWickedChartsIdIndex();
+		if (this.previousIndex != null) {
+			this.currentId = Math.max(this.currentId, this.previousIndex.getMaxId());
+		}
+		this.index = new WickedChartsIdIndex(this.previousIndex != null ? this.previousIndex.size() : 16);
+		return true;
+	}
+
+	@Override
+	public boolean visitSeries(final Series<?> series, final int seriesIndex) {
+		if (this.seriesIds) {
+			series.setWickedChartsId(register(series.getWickedChartsId(), series, seriesIndex));
+		}
+		if (this.pointIds) {
+			this.allPoints = hasPointInteraction(this.options, series);
+		}
+		return this.pointIds;
+	}
 
+	@Override
+	public void visitPoint(final Point point, final int seriesIndex) {
+		if (this.allPoints || hasInteraction(point.getEvents())) {
+			point.setWickedChartsId(register(point.getWickedChartsId(), point, seriesIndex));
 		}
+	}
 
-		if (options.getxAxis() != null) {
-			for (Axis axis : options.getxAxis()) {
-				axis.setWickedChartsId(++this.currentId);
-			}
+	@Override
+	public void visitAxis(final Axis axis) {
+		if (this.axisIds) {
+			axis.setWickedChartsId(register(axis.getWickedChartsId(), axis, WickedChartsIdIndex.NO_SERIES));
 		}
+	}
 
-		if (options.getyAxis() != null) {
-			for (Axis axis : options.getyAxis()) {
-				axis.setWickedChartsId(++this.currentId);
-			}
+	@Override
+	public void endVisit(final Options options) {
+		this.index.trimToSize();
+		options.setWickedChartsIdIndex(this.index);
+		this.previousIndex = null;
+		this.options = null;
+	}
+
+	/**
+	 * Adds an element to the index. The element keeps the ID it got when the
+	 * options were processed before. Other elements, including elements that
+	 * carry an ID copied from another element, get a new ID.
+	 *
+	 * @return the ID of the element.
+	 */
+	private int register(final Integer wickedChartsId, final Object element, final int seriesIndex) {
+		int id;
+		if (wickedChartsId != null && this.previousIndex != null && this.previousIndex.get(wickedChartsId) == element) {
+			id = wickedChartsId;
+		} else {
+			id = ++this.currentId;
+		}
+		this.index.put(id, element, seriesIndex);
+		return id;
+	}
+
+	/**
+	 * @return true, if an {@link InteractionFunction} is registered as point
+	 *         event handler for all points of the given series.
+	 */
+	private static boolean hasPointInteraction(final Options options, final Series<?> series) {
+		PlotOptionsChoice plotOptions = options.getPlotOptions();
+		if (plotOptions == null) {
+			return false;
+		}
+		if (hasPointInteraction(plotOptions.getSeries())) {
+			return true;
 		}
+		SeriesType type = series.getType();
+		if (type == null && options.getChartOptions() != null) {
+			type = options.getChartOptions().getType();
+		}
+		if (type == null) {
+			return false;
+		}
+		try {
+			return hasPointInteraction(plotOptions.getPlotOptions(type));
+		} catch (IllegalArgumentException e) {
+			// there are no plot options for this series type
+			return false;
+		}
+	}
+
+	private static boolean hasPointInteraction(final PlotOptions plotOptions) {
+		return plotOptions != null && plotOptions.getPoint() != null && hasInteraction(plotOptions.getPoint().getEvents());
+	}
+
+	private static boolean hasInteraction(final Events events) {
+		if (events == null) {
+			return false;
+		}
+		return isInteraction(events.getClick()) || isInteraction(events.getMouseOver())
+				|| isInteraction(events.getMouseOut()) || isInteraction(events.getSelect())
+				|| isInteraction(events.getUnselect()) || isInteraction(events.getUpdate())
+				|| isInteraction(events.getRemove());
+	}
+
+	private static boolean isInteraction(final Function function) {
+		return function instanceof InteractionFunction;
 	}
 
 }
@@ -0,0 +1,211 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.processing;
+
+import de.adesso.wickedcharts.highcharts.options.Axis;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.series.DoubleSeries;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import de.adesso.wickedcharts.highcharts.options.series.Series;
+import de.adesso.wickedcharts.highcharts.options.series.XYDoubleSeries;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies a list of {@link IOptionsProcessor}s to an {@link Options} object.
+ *
+ * The processors are applied in the given order. Consecutive processors that
+ * implement {@link IOptionsVisitor} are applied in a single traversal of the
+ * options instead of each walking the options on its own. The
+ * {@link OptionsProcessorContext} is built again after each processor that is
+ * not a visitor, so that it contains the functions and series such a processor
+ * has added to the options, e.g. a processor contributed via the service
+ * loader.
+ *
+ * The pipeline remembers the options and the version it processed last. As
+ * long as the same options object is processed with the same (non-null)
+ * version again, the processing run is skipped and the context of the last run
+ * is kept, so that e.g. callbacks registered by the processors are not
+ * registered again.
+ *
+ * This class is not part of the public API!
+ */
+public class OptionsProcessingPipeline implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private Options processedOptions;
+
+	private String processedVersion;
+
+	private OptionsProcessorContext context;
+
+	/**
+	 * Returns true if the given options have already been processed in the
+	 * given version.
+	 *
+	 * @param options
+	 *          the options to check.
+	 * @param version
+	 *          the version of the options, usually derived from
+	 *          {@link Options#getVersion()}. Options without a version are never
+	 *          up to date.
+	 * @return true, if processing the options again can be skipped.
+	 */
+	public boolean isUpToDate(final Options options, final String version) {
+		return version != null && options == this.processedOptions && version.equals(this.processedVersion);
+	}
+
+	/**
+	 * Processes the given options unless they are up to date (see
+	 * {@link #isUpToDate(Options, String)}).
+	 *
+	 * @param options
+	 *          the options to process.
+	 * @param version
+	 *          the version of the options. May be null.
+	 * @param processors
+	 *          the processors to apply, in order.
+	 * @return the context of the processing run.
+	 */
+	public OptionsProcessorContext process(final Options options, final String version,
+			final List<? extends IOptionsProcessor> processors) {
+		if (isUpToDate(options, version)) {
+			return this.context;
+		}
+		OptionsProcessorContext newContext = new OptionsProcessorContext(options);
+		List<IOptionsVisitor> visitors = new ArrayList<IOptionsVisitor>();
+		for (IOptionsProcessor processor : processors) {
+			if (processor instanceof IOptionsVisitor) {
+				visitors.add((IOptionsVisitor) processor);
+			} else {
+				traverse(options, newContext, visitors);
+				visitors.clear();
+				processor.processOptions(options, newContext);
+				newContext = new OptionsProcessorContext(options);
+			}
+		}
+		traverse(options, newContext, visitors);
+
+		this.processedOptions = options;
+		this.processedVersion = version;
+		this.context = newContext;
+		return newContext;
+	}
+
+	/**
+	 * Returns the context of the last processing run, if it processed the given
+	 * options, or a new context for the options otherwise.
+	 *
+	 * @param options
+	 *          the options.
+	 * @return the context for the options.
+	 */
+	public OptionsProcessorContext getContext(final Options options) {
+		if (this.context == null || options != this.processedOptions) {
+			return new OptionsProcessorContext(options);
+		}
+		return this.context;
+	}
+
+	/**
+	 * Forgets the last processing run, so that the next call to
+	 * {@link #process(Options, String, List)} processes the options again.
+	 */
+	public void invalidate() {
+		this.processedOptions = null;
+		this.processedVersion = null;
+		this.context = null;
+	}
+
+	/**
+	 * Traverses the given options once and calls the given visitors for each
+	 * element they are interested in.
+	 *
+	 * @param options
+	 *          the options to traverse.
+	 * @param context
+	 *          the context of the current processing run.
+	 * @param visitors
+	 *          the visitors.
+	 */
+	public static void traverse(final Options options, final OptionsProcessorContext context,
+			final List<? extends IOptionsVisitor> visitors) {
+		if (visitors.isEmpty()) {
+			return;
+		}
+		List<IOptionsVisitor> activeVisitors = new ArrayList<IOptionsVisitor>(visitors.size());
+		for (IOptionsVisitor visitor : visitors) {
+			if (visitor.beginVisit(options, context)) {
+				activeVisitors.add(visitor);
+			}
+		}
+		if (activeVisitors.isEmpty()) {
+			return;
+		}
+
+		if (options.getSeries() != null) {
+			List<IOptionsVisitor> pointVisitors = new ArrayList<IOptionsVisitor>(activeVisitors.size());
+			int seriesIndex = 0;
+			for (Series<?> series : options.getSeries()) {
+				pointVisitors.clear();
+				for (IOptionsVisitor visitor : activeVisitors) {
+					if (visitor.visitSeries(series, seriesIndex)) {
+						pointVisitors.add(visitor);
+					}
+				}
+				if (!pointVisitors.isEmpty()) {
+					visitPoints(series, seriesIndex, pointVisitors);
+				}
+				seriesIndex++;
+			}
+		}
+
+		visitAxes(options.getxAxis(), activeVisitors);
+		visitAxes(options.getyAxis(), activeVisitors);
+
+		for (IOptionsVisitor visitor : activeVisitors) {
+			visitor.endVisit(options);
+		}
+	}
+
+	private static void visitPoints(final Series<?> series, final int seriesIndex, final List<IOptionsVisitor> visitors) {
+		// columnar series never contain point objects
+		if (series instanceof DoubleSeries || series instanceof XYDoubleSeries || series.getData() == null) {
+			return;
+		}
+		for (Object object : series.getData()) {
+			if (!(object instanceof Point)) {
+				return;
+			}
+			for (IOptionsVisitor visitor : visitors) {
+				visitor.visitPoint((Point) object, seriesIndex);
+			}
+		}
+	}
+
+	private static void visitAxes(final List<Axis> axes, final List<IOptionsVisitor> visitors) {
+		if (axes == null) {
+			return;
+		}
+		for (Axis axis : axes) {
+			for (IOptionsVisitor visitor : visitors) {
+				visitor.visitAxis(axis);
+			}
+		}
+	}
+
+}
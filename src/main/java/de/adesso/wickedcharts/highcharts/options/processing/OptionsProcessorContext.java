@@ -23,7 +23,9 @@ import de.adesso.wickedcharts.highcharts.options.interaction.SelectionFunction;
 import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataSeries;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A context object that holds some context variables that may be needed by
@@ -40,6 +42,12 @@ public class OptionsProcessorContext implements Serializable {
 
 	private final List<Options> drilldownOptions = new ArrayList<Options>();
 
+	/**
+	 * Index of each drilldown {@link Options} object within
+	 * {@link #drilldownOptions}, by identity.
+	 */
+	private final Map<Options, Integer> drilldownOptionsIndex = new IdentityHashMap<Options, Integer>();
+
 	private final List<LiveDataSeries> liveDataSeries = new ArrayList<LiveDataSeries>();
 
 	private final Global global;
@@ -84,11 +92,14 @@ public class OptionsProcessorContext implements Serializable {
 		List<? extends IProcessableOption> drilldownPoints = options.getMarkedForProcessing(DrilldownPoint.PROCESSING_KEY);
 		for (DrilldownPoint drilldownPoint : (List<DrilldownPoint>) drilldownPoints) {
 			Options drilldownOptions = drilldownPoint.getDrilldownOptions();
-			if (!getDrilldownOptions().contains(drilldownOptions)) {
+			Integer index = this.drilldownOptionsIndex.get(drilldownOptions);
+			if (index == null) {
+				index = getDrilldownOptions().size();
 				getDrilldownOptions().add(drilldownOptions);
+				this.drilldownOptionsIndex.put(drilldownOptions, index);
 				collectDrilldownOptions(drilldownOptions);
 			}
-			drilldownPoint.setDrilldownOptionsIndex(getDrilldownOptions().indexOf(drilldownOptions));
+			drilldownPoint.setDrilldownOptionsIndex(index);
 		}
 	}
 
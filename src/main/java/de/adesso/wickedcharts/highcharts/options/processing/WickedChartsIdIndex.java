@@ -0,0 +1,157 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.processing;
+
+import de.adesso.wickedcharts.highcharts.options.Axis;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import de.adesso.wickedcharts.highcharts.options.series.Series;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Index of the {@link Series}, {@link Point}s and {@link Axis} of an
+ * {@link Options} object by their wickedChartsId. The index is built by the
+ * {@link IdGeneratorProcessor}.
+ *
+ * IDs are stable across processing, so when elements are replaced, the IDs in
+ * use become sparse and keep growing. The index therefore only stores the IDs
+ * in use, sorted, and looks them up by binary search. Its size is
+ * proportional to the number of indexed elements, not to the highest ID.
+ *
+ * The index reflects the options at the time they were processed. Elements
+ * added afterwards are not contained until the options are processed again.
+ */
+public class WickedChartsIdIndex implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	static final int NO_SERIES = -1;
+
+	private int[] ids;
+
+	private Object[] elements;
+
+	private int[] seriesIndices;
+
+	private int size;
+
+	private int maxId;
+
+	WickedChartsIdIndex(final int expectedSize) {
+		this.ids = new int[expectedSize];
+		this.elements = new Object[expectedSize];
+		this.seriesIndices = new int[expectedSize];
+	}
+
+	/**
+	 * @return the highest ID in this index.
+	 */
+	public int getMaxId() {
+		return this.maxId;
+	}
+
+	/**
+	 * @return the number of elements in this index.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return the series with the given ID or null, if there is none.
+	 */
+	public Series<?> getSeries(final int wickedChartsId) {
+		Object element = get(wickedChartsId);
+		return element instanceof Series ? (Series<?>) element : null;
+	}
+
+	/**
+	 * @return the point with the given ID or null, if there is none.
+	 */
+	public Point getPoint(final int wickedChartsId) {
+		Object element = get(wickedChartsId);
+		return element instanceof Point ? (Point) element : null;
+	}
+
+	/**
+	 * @return the axis with the given ID or null, if there is none.
+	 */
+	public Axis getAxis(final int wickedChartsId) {
+		Object element = get(wickedChartsId);
+		return element instanceof Axis ? (Axis) element : null;
+	}
+
+	/**
+	 * Returns the (0-based) index of the series with the given ID or of the
+	 * series containing the point with the given ID.
+	 *
+	 * @return the index of the series or -1, if there is no such series or
+	 *         point.
+	 */
+	public int getSeriesIndex(final int wickedChartsId) {
+		int position = Arrays.binarySearch(this.ids, 0, this.size, wickedChartsId);
+		return position < 0 ? NO_SERIES : this.seriesIndices[position];
+	}
+
+	Object get(final int wickedChartsId) {
+		int position = Arrays.binarySearch(this.ids, 0, this.size, wickedChartsId);
+		return position < 0 ? null : this.elements[position];
+	}
+
+	/**
+	 * Adds an element. The index has to be sorted via {@link #trimToSize()}
+	 * before elements can be looked up.
+	 */
+	void put(final int wickedChartsId, final Object element, final int seriesIndex) {
+		if (this.size == this.ids.length) {
+			int capacity = Math.max(16, this.ids.length * 2);
+			this.ids = Arrays.copyOf(this.ids, capacity);
+			this.elements = Arrays.copyOf(this.elements, capacity);
+			this.seriesIndices = Arrays.copyOf(this.seriesIndices, capacity);
+		}
+		this.ids[this.size] = wickedChartsId;
+		this.elements[this.size] = element;
+		this.seriesIndices[this.size] = seriesIndex;
+		this.size++;
+		this.maxId = Math.max(this.maxId, wickedChartsId);
+	}
+
+	/**
+	 * Sorts the elements by their IDs and shrinks the arrays of the index to
+	 * the number of elements.
+	 */
+	void trimToSize() {
+		// sort the positions by ID, packing both into one long
+		long[] order = new long[this.size];
+		for (int i = 0; i < this.size; i++) {
+			order[i] = ((long) this.ids[i] << 32) | i;
+		}
+		Arrays.sort(order);
+		int[] sortedIds = new int[this.size];
+		Object[] sortedElements = new Object[this.size];
+		int[] sortedSeriesIndices = new int[this.size];
+		for (int i = 0; i < this.size; i++) {
+			int position = (int) order[i];
+			sortedIds[i] = this.ids[position];
+			sortedElements[i] = this.elements[position];
+			sortedSeriesIndices[i] = this.seriesIndices[position];
+		}
+		this.ids = sortedIds;
+		this.elements = sortedElements;
+		this.seriesIndices = sortedSeriesIndices;
+	}
+
+}
@@ -0,0 +1,129 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.series;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A growable column of primitive double values. Used by the columnar series
+ * types {@link DoubleSeries} and {@link XYDoubleSeries} to store their data
+ * without boxing each value.
+ */
+public class DoubleColumn implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private double[] values;
+
+	private int size;
+
+	public DoubleColumn() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a column that can hold the given number of values before it
+	 * has to grow.
+	 *
+	 * @param initialCapacity
+	 *          the initial capacity of the column.
+	 */
+	public DoubleColumn(final int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must not be negative!");
+		}
+		this.values = new double[initialCapacity];
+	}
+
+	public DoubleColumn append(final double value) {
+		ensureCapacity(this.size + 1);
+		this.values[this.size++] = value;
+		return this;
+	}
+
+	public DoubleColumn append(final double[] values, final int offset, final int length) {
+		ensureCapacity(this.size + length);
+		System.arraycopy(values, offset, this.values, this.size, length);
+		this.size += length;
+		return this;
+	}
+
+	public DoubleColumn append(final long[] values, final int offset, final int length) {
+		ensureCapacity(this.size + length);
+		for (int i = 0; i < length; i++) {
+			this.values[this.size++] = values[offset + i];
+		}
+		return this;
+	}
+
+	public double get(final int index) {
+		checkIndex(index);
+		return this.values[index];
+	}
+
+	public DoubleColumn set(final int index, final double value) {
+		checkIndex(index);
+		this.values[index] = value;
+		return this;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public void clear() {
+		this.size = 0;
+	}
+
+	/**
+	 * Makes sure the column can hold the given number of values without growing
+	 * again.
+	 *
+	 * @param capacity
+	 *          the minimum capacity.
+	 */
+	public void ensureCapacity(final int capacity) {
+		if (capacity > this.values.length) {
+			int newCapacity = Math.max(capacity, this.values.length + (this.values.length >> 1) + 1);
+			this.values = Arrays.copyOf(this.values, newCapacity);
+		}
+	}
+
+	/**
+	 * Shrinks the backing array to the number of values in this column.
+	 */
+	public void trimToSize() {
+		if (this.values.length > this.size) {
+			this.values = Arrays.copyOf(this.values, this.size);
+		}
+	}
+
+	/**
+	 * @return a copy of the values of this column.
+	 */
+	public double[] toArray() {
+		return Arrays.copyOf(this.values, this.size);
+	}
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+	}
+
+}
@@ -0,0 +1,131 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.series;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A series containing simple numbers, like {@link SimpleSeries}, but backed by
+ * a primitive {@link DoubleColumn} instead of a list of boxed {@link Number}s.
+ * Use this series for large amounts of data.
+ *
+ * {@link Double#NaN} values are rendered as null, i.e. as a gap in the chart.
+ *
+ * @see <a
+ *      href="http://api.highcharts.com/highcharts#series.data">http://api.highcharts.com/highcharts#series.data</a>
+ */
+public class DoubleSeries extends Series<Number> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final DoubleColumn y = new DoubleColumn();
+
+	public DoubleSeries addPoint(final double y) {
+		this.y.append(y);
+		return this;
+	}
+
+	@Override
+	public DoubleSeries addPoint(final Number y) {
+		this.y.append(toDouble(y));
+		return this;
+	}
+
+	public DoubleSeries addPoints(final double... values) {
+		return addPoints(values, 0, values.length);
+	}
+
+	public DoubleSeries addPoints(final double[] values, final int offset, final int length) {
+		this.y.append(values, offset, length);
+		return this;
+	}
+
+	/**
+	 * @return the number of points in this series.
+	 */
+	public int size() {
+		return this.y.size();
+	}
+
+	public double getY(final int index) {
+		return this.y.get(index);
+	}
+
+	/**
+	 * Returns a read-only view of the data of this series. Each access to an
+	 * element of the view boxes the value, so you should prefer
+	 * {@link #getY(int)} when iterating over large series.
+	 */
+	@Override
+	public List<Number> getData() {
+		return new DataView(this);
+	}
+
+	@Override
+	public DoubleSeries setData(final List<Number> data) {
+		this.y.clear();
+		this.y.ensureCapacity(data.size());
+		for (Number number : data) {
+			this.y.append(toDouble(number));
+		}
+		return this;
+	}
+
+	@Override
+	public DoubleSeries setData(final Number... data) {
+		return setData(Arrays.asList(data));
+	}
+
+	public DoubleSeries setData(final double... data) {
+		this.y.clear();
+		return addPoints(data);
+	}
+
+	private static double toDouble(final Number number) {
+		return number == null ? Double.NaN : number.doubleValue();
+	}
+
+	/**
+	 * Read-only {@link List} view of the data of a {@link DoubleSeries}. This
+	 * class is not part of the public API!
+	 */
+	public static final class DataView extends AbstractList<Number> implements RandomAccess {
+
+		private final DoubleSeries series;
+
+		DataView(final DoubleSeries series) {
+			this.series = series;
+		}
+
+		public DoubleSeries getSeries() {
+			return this.series;
+		}
+
+		@Override
+		public Number get(final int index) {
+			double value = this.series.getY(index);
+			return Double.isNaN(value) ? null : value;
+		}
+
+		@Override
+		public int size() {
+			return this.series.size();
+		}
+	}
+
+}
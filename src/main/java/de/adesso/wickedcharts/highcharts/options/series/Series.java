@@ -124,6 +124,38 @@ public abstract class Series<D> implements Serializable {
 		return this;
 	}
 
+	/**
+	 * Copies all properties except the data from the given series into this
+	 * series. Can be used to convert a series into a series of another type.
+	 *
+	 * @param template
+	 *          the series to copy the properties from.
+	 */
+	public void copyFrom(final Series<?> template) {
+		this.pointPadding = template.pointPadding;
+		this.name = template.name;
+		this.type = template.type;
+		this.legendIndex = template.legendIndex;
+		this.stack = template.stack;
+		this.xAxis = template.xAxis;
+		this.yAxis = template.yAxis;
+		this.marker = template.marker;
+		this.size = template.size;
+		this.showInLegend = template.showInLegend;
+		this.dataLabels = template.dataLabels;
+		this.color = template.color;
+		this.center = template.center;
+		this.innerSize = template.innerSize;
+		this.pointInterval = template.pointInterval;
+		this.pointStart = template.pointStart;
+		this.pointPlacement = template.pointPlacement;
+		this.tooltip = template.tooltip;
+		this.dashStyle = template.dashStyle;
+		this.states = template.states;
+		this.enableMouseTracking = template.enableMouseTracking;
+		this.wickedChartsId = template.wickedChartsId;
+	}
+
     public Float getPointPadding() {
         return pointPadding;
     }
@@ -0,0 +1,238 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.series;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A series of x values with either a y value (like {@link CoordinatesSeries})
+ * or a low and a high value (like {@link RangeSeries}) each. The values are
+ * stored in primitive {@link DoubleColumn}s instead of a list of point objects.
+ * Use this series for large amounts of data.
+ *
+ * Which kind of points a series contains is determined by the first point
+ * added. Mixing both kinds in one series is not allowed. Integral x values
+ * (e.g. timestamps) are rendered without a fraction, {@link Double#NaN} values
+ * are rendered as null.
+ *
+ * @see <a
+ *      href="http://api.highcharts.com/highcharts#series.data">http://api.highcharts.com/highcharts#series.data</a>
+ */
+public class XYDoubleSeries extends Series<double[]> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final DoubleColumn x = new DoubleColumn();
+
+	private DoubleColumn y;
+
+	private DoubleColumn low;
+
+	private DoubleColumn high;
+
+	public XYDoubleSeries addPoint(final double x, final double y) {
+		yColumn().append(y);
+		this.x.append(x);
+		return this;
+	}
+
+	public XYDoubleSeries addRangePoint(final double x, final double low, final double high) {
+		lowColumn().append(low);
+		this.high.append(high);
+		this.x.append(x);
+		return this;
+	}
+
+	/**
+	 * Adds a point given as array of either two (x, y) or three (x, low, high)
+	 * values.
+	 */
+	@Override
+	public XYDoubleSeries addPoint(final double[] point) {
+		if (point.length == 2) {
+			return addPoint(point[0], point[1]);
+		} else if (point.length == 3) {
+			return addRangePoint(point[0], point[1], point[2]);
+		} else {
+			throw new IllegalArgumentException("A point must consist of either two or three values!");
+		}
+	}
+
+	public XYDoubleSeries addPoints(final double[] x, final double[] y) {
+		checkLength(x.length, y.length);
+		yColumn().append(y, 0, y.length);
+		this.x.append(x, 0, x.length);
+		return this;
+	}
+
+	/**
+	 * Adds a bulk of points with integral x values, e.g. timestamps.
+	 */
+	public XYDoubleSeries addPoints(final long[] x, final double[] y) {
+		checkLength(x.length, y.length);
+		yColumn().append(y, 0, y.length);
+		this.x.append(x, 0, x.length);
+		return this;
+	}
+
+	public XYDoubleSeries addRangePoints(final double[] x, final double[] low, final double[] high) {
+		checkLength(x.length, low.length);
+		checkLength(x.length, high.length);
+		lowColumn().append(low, 0, low.length);
+		this.high.append(high, 0, high.length);
+		this.x.append(x, 0, x.length);
+		return this;
+	}
+
+	public XYDoubleSeries addRangePoints(final long[] x, final double[] low, final double[] high) {
+		checkLength(x.length, low.length);
+		checkLength(x.length, high.length);
+		lowColumn().append(low, 0, low.length);
+		this.high.append(high, 0, high.length);
+		this.x.append(x, 0, x.length);
+		return this;
+	}
+
+	/**
+	 * @return true, if this series contains (x, low, high) points, false if it
+	 *         contains (x, y) points or no points at all.
+	 */
+	@JsonIgnore
+	public boolean isRange() {
+		return this.low != null;
+	}
+
+	/**
+	 * @return the number of points in this series.
+	 */
+	public int size() {
+		return this.x.size();
+	}
+
+	public double getX(final int index) {
+		return this.x.get(index);
+	}
+
+	public double getY(final int index) {
+		if (this.y == null) {
+			throw new IllegalStateException("This series does not contain y values!");
+		}
+		return this.y.get(index);
+	}
+
+	public double getLow(final int index) {
+		if (this.low == null) {
+			throw new IllegalStateException("This series does not contain low values!");
+		}
+		return this.low.get(index);
+	}
+
+	public double getHigh(final int index) {
+		if (this.high == null) {
+			throw new IllegalStateException("This series does not contain high values!");
+		}
+		return this.high.get(index);
+	}
+
+	/**
+	 * Returns a read-only view of the data of this series. Each access to an
+	 * element of the view creates a new array, so you should prefer the
+	 * primitive getters when iterating over large series.
+	 */
+	@Override
+	public List<double[]> getData() {
+		return new DataView(this);
+	}
+
+	@Override
+	public XYDoubleSeries setData(final List<double[]> data) {
+		this.x.clear();
+		this.y = null;
+		this.low = null;
+		this.high = null;
+		for (double[] point : data) {
+			addPoint(point);
+		}
+		return this;
+	}
+
+	@Override
+	public XYDoubleSeries setData(final double[]... data) {
+		return setData(Arrays.asList(data));
+	}
+
+	private DoubleColumn yColumn() {
+		if (this.low != null) {
+			throw new IllegalStateException("Cannot add (x, y) points to a series containing (x, low, high) points!");
+		}
+		if (this.y == null) {
+			this.y = new DoubleColumn();
+		}
+		return this.y;
+	}
+
+	private DoubleColumn lowColumn() {
+		if (this.y != null) {
+			throw new IllegalStateException("Cannot add (x, low, high) points to a series containing (x, y) points!");
+		}
+		if (this.low == null) {
+			this.low = new DoubleColumn();
+			this.high = new DoubleColumn();
+		}
+		return this.low;
+	}
+
+	private static void checkLength(final int expected, final int actual) {
+		if (expected != actual) {
+			throw new IllegalArgumentException("All value arrays must have the same length!");
+		}
+	}
+
+	/**
+	 * Read-only {@link List} view of the data of a {@link XYDoubleSeries}. This
+	 * class is not part of the public API!
+	 */
+	public static final class DataView extends AbstractList<double[]> implements RandomAccess {
+
+		private final XYDoubleSeries series;
+
+		DataView(final XYDoubleSeries series) {
+			this.series = series;
+		}
+
+		public XYDoubleSeries getSeries() {
+			return this.series;
+		}
+
+		@Override
+		public double[] get(final int index) {
+			if (this.series.isRange()) {
+				return new double[] { this.series.getX(index), this.series.getLow(index), this.series.getHigh(index) };
+			} else {
+				return new double[] { this.series.getX(index), this.series.getY(index) };
+			}
+		}
+
+		@Override
+		public int size() {
+			return this.series.size();
+		}
+	}
+
+}
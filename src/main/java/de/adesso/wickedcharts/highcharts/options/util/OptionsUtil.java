@@ -21,9 +21,9 @@ import de.adesso.wickedcharts.highcharts.options.Events;
 import de.adesso.wickedcharts.highcharts.options.Function;
 import de.adesso.wickedcharts.highcharts.options.Options;
 import de.adesso.wickedcharts.highcharts.options.SeriesType;
+import de.adesso.wickedcharts.highcharts.options.processing.WickedChartsIdIndex;
 import de.adesso.wickedcharts.highcharts.options.series.Point;
 import de.adesso.wickedcharts.highcharts.options.series.Series;
-import java.util.ArrayList;
 import java.util.List;
 
 public class OptionsUtil {
@@ -169,6 +169,11 @@ public class OptionsUtil {
      * given {@link Options} object. Returns null if a Series with the given ID
      * does not exist.
      *
+     * The series is looked up in the {@link WickedChartsIdIndex} of the options,
+     * if there is one. Since the index reflects the options at the time they
+     * were processed, the series are searched if the index does not contain a
+     * series that is still part of the options.
+     *
      * @param options Chartoptions
      *
      * @param wickedChartsId corresponding ID
@@ -176,8 +181,15 @@ public class OptionsUtil {
      * @return Series object
      */
     public static Series<?> getSeriesWithWickedChartsId(final Options options, final int wickedChartsId) {
+        WickedChartsIdIndex index = options.getWickedChartsIdIndex();
+        if (index != null) {
+            Series<?> series = index.getSeries(wickedChartsId);
+            if (series != null && isSeriesAt(options, index.getSeriesIndex(wickedChartsId), series)) {
+                return series;
+            }
+        }
         for (Series<?> series : options.getSeries()) {
-            if (series.getWickedChartsId() == wickedChartsId) {
+            if (hasWickedChartsId(series.getWickedChartsId(), wickedChartsId)) {
                 return series;
             }
         }
@@ -187,7 +199,8 @@ public class OptionsUtil {
     /**
      * Retrieves the {@link Point} object with the given wickedChartsId from the
      * given {@link Options} object. Returns null if a Point with the given ID
-     * does not exist.
+     * does not exist. Like series, points missing in the index or no longer
+     * part of the options are searched.
      *
      * @param options Chartoptions
      *
@@ -196,13 +209,24 @@ public class OptionsUtil {
      * @return Point object
      */
     public static Point getPointWithWickedChartsId(final Options options, final int wickedChartsId) {
+        WickedChartsIdIndex index = options.getWickedChartsIdIndex();
+        if (index != null) {
+            Point point = index.getPoint(wickedChartsId);
+            if (point != null && hasWickedChartsId(point.getWickedChartsId(), wickedChartsId)
+                    && containsPoint(options, index.getSeriesIndex(wickedChartsId), point)) {
+                return point;
+            }
+        }
         for (Series<?> series : options.getSeries()) {
+            if (series.getData() == null) {
+                continue;
+            }
             for (Object object : series.getData()) {
                 if (!(object instanceof Point)) {
                     break;
                 } else {
                     Point point = (Point) object;
-                    if (point.getWickedChartsId() == wickedChartsId) {
+                    if (hasWickedChartsId(point.getWickedChartsId(), wickedChartsId)) {
                         return point;
                     }
                 }
@@ -212,18 +236,67 @@ public class OptionsUtil {
     }
 
     public static Axis getAxisWithWickedChartsId(final Options options, final int wickedChartsId) {
-        List<Axis> allAxes = new ArrayList<Axis>();
-        allAxes.addAll(options.getxAxis());
-        allAxes.addAll(options.getyAxis());
-
-        for (Axis axis : allAxes) {
-            if (axis.getWickedChartsId() == wickedChartsId) {
+        WickedChartsIdIndex index = options.getWickedChartsIdIndex();
+        if (index != null) {
+            Axis axis = index.getAxis(wickedChartsId);
+            if (axis != null && (containsAxis(options.getxAxis(), axis) || containsAxis(options.getyAxis(), axis))) {
                 return axis;
             }
         }
+        Axis axis = findAxis(options.getxAxis(), wickedChartsId);
+        return axis != null ? axis : findAxis(options.getyAxis(), wickedChartsId);
+    }
+
+    private static Axis findAxis(final List<Axis> axes, final int wickedChartsId) {
+        if (axes != null) {
+            for (Axis axis : axes) {
+                if (hasWickedChartsId(axis.getWickedChartsId(), wickedChartsId)) {
+                    return axis;
+                }
+            }
+        }
         return null;
     }
 
+    private static boolean hasWickedChartsId(final Integer id, final int wickedChartsId) {
+        return id != null && id == wickedChartsId;
+    }
+
+    private static boolean isSeriesAt(final Options options, final int seriesIndex, final Series<?> series) {
+        return options.getSeries() != null && seriesIndex >= 0 && seriesIndex < options.getSeries().size()
+                && options.getSeries().get(seriesIndex) == series;
+    }
+
+    /**
+     * Checks whether the point is still part of the series at the given index.
+     * Only that series is searched.
+     */
+    private static boolean containsPoint(final Options options, final int seriesIndex, final Point point) {
+        if (options.getSeries() == null || seriesIndex < 0 || seriesIndex >= options.getSeries().size()) {
+            return false;
+        }
+        List<?> data = options.getSeries().get(seriesIndex).getData();
+        if (data != null) {
+            for (Object object : data) {
+                if (object == point) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsAxis(final List<Axis> axes, final Axis axis) {
+        if (axes != null) {
+            for (Axis candidate : axes) {
+                if (candidate == axis) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns the (0-based) index of the series with the given wickedChartsId or
      * null.
@@ -238,8 +311,17 @@ public class OptionsUtil {
         if (options.getSeries() == null) {
             throw new IllegalStateException("The given Options object does not contain any series!");
         }
+        WickedChartsIdIndex idIndex = options.getWickedChartsIdIndex();
+        if (idIndex != null) {
+            Series<?> series = idIndex.getSeries(wickedChartsId);
+            int seriesIndex = idIndex.getSeriesIndex(wickedChartsId);
+            if (series != null && isSeriesAt(options, seriesIndex, series)
+                    && hasWickedChartsId(series.getWickedChartsId(), wickedChartsId)) {
+                return seriesIndex;
+            }
+        }
         for (Series<?> series : options.getSeries()) {
-            if (series.getWickedChartsId() == wickedChartsId) {
+            if (hasWickedChartsId(series.getWickedChartsId(), wickedChartsId)) {
                 return index;
             }
             index++;
@@ -20,6 +20,7 @@ import org.apache.wicket.request.cycle.RequestCycle;
 import org.apache.wicket.request.http.WebRequest;
 import org.apache.wicket.util.string.StringValue;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -89,6 +90,21 @@ public abstract class JavaScriptExpressionSendingAjaxBehavior extends AbstractDe
         }
     }
 
+    /**
+     * Removes all javascript expressions added so far.
+     */
+    public void clearJavaScriptValues() {
+        this.javascriptExpressions.clear();
+    }
+
+    /**
+     * @return the javascript expressions whose values are passed to the server,
+     * keyed by parameter name.
+     */
+    public Map<String, String> getJavaScriptValues() {
+        return Collections.unmodifiableMap(this.javascriptExpressions);
+    }
+
     @Override
     protected void updateAjaxAttributes(AjaxRequestAttributes attributes) {
         super.updateAjaxAttributes(attributes);
@@ -0,0 +1,68 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket;
+
+import de.adesso.wickedcharts.wicket.highcharts.JsonRendererFactory;
+import de.adesso.wickedcharts.wicket.highcharts.features.livedata.LiveDataPushResourceReference;
+import org.apache.wicket.Application;
+import org.apache.wicket.IInitializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Initializes wicked-charts when the Wicket application starts. It is
+ * registered via <code>META-INF/services/org.apache.wicket.IInitializer</code>.
+ *
+ * It preloads the serializers of all option classes of the
+ * {@link de.adesso.wickedcharts.highcharts.jackson.JsonRenderer}, so that the
+ * first request rendering a chart does not have to wait for Jackson to
+ * introspect them. If preloading fails, the serializers are loaded on demand.
+ *
+ * It also registers the resource pushing the points of live data channels to
+ * the client. Live data feeds and channels are shared by all applications of
+ * the JVM, so they are not touched when a single application is destroyed. An
+ * application that starts feeds or creates channels stops them itself, e.g.
+ * in {@link Application#onDestroy()}:
+ *
+ * <pre>
+ * LiveDataFeed.stopAll();
+ * LiveDataChannel.removeAll();
+ * </pre>
+ */
+public class WickedChartsInitializer implements IInitializer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WickedChartsInitializer.class);
+
+    @Override
+    public void init(final Application application) {
+        try {
+            JsonRendererFactory.getInstance().getRenderer().preloadSerializers();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Error trying to preload the serializers of the chart options!", e);
+        }
+        application.getResourceReferenceRegistry().registerResourceReference(LiveDataPushResourceReference.get());
+    }
+
+    @Override
+    public void destroy(final Application application) {
+        // live data feeds and channels are shut down by the application
+    }
+
+    @Override
+    public String toString() {
+        return "Wicked Charts initializer";
+    }
+
+}
@@ -17,6 +17,7 @@ package de.adesso.wickedcharts.wicket.highcharts;
 import de.adesso.wickedcharts.highcharts.options.Options;
 import de.adesso.wickedcharts.highcharts.theme.Theme;
 import de.adesso.wickedcharts.wicket.highcharts.features.basic.ChartBehavior;
+import de.adesso.wickedcharts.wicket.highcharts.features.drilldown.LazyDrilldownBehavior;
 import org.apache.wicket.markup.html.WebMarkupContainer;
 import org.apache.wicket.request.resource.JavaScriptResourceReference;
 
@@ -162,6 +163,28 @@ public class Chart extends WebMarkupContainer {
         this.themeUrl = themeUrl;
     }
 
+    /**
+     * Enables or disables lazy drilldown. With lazy drilldown, the options of a
+     * drilldown level are not rendered into the page, but loaded via AJAX when a
+     * {@link de.adesso.wickedcharts.highcharts.options.drilldown.DrilldownPoint}
+     * is clicked for the first time.
+     *
+     * @param lazyDrilldown true to load drilldown options lazily.
+     */
+    public void setLazyDrilldown(final boolean lazyDrilldown) {
+        if (lazyDrilldown && !isLazyDrilldown()) {
+            add(new LazyDrilldownBehavior());
+        } else if (!lazyDrilldown) {
+            for (LazyDrilldownBehavior behavior : getBehaviors(LazyDrilldownBehavior.class)) {
+                remove(behavior);
+            }
+        }
+    }
+
+    public boolean isLazyDrilldown() {
+        return !getBehaviors(LazyDrilldownBehavior.class).isEmpty();
+    }
+
     public String getJavaScriptVarName() {
         return this.getMarkupId() + "Var";
     }
@@ -15,6 +15,7 @@
 package de.adesso.wickedcharts.wicket.highcharts;
 
 import de.adesso.wickedcharts.highcharts.jackson.JsonRenderer;
+import de.adesso.wickedcharts.highcharts.jackson.cache.JsonCache;
 
 /**
  * Factory class responsible for creating a {@link JsonRenderer} instance that
@@ -28,6 +29,8 @@ public class JsonRendererFactory {
 
     private static final JsonRenderer RENDERER = new JsonRenderer();
 
+    private volatile JsonCache cache;
+
     public static JsonRendererFactory getInstance() {
         return INSTANCE;
     }
@@ -45,4 +48,26 @@ public class JsonRendererFactory {
         return RENDERER;
     }
 
+    /**
+     * Returns the cache for rendered chart options.
+     *
+     * @return the cache or null, if caching is disabled.
+     */
+    public JsonCache getCache() {
+        return this.cache;
+    }
+
+    /**
+     * Sets a cache for rendered chart options. Only {@link de.adesso.wickedcharts.highcharts.options.Options}
+     * with a cache key and a version are cached (see
+     * {@link de.adesso.wickedcharts.highcharts.options.Options#setCacheKey(String)} and
+     * {@link de.adesso.wickedcharts.highcharts.options.Options#setVersion(String)}).
+     * Call this method from the init() method of your wicket application.
+     *
+     * @param cache the cache or null to disable caching.
+     */
+    public void setCache(final JsonCache cache) {
+        this.cache = cache;
+    }
+
 }
@@ -0,0 +1,192 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts;
+
+import de.adesso.wickedcharts.highcharts.jackson.JsonRenderer;
+import org.apache.wicket.core.util.string.JavaScriptUtils;
+import org.apache.wicket.markup.head.AbstractCspHeaderItem;
+import org.apache.wicket.request.Response;
+import org.apache.wicket.util.value.AttributeMap;
+
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Collections;
+
+/**
+ * A header item that assigns the JSON representation of an object to a global
+ * javascript variable. In contrast to rendering the JSON into a string and
+ * passing it to a {@link org.apache.wicket.markup.head.JavaScriptHeaderItem},
+ * the JSON is streamed by the {@link JsonRenderer} directly into the
+ * {@link Response}. This saves the intermediate JSON string and its copy in
+ * the script. Note that Wicket buffers the header contributions of a page, so
+ * the response still holds the whole payload until the page is written.
+ *
+ * The script is executed immediately and not on DOM ready, so the variable is
+ * available for any {@link org.apache.wicket.markup.head.OnDomReadyHeaderItem}
+ * rendered for the same component.
+ */
+public class StreamingJsonHeaderItem extends AbstractCspHeaderItem {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String varName;
+
+    private final Object value;
+
+    private final String json;
+
+    private final transient JsonRenderer renderer;
+
+    /**
+     * Constructor using the renderer of the {@link JsonRendererFactory}.
+     *
+     * @param varName the name of the global javascript variable to assign the JSON
+     *                to.
+     * @param value   the object to serialize into JSON.
+     */
+    public StreamingJsonHeaderItem(final String varName, final Object value) {
+        this(varName, value, JsonRendererFactory.getInstance().getRenderer());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param varName  the name of the global javascript variable to assign the JSON
+     *                 to.
+     * @param value    the object to serialize into JSON.
+     * @param renderer the renderer serializing the object.
+     */
+    public StreamingJsonHeaderItem(final String varName, final Object value, final JsonRenderer renderer) {
+        this(varName, value, null, renderer);
+    }
+
+    private StreamingJsonHeaderItem(final String varName, final Object value, final String json,
+                                    final JsonRenderer renderer) {
+        this.varName = varName;
+        this.value = value;
+        this.json = json;
+        this.renderer = renderer;
+    }
+
+    /**
+     * Creates a header item for JSON that has already been rendered, e.g. JSON
+     * taken from a {@link de.adesso.wickedcharts.highcharts.jackson.cache.JsonCache}.
+     *
+     * @param varName the name of the global javascript variable to assign the JSON
+     *                to.
+     * @param json    the rendered JSON.
+     * @return the header item.
+     */
+    public static StreamingJsonHeaderItem forJson(final String varName, final String json) {
+        return new StreamingJsonHeaderItem(varName, null, json, null);
+    }
+
+    public String getVarName() {
+        return this.varName;
+    }
+
+    @Override
+    public Iterable<?> getRenderTokens() {
+        return Collections.singletonList("wicked-charts-json-" + this.varName);
+    }
+
+    @Override
+    public void render(final Response response) {
+        AttributeMap attributes = new AttributeMap();
+        attributes.putAttribute(JavaScriptUtils.ATTR_TYPE, "text/javascript");
+        attributes.putAttribute(JavaScriptUtils.ATTR_CSP_NONCE, getNonce());
+        JavaScriptUtils.writeOpenTag(response, attributes);
+        response.write("window." + this.varName + " = ");
+        ScriptResponseWriter writer = new ScriptResponseWriter(response);
+        if (this.json != null) {
+            writer.write(this.json, 0, this.json.length());
+        } else {
+            // the renderer is not serialized along with the header item
+            JsonRenderer currentRenderer = this.renderer != null ? this.renderer
+                    : JsonRendererFactory.getInstance().getRenderer();
+            currentRenderer.writeTo(this.value, writer);
+        }
+        response.write(";");
+        JavaScriptUtils.writeCloseTag(response);
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingJsonHeaderItem(" + this.varName + ")";
+    }
+
+    /**
+     * Adapts a Wicket {@link Response} to a {@link Writer}. Like
+     * {@link JavaScriptUtils#writeInlineScript(Response, CharSequence, AttributeMap)}
+     * it escapes "&lt;/" so that the JSON cannot close the script tag.
+     */
+    private static class ScriptResponseWriter extends Writer {
+
+        private final Response response;
+
+        private char lastChar;
+
+        ScriptResponseWriter(final Response response) {
+            this.response = response;
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) {
+            int start = off;
+            int end = off + len;
+            for (int i = off; i < end; i++) {
+                char c = cbuf[i];
+                if (c == '/' && this.lastChar == '<') {
+                    this.response.write(CharBuffer.wrap(cbuf, start, i - start));
+                    this.response.write("\\");
+                    start = i;
+                }
+                this.lastChar = c;
+            }
+            if (start < end) {
+                this.response.write(CharBuffer.wrap(cbuf, start, end - start));
+            }
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len) {
+            int start = off;
+            int end = off + len;
+            for (int i = off; i < end; i++) {
+                char c = str.charAt(i);
+                if (c == '/' && this.lastChar == '<') {
+                    this.response.write(CharBuffer.wrap(str, start, i));
+                    this.response.write("\\");
+                    start = i;
+                }
+                this.lastChar = c;
+            }
+            if (start < end) {
+                this.response.write(CharBuffer.wrap(str, start, end));
+            }
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush, the response is buffered by Wicket
+        }
+
+        @Override
+        public void close() {
+            // the response is owned by Wicket
+        }
+    }
+
+}
@@ -15,12 +15,18 @@
 package de.adesso.wickedcharts.wicket.highcharts.features.basic;
 
 import de.adesso.wickedcharts.highcharts.jackson.JsonRenderer;
+import de.adesso.wickedcharts.highcharts.jackson.cache.JsonCache;
 import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.drilldown.DrilldownPoint;
+import de.adesso.wickedcharts.highcharts.options.interaction.InteractionFunction;
+import de.adesso.wickedcharts.highcharts.options.interaction.SelectionFunction;
+import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataSeries;
 import de.adesso.wickedcharts.highcharts.options.processing.*;
 import de.adesso.wickedcharts.highcharts.options.util.OptionsUtil;
 import de.adesso.wickedcharts.wicket.JavaScriptResourceRegistry;
 import de.adesso.wickedcharts.wicket.highcharts.Chart;
 import de.adesso.wickedcharts.wicket.highcharts.JsonRendererFactory;
+import de.adesso.wickedcharts.wicket.highcharts.StreamingJsonHeaderItem;
 import de.adesso.wickedcharts.wicket.highcharts.features.drilldown.DrilldownProcessor;
 import de.adesso.wickedcharts.wicket.highcharts.features.global.GlobalProcessor;
 import de.adesso.wickedcharts.wicket.highcharts.features.interaction.InteractionProcessor;
@@ -33,6 +39,8 @@ import org.apache.wicket.markup.head.JavaScriptReferenceHeaderItem;
 import org.apache.wicket.markup.head.OnDomReadyHeaderItem;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This behavior takes in an {@link Options} object containing the configuration
@@ -47,6 +55,8 @@ public class ChartBehavior extends Behavior {
 
     private final Chart chart;
 
+    private final OptionsProcessingPipeline pipeline = new OptionsProcessingPipeline();
+
     private static final Feature[] SUPPORTED_FEATURES = new Feature[]{
 
             Feature.DRILLDOWN,
@@ -94,10 +104,33 @@ public class ChartBehavior extends Behavior {
                                           final JsonRenderer renderer, final String markupId) {
         String chartVarname = this.chart.getJavaScriptVarName();
         String optionsVarname = markupId + "Options";
-        response
-                .render(OnDomReadyHeaderItem.forScript(MessageFormat.format(
-                        "var {0} = {1};window.{2} = new Highcharts.Chart({0});", optionsVarname, renderer.toJson(options),
-                        chartVarname)));
+        JsonCache cache = JsonRendererFactory.getInstance().getCache();
+        String key = cache != null && isCacheable(options) ? JsonCache.createKey(options, markupId) : null;
+        if (key != null) {
+            String json = cache.getOrRender(key, options, renderer);
+            response.render(StreamingJsonHeaderItem.forJson(optionsVarname, json));
+        } else {
+            // the options are streamed into the response instead of being copied
+            // into the dom ready script
+            response.render(new StreamingJsonHeaderItem(optionsVarname, options, renderer));
+        }
+        response.render(OnDomReadyHeaderItem.forScript(MessageFormat.format(
+                "window.{1} = new Highcharts.Chart({0});", optionsVarname, chartVarname)));
+    }
+
+    /**
+     * Options can be taken from the cache if they have a cache key and a
+     * version and do not contain any callback URLs, which are specific to the
+     * current page.
+     */
+    private boolean isCacheable(final Options options) {
+        if (this.chart.isLazyDrilldown() && !options.getMarkedForProcessing(DrilldownPoint.PROCESSING_KEY).isEmpty()) {
+            return false;
+        }
+        return options.getCacheKey() != null && options.getVersion() != null
+                && options.getMarkedForProcessing(LiveDataSeries.PROCESSING_KEY).isEmpty()
+                && options.getMarkedForProcessing(InteractionFunction.PROCESSING_KEY).isEmpty()
+                && options.getMarkedForProcessing(SelectionFunction.PROCESSING_KEY).isEmpty();
     }
 
     private void includeJavascriptDependencies(final IHeaderResponse response, final Options options) {
@@ -121,22 +154,45 @@ public class ChartBehavior extends Behavior {
     @Override
     public void onConfigure(final Component component) {
         super.onConfigure(component);
-        OptionsProcessorContext context = new OptionsProcessorContext(this.chart.getOptions());
-
-        IOptionsProcessor featureProcessor = new FeatureCheckingOptionsProcessor(SUPPORTED_FEATURES);
-        featureProcessor.processOptions(this.chart.getOptions(), context);
-
-        IOptionsProcessor idProcessor = new IdGeneratorProcessor();
-        idProcessor.processOptions(this.chart.getOptions(), context);
-
-        LiveDataProcessor liveDataProcessor = new LiveDataProcessor(component);
-        liveDataProcessor.processOptions(this.chart.getOptions(), context);
+        Options options = this.chart.getOptions();
+        String version = getProcessingVersion(component, options);
+        if (!this.pipeline.isUpToDate(options, version)) {
+            this.pipeline.process(options, version, createProcessors(component));
+        }
+    }
 
-        InteractionProcessor interactionProcessor = new InteractionProcessor(this.chart);
-        interactionProcessor.processOptions(this.chart.getOptions(), context);
+    /**
+     * Creates the processors that are applied to the options of the chart: the
+     * processors contributed via the {@link OptionsProcessorRegistry}, followed
+     * by the processors of the built-in features.
+     *
+     * @param component the chart component
+     * @return the processors, in the order they are applied.
+     */
+    protected List<IOptionsProcessor> createProcessors(final Component component) {
+        List<IOptionsProcessor> processors = new ArrayList<>();
+        OptionsProcessorRegistry.getInstance().createProcessors(this.chart, processors);
+        processors.add(new FeatureCheckingOptionsProcessor(SUPPORTED_FEATURES));
+        processors.add(new IdGeneratorProcessor());
+        processors.add(new LiveDataProcessor(component));
+        processors.add(new InteractionProcessor(this.chart));
+        processors.add(new SelectionProcessor(this.chart));
+        return processors;
+    }
 
-        SelectionProcessor selectionProcessor = new SelectionProcessor(this.chart);
-        selectionProcessor.processOptions(this.chart.getOptions(), context);
+    /**
+     * The processors only need to run again if the version of the options has
+     * changed or the callback URLs they generate, which contain the markup id
+     * and the render count of the page, would differ.
+     *
+     * @return the version or null, if the options have no version and must be
+     * processed on each request.
+     */
+    private String getProcessingVersion(final Component component, final Options options) {
+        if (options.getVersion() == null) {
+            return null;
+        }
+        return options.getVersion() + "|" + component.getMarkupId() + "|" + component.getPage().getRenderCount();
     }
 
     @Override
@@ -151,7 +207,7 @@ public class ChartBehavior extends Behavior {
         includeJavascriptDependencies(response, options);
         addTheme(response, renderer);
 
-        OptionsProcessorContext context = new OptionsProcessorContext(options);
+        OptionsProcessorContext context = this.pipeline.getContext(options);
 
         DrilldownProcessor drilldownProcessor = new DrilldownProcessor(component, response);
         drilldownProcessor.processOptions(options, context);
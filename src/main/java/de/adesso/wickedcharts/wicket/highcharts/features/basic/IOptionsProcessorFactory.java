@@ -0,0 +1,41 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts.features.basic;
+
+import de.adesso.wickedcharts.highcharts.options.processing.IOptionsProcessor;
+import de.adesso.wickedcharts.wicket.highcharts.Chart;
+
+/**
+ * Service provider interface for contributing {@link IOptionsProcessor}s to
+ * the processing of the options of each {@link Chart}. Implementations are
+ * either registered programmatically via
+ * {@link OptionsProcessorRegistry#register(IOptionsProcessorFactory)} or
+ * discovered by the {@link java.util.ServiceLoader} by listing them in a
+ * <code>META-INF/services/de.adesso.wickedcharts.wicket.highcharts.features.basic.IOptionsProcessorFactory</code>
+ * file.
+ */
+public interface IOptionsProcessorFactory {
+
+    /**
+     * Creates the processor for the given chart. Called whenever the options
+     * of the chart need to be processed.
+     *
+     * @param chart the chart whose options are processed
+     * @return the processor or null, if the chart does not need to be processed
+     * by this factory.
+     */
+    IOptionsProcessor createProcessor(Chart chart);
+
+}
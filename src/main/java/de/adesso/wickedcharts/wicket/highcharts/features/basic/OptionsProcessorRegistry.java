@@ -0,0 +1,95 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts.features.basic;
+
+import de.adesso.wickedcharts.highcharts.options.processing.IOptionsProcessor;
+import de.adesso.wickedcharts.wicket.highcharts.Chart;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A registry for the {@link IOptionsProcessorFactory}s whose processors are
+ * applied to the options of each {@link Chart} in addition to the processors
+ * of the built-in features. The registry initially contains the factories
+ * found by the {@link ServiceLoader}. Further factories can be registered from
+ * the init() method of your wicket application.
+ *
+ * The processors created by the registered factories are applied before the
+ * processors of the built-in features, in the order in which the factories
+ * were registered, so that the built-in features see the final options.
+ */
+public class OptionsProcessorRegistry {
+
+    private static final OptionsProcessorRegistry INSTANCE = new OptionsProcessorRegistry();
+
+    private final List<IOptionsProcessorFactory> factories = new CopyOnWriteArrayList<>();
+
+    public static OptionsProcessorRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    private OptionsProcessorRegistry() {
+        for (IOptionsProcessorFactory factory : ServiceLoader.load(IOptionsProcessorFactory.class)) {
+            this.factories.add(factory);
+        }
+    }
+
+    /**
+     * Registers a factory.
+     *
+     * @param factory the factory to register.
+     */
+    public void register(final IOptionsProcessorFactory factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("factory must not be null!");
+        }
+        this.factories.add(factory);
+    }
+
+    /**
+     * Removes a factory from the registry.
+     *
+     * @param factory the factory to remove.
+     */
+    public void unregister(final IOptionsProcessorFactory factory) {
+        this.factories.remove(factory);
+    }
+
+    /**
+     * @return the registered factories.
+     */
+    public List<IOptionsProcessorFactory> getFactories() {
+        return Collections.unmodifiableList(this.factories);
+    }
+
+    /**
+     * Creates the processors of all registered factories for the given chart.
+     *
+     * @param chart the chart whose options are processed.
+     * @param processors the list to add the processors to.
+     */
+    public void createProcessors(final Chart chart, final List<IOptionsProcessor> processors) {
+        for (IOptionsProcessorFactory factory : this.factories) {
+            IOptionsProcessor processor = factory.createProcessor(chart);
+            if (processor != null) {
+                processors.add(processor);
+            }
+        }
+    }
+
+}
@@ -29,6 +29,7 @@ import org.apache.wicket.markup.head.OnDomReadyHeaderItem;
 import org.apache.wicket.request.resource.JavaScriptResourceReference;
 
 import java.text.MessageFormat;
+import java.util.List;
 
 /**
  * This processor adds drilldown functionality to a chart. It searches the given
@@ -37,6 +38,10 @@ import java.text.MessageFormat;
  * variable is referenced in a javascript function that is inserted at
  * {@link PlotOptions}.
  *
+ * If a {@link LazyDrilldownBehavior} is bound to the chart, the variable is
+ * initialized with an empty array and the drilldown options are loaded via
+ * AJAX when a {@link DrilldownPoint} is clicked.
+ *
  * This class is not part of the public API! Use {@link DrilldownPoint}s to
  * enable drilldown in your charts.
  *
@@ -61,16 +66,28 @@ public class DrilldownProcessor implements IOptionsProcessor {
     @Override
     public void processOptions(Options options, OptionsProcessorContext context) {
         if (!context.getDrilldownOptions().isEmpty()) {
-            modifyDrilldownOptions(options, context);
-            addDrilldownOptionsArray(context);
+            LazyDrilldownBehavior lazyBehavior = getLazyDrilldownBehavior();
+            modifyDrilldownOptions(options, context, lazyBehavior);
+            if (lazyBehavior != null) {
+                lazyBehavior.setDrilldownOptions(context.getDrilldownOptions(), getDrilldownArrayName(component));
+                addEmptyDrilldownOptionsArray();
+            } else {
+                addDrilldownOptionsArray(context);
+            }
             addJavascriptDependencies(response);
         }
     }
 
-    private void modifyDrilldownOptions(Options options, OptionsProcessorContext context) {
+    private LazyDrilldownBehavior getLazyDrilldownBehavior() {
+        List<LazyDrilldownBehavior> behaviors = component.getBehaviors(LazyDrilldownBehavior.class);
+        return behaviors.isEmpty() ? null : behaviors.get(0);
+    }
+
+    private void modifyDrilldownOptions(Options options, OptionsProcessorContext context,
+                                        LazyDrilldownBehavior lazyBehavior) {
         for (Options drilldownOptions : context.getDrilldownOptions()) {
             OptionsUtil.getInstance().copyRenderTo(options, drilldownOptions);
-            addDrilldownFunction(drilldownOptions, context);
+            addDrilldownFunction(drilldownOptions, lazyBehavior);
         }
     }
 
@@ -86,6 +103,18 @@ public class DrilldownProcessor implements IOptionsProcessor {
                 renderer.toJson(context.getDrilldownOptions()))));
     }
 
+    /**
+     * Adds an empty javascript array to be filled with drilldown options loaded
+     * by the {@link LazyDrilldownBehavior}.
+     */
+    private void addEmptyDrilldownOptionsArray() {
+        response.render(JavaScriptHeaderItem.forScript(
+                MessageFormat.format("var {0};\n var {1};", JS_DRILLDOWN_ARRAY_NAME, getDrilldownArrayName(component)),
+                JS_DRILLDOWN_ARRAY_NAME + "-init"));
+        response.render(OnDomReadyHeaderItem.forScript(MessageFormat.format("{0} = [];",
+                getDrilldownArrayName(component))));
+    }
+
     /**
      * Resolves the needed javascript dependencies.
      */
@@ -98,9 +127,11 @@ public class DrilldownProcessor implements IOptionsProcessor {
      * Adds a {@link DrilldownFunction} to the {@link PlotOptions} of the given
      * {@link Options}.
      *
-     * @param options the {@link Options} to add a {@link DrilldownFunction} to
+     * @param options      the {@link Options} to add a {@link DrilldownFunction} to
+     * @param lazyBehavior the behavior loading the drilldown options, or null if
+     *                     they are rendered into the page.
      */
-    private void addDrilldownFunction(Options options, OptionsProcessorContext context) {
+    private void addDrilldownFunction(Options options, LazyDrilldownBehavior lazyBehavior) {
         SeriesType chartType = options.getChartOptions().getType();
         if (options.getPlotOptions() == null) {
             options.setPlotOptions(new PlotOptionsChoice());
@@ -114,8 +145,10 @@ public class DrilldownProcessor implements IOptionsProcessor {
         if (options.getPlotOptions().getPlotOptions(chartType).getPoint().getEvents() == null) {
             options.getPlotOptions().getPlotOptions(chartType).getPoint().setEvents(new Events());
         }
-        options.getPlotOptions().getPlotOptions(chartType).getPoint().getEvents()
-                .setClick(new DrilldownFunction(getDrilldownArrayName(component)));
+        DrilldownFunction function = lazyBehavior != null
+                ? new DrilldownFunction(getDrilldownArrayName(component), lazyBehavior.getLoadFunction())
+                : new DrilldownFunction(getDrilldownArrayName(component));
+        options.getPlotOptions().getPlotOptions(chartType).getPoint().getEvents().setClick(function);
     }
 
     private String getDrilldownArrayName(Component component) {
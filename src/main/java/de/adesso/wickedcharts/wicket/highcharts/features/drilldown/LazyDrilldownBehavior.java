@@ -0,0 +1,86 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts.features.drilldown;
+
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.wicket.highcharts.Chart;
+import de.adesso.wickedcharts.wicket.highcharts.JsonRendererFactory;
+import org.apache.wicket.ajax.AbstractDefaultAjaxBehavior;
+import org.apache.wicket.ajax.AjaxRequestTarget;
+import org.apache.wicket.ajax.attributes.CallbackParameter;
+import org.apache.wicket.request.cycle.RequestCycle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This AJAX behavior serves the drilldown options of a chart level by level
+ * instead of rendering all drilldown options into the page. The client keeps
+ * the options already served in the drilldown array of the chart, so each
+ * level is loaded only once per page render.
+ *
+ * This class is not part of the public API! Use
+ * {@link Chart#setLazyDrilldown(boolean)} to enable lazy drilldown.
+ */
+public class LazyDrilldownBehavior extends AbstractDefaultAjaxBehavior {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String INDEX_PARAMETER = "drilldownOptionsIndex";
+
+    private List<Options> drilldownOptions = Collections.emptyList();
+
+    private String drilldownArrayName;
+
+    /**
+     * Sets the drilldown options collected while rendering the chart. Called
+     * by the {@link DrilldownProcessor}.
+     */
+    void setDrilldownOptions(final List<Options> drilldownOptions, final String drilldownArrayName) {
+        this.drilldownOptions = new ArrayList<Options>(drilldownOptions);
+        this.drilldownArrayName = drilldownArrayName;
+    }
+
+    /**
+     * @return a javascript function taking the index of the drilldown options
+     * to load.
+     */
+    public CharSequence getLoadFunction() {
+        return getCallbackFunction(CallbackParameter.explicit(INDEX_PARAMETER));
+    }
+
+    @Override
+    protected void respond(final AjaxRequestTarget target) {
+        int index = RequestCycle.get().getRequest().getRequestParameters().getParameterValue(INDEX_PARAMETER)
+                .toInt(-1);
+        if (index < 0 || index >= this.drilldownOptions.size() || this.drilldownArrayName == null) {
+            return;
+        }
+        String json = JsonRendererFactory.getInstance().getRenderer().toJson(this.drilldownOptions.get(index));
+        String level = this.drilldownArrayName + "[" + index + "]";
+        target.appendJavaScript(level + " = " + json + ";\nnew Highcharts.Chart(" + level + ");");
+    }
+
+    @Override
+    protected void onBind() {
+        super.onBind();
+        if (!(getComponent() instanceof Chart)) {
+            throw new IllegalStateException(LazyDrilldownBehavior.class.getSimpleName()
+                    + " can only be bound to components of type " + Chart.class.getSimpleName() + ".");
+        }
+    }
+
+}
@@ -42,29 +42,41 @@ public abstract class InteractionBehavior extends JavaScriptExpressionSendingAja
 
     @Override
     protected void respond(final AjaxRequestTarget target) {
-        Chart chart = (Chart) getComponent();
+        InteractionEvent event = createEvent((Chart) getComponent(), getVariableValue(SELECTED_SERIES),
+                getVariableValue(SELECTED_POINT));
+        onEvent(event, target);
+    }
+
+    /**
+     * Creates the {@link InteractionEvent} for an interaction with the given
+     * chart. This method is not part of the public API!
+     *
+     * @param chart               the chart that has been interacted with
+     * @param selectedSeriesValue the wickedChartsId of the selected series sent by the client
+     * @param selectedPointValue  the wickedChartsId of the selected point sent by the client
+     * @return the event
+     */
+    public static InteractionEvent createEvent(final Chart chart, final StringValue selectedSeriesValue,
+                                               final StringValue selectedPointValue) {
         Options options = chart.getOptions();
 
         InteractionEvent event = new InteractionEvent();
         event.setJavascriptChartName(chart.getJavaScriptVarName());
 
-        StringValue selectedPointValue = getVariableValue(SELECTED_POINT);
-        if (selectedPointValue != null && !"".equals(selectedPointValue.toString())) {
+        if (selectedPointValue != null && !selectedPointValue.isEmpty()) {
             Integer selectedPoint = selectedPointValue.toInteger();
             Point point = OptionsUtil.getPointWithWickedChartsId(options, selectedPoint);
             event.setSelectedPoint(point);
         }
 
-        StringValue selectedSeriesValue = getVariableValue(SELECTED_SERIES);
-        if (selectedSeriesValue != null && !"".equals(selectedSeriesValue.toString())) {
+        if (selectedSeriesValue != null && !selectedSeriesValue.isEmpty()) {
             Integer selectedSeries = selectedSeriesValue.toInteger();
             Series<?> series = OptionsUtil.getSeriesWithWickedChartsId(options, selectedSeries);
             event.setSelectedSeries(series);
         }
 
         event.setSelectedChart(options);
-
-        onEvent(event, target);
+        return event;
     }
 
     public abstract void onEvent(final InteractionEvent event, final AjaxRequestTarget target);
@@ -0,0 +1,327 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts.features.interaction;
+
+import com.github.openjson.JSONArray;
+import com.github.openjson.JSONObject;
+import de.adesso.wickedcharts.highcharts.options.Function;
+import de.adesso.wickedcharts.highcharts.options.interaction.InteractionFunction;
+import de.adesso.wickedcharts.highcharts.options.interaction.InteractionRatePolicy;
+import de.adesso.wickedcharts.highcharts.options.interaction.SelectionFunction;
+import de.adesso.wickedcharts.wicket.highcharts.Chart;
+import de.adesso.wickedcharts.wicket.highcharts.features.selection.SelectionBehavior;
+import de.adesso.wickedcharts.wicket.highcharts.features.selection.WicketSelectionEvent;
+import org.apache.wicket.Component;
+import org.apache.wicket.Session;
+import org.apache.wicket.ajax.AbstractDefaultAjaxBehavior;
+import org.apache.wicket.ajax.AjaxChannel;
+import org.apache.wicket.ajax.AjaxRequestTarget;
+import org.apache.wicket.ajax.attributes.AjaxAttributeName;
+import org.apache.wicket.ajax.attributes.AjaxRequestAttributes;
+import org.apache.wicket.ajax.attributes.CallbackParameter;
+import org.apache.wicket.ajax.attributes.ThrottlingSettings;
+import org.apache.wicket.ajax.json.JSONFunction;
+import org.apache.wicket.markup.head.IHeaderResponse;
+import org.apache.wicket.markup.head.JavaScriptHeaderItem;
+import org.apache.wicket.request.IRequestParameters;
+import org.apache.wicket.request.cycle.RequestCycle;
+import org.apache.wicket.request.resource.JavaScriptResourceReference;
+import org.apache.wicket.util.string.StringValue;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A single AJAX behavior per {@link Chart} that serves all
+ * {@link InteractionFunction}s and {@link SelectionFunction}s of the chart.
+ * Each function is registered under an ID that is sent by the client along
+ * with the event, so that the behavior can dispatch the event to the function.
+ *
+ * A function keeps its ID as long as it is part of the chart's options, so
+ * the number of behaviors and the size of the page stay the same no matter how
+ * often the chart is configured.
+ *
+ * The client side rate of the events is limited by the
+ * {@link InteractionRatePolicy} of each function, the server side rate by the
+ * {@link InteractionRateLimiter}.
+ */
+public class InteractionDispatchingBehavior extends AbstractDefaultAjaxBehavior {
+
+    private static final long serialVersionUID = 1L;
+
+    static final String FUNCTION_ID = "wickedChartsFunction";
+
+    private static final String SELECTED_POINT = "selectedPoint";
+
+    private static final String SELECTED_SERIES = "selectedSeries";
+
+    private static final String SELECTION_EVENT = "selectionEvent";
+
+    private static final String COALESCED = "wickedChartsCoalesced";
+
+    private Map<Integer, Function> functions = new LinkedHashMap<>();
+
+    /**
+     * The latest event parameters of each function that exceeded the rate limit
+     * and are passed to the function later on.
+     */
+    private final Map<Integer, Map<String, String>> coalescedEvents = new HashMap<>();
+
+    private int currentId = 0;
+
+    /**
+     * Returns the behavior of the given chart, adding a new one if the chart
+     * does not have one yet.
+     *
+     * @param chart the chart
+     * @return the behavior serving the functions of the chart
+     */
+    public static InteractionDispatchingBehavior forChart(final Chart chart) {
+        InteractionDispatchingBehavior behavior = getFromChart(chart);
+        if (behavior == null) {
+            behavior = new InteractionDispatchingBehavior();
+            chart.add(behavior);
+        }
+        return behavior;
+    }
+
+    /**
+     * @param chart the chart
+     * @return the behavior of the given chart or null, if it has none.
+     */
+    public static InteractionDispatchingBehavior getFromChart(final Chart chart) {
+        List<InteractionDispatchingBehavior> behaviors = chart.getBehaviors(InteractionDispatchingBehavior.class);
+        return behaviors.isEmpty() ? null : behaviors.get(0);
+    }
+
+    /**
+     * Replaces all registered functions of the given type by the given
+     * functions. Functions that have been registered before keep their ID.
+     *
+     * @param type      the type of the functions to replace
+     * @param functions the functions to register
+     */
+    public void setFunctions(final Class<? extends Function> type, final List<? extends Function> functions) {
+        Map<Integer, Function> registered = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Function> entry : this.functions.entrySet()) {
+            if (!type.isInstance(entry.getValue())) {
+                registered.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Function function : functions) {
+            if (!type.isInstance(function)) {
+                throw new IllegalArgumentException("All functions must be of type " + type.getSimpleName() + "!");
+            }
+            Integer id = getFunctionId(function);
+            registered.put(id != null ? id : ++this.currentId, function);
+        }
+        this.functions = registered;
+        this.coalescedEvents.keySet().retainAll(registered.keySet());
+    }
+
+    /**
+     * @param function the function
+     * @return the ID under which the function is registered or null, if it is
+     * not registered.
+     */
+    public Integer getFunctionId(final Function function) {
+        // a chart only has a handful of functions, so a linear search is fine
+        for (Map.Entry<Integer, Function> entry : this.functions.entrySet()) {
+            if (entry.getValue() == function) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of registered functions.
+     */
+    public int getFunctionCount() {
+        return this.functions.size();
+    }
+
+    /**
+     * Creates the javascript that sends an event of the given function to this
+     * behavior.
+     *
+     * @param function a registered function
+     * @return the javascript to use as body of the function
+     */
+    public CharSequence getCallbackFunctionBody(final Function function) {
+        Integer id = getFunctionId(function);
+        if (id == null) {
+            throw new IllegalArgumentException("The function must be registered before its callback is created!");
+        }
+        CallbackParameter functionId = CallbackParameter.resolved(FUNCTION_ID, String.valueOf(id));
+        AjaxRequestAttributes attributes = getAttributes();
+        if (function instanceof InteractionFunction) {
+            applyRatePolicy(attributes, (InteractionFunction) function, id);
+            return getCallbackFunctionBody(attributes, functionId,
+                    CallbackParameter.resolved(SELECTED_SERIES, "WickedCharts.Interaction.getSelectedSeries(this)"),
+                    CallbackParameter.resolved(SELECTED_POINT, "WickedCharts.Interaction.getSelectedPoint(this)"));
+        } else {
+            return getCallbackFunctionBody(attributes, functionId,
+                    CallbackParameter.resolved(SELECTION_EVENT,
+                            "WickedCharts.Selection.selectionEventToJson(selectionEvent)"));
+        }
+    }
+
+    /**
+     * Applies the {@link InteractionRatePolicy} of the given function to the
+     * attributes of its callback. Wicket's throttling delays an event and
+     * replaces it by events occurring within the delay, restarting the delay on
+     * each event when debouncing. A drop channel keeps only the latest of the
+     * events occurring while a request is running.
+     */
+    private void applyRatePolicy(final AjaxRequestAttributes attributes, final InteractionFunction function,
+                                 final int id) {
+        String name = getComponent().getMarkupId() + "-" + id;
+        Duration interval = Duration.ofMillis(function.getRateInterval());
+        switch (function.getRatePolicy()) {
+            case THROTTLE:
+                attributes.setThrottlingSettings(new ThrottlingSettings(name, interval, false));
+                break;
+            case DEBOUNCE:
+                attributes.setThrottlingSettings(new ThrottlingSettings(name, interval, true));
+                break;
+            case LATEST_WINS:
+                attributes.setChannel(new AjaxChannel(name, AjaxChannel.Type.DROP));
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Creates the javascript that sends an AJAX request with the given
+     * attributes, like {@link #getCallbackFunctionBody(CallbackParameter...)}
+     * does with the attributes shared by all callbacks of this behavior.
+     */
+    private CharSequence getCallbackFunctionBody(final AjaxRequestAttributes attributes,
+                                                 final CallbackParameter... parameters) {
+        attributes.setEventNames();
+        JSONArray extraParameters = new JSONArray();
+        for (CallbackParameter parameter : parameters) {
+            JSONObject extraParameter = new JSONObject();
+            extraParameter.put("name", parameter.getAjaxParameterName());
+            extraParameter.put("value", new JSONFunction(parameter.getAjaxParameterCode()));
+            extraParameters.put(extraParameter);
+        }
+        return new StringBuilder()
+                .append("var attrs = ").append(renderAjaxAttributes(getComponent(), attributes)).append(";\n")
+                .append("var params = ").append(extraParameters).append(";\n")
+                .append("attrs.").append(AjaxAttributeName.EXTRA_PARAMETERS)
+                .append(" = params.concat(attrs.").append(AjaxAttributeName.EXTRA_PARAMETERS).append(" || []);\n")
+                .append("Wicket.Ajax.ajax(attrs);\n");
+    }
+
+    @Override
+    protected void respond(final AjaxRequestTarget target) {
+        IRequestParameters parameters = RequestCycle.get().getRequest().getRequestParameters();
+        Integer id = parameters.getParameterValue(FUNCTION_ID).toOptionalInteger();
+        Function function = id != null ? this.functions.get(id) : null;
+        if (function == null) {
+            // events of functions that are no longer part of the chart are ignored
+            return;
+        }
+
+        Map<String, String> event;
+        if (parameters.getParameterValue(COALESCED).toBoolean(false)) {
+            event = this.coalescedEvents.remove(id);
+            if (event == null) {
+                // the event has already been passed on by an earlier retry
+                return;
+            }
+        } else {
+            event = readEvent(function, parameters);
+        }
+
+        InteractionRateLimiter limiter = InteractionRateLimiter.getInstance();
+        long delay = limiter.tryAcquire(Session.get());
+        if (delay > 0) {
+            // a single retry per function passes on the latest of the coalesced events
+            if (limiter.getOverflow() == InteractionRateLimiter.Overflow.COALESCE
+                    && this.coalescedEvents.put(id, event) == null) {
+                target.appendJavaScript(MessageFormat.format("setTimeout(function() '{'{0}'}', {1});",
+                        getCallbackFunctionBody(getAttributes(),
+                                CallbackParameter.resolved(FUNCTION_ID, String.valueOf(id)),
+                                CallbackParameter.resolved(COALESCED, "true")),
+                        String.valueOf(delay)));
+            }
+            return;
+        }
+
+        dispatch(function, event, target);
+    }
+
+    private Map<String, String> readEvent(final Function function, final IRequestParameters parameters) {
+        Map<String, String> event = new HashMap<>();
+        if (function instanceof InteractionFunction) {
+            event.put(SELECTED_SERIES, parameters.getParameterValue(SELECTED_SERIES).toString());
+            event.put(SELECTED_POINT, parameters.getParameterValue(SELECTED_POINT).toString());
+        } else {
+            event.put(SELECTION_EVENT, parameters.getParameterValue(SELECTION_EVENT).toString());
+        }
+        return event;
+    }
+
+    private void dispatch(final Function function, final Map<String, String> event, final AjaxRequestTarget target) {
+        Chart chart = (Chart) getComponent();
+        if (function instanceof InteractionFunction) {
+            StringValue selectedSeries = StringValue.valueOf(event.get(SELECTED_SERIES));
+            StringValue selectedPoint = StringValue.valueOf(event.get(SELECTED_POINT));
+            ((InteractionFunction) function).onInteraction(new WicketInteractionEvent(target,
+                    InteractionBehavior.createEvent(chart, selectedSeries, selectedPoint)));
+        } else if (function instanceof SelectionFunction) {
+            StringValue selectionEvent = StringValue.valueOf(event.get(SELECTION_EVENT));
+            ((SelectionFunction) function).onSelect(new WicketSelectionEvent(target,
+                    SelectionBehavior.createEvent(chart, selectionEvent)));
+        }
+    }
+
+    @Override
+    protected void onBind() {
+        super.onBind();
+        if (!(getComponent() instanceof Chart)) {
+            throw new IllegalStateException(InteractionDispatchingBehavior.class.getSimpleName()
+                    + " can only be bound to components of type " + Chart.class.getSimpleName() + ".");
+        }
+    }
+
+    @Override
+    public void renderHead(final Component component, final IHeaderResponse response) {
+        super.renderHead(component, response);
+        boolean interaction = false;
+        boolean selection = false;
+        for (Function function : this.functions.values()) {
+            interaction |= function instanceof InteractionFunction;
+            selection |= function instanceof SelectionFunction;
+        }
+        if (interaction) {
+            response.render(JavaScriptHeaderItem.forReference(new JavaScriptResourceReference(
+                    InteractionBehavior.class, "InteractionBehavior.js")));
+        }
+        if (selection) {
+            response.render(JavaScriptHeaderItem.forReference(new JavaScriptResourceReference(
+                    SelectionBehavior.class, "SelectionBehavior.js")));
+        }
+    }
+
+}
@@ -15,12 +15,10 @@
 package de.adesso.wickedcharts.wicket.highcharts.features.interaction;
 
 import de.adesso.wickedcharts.highcharts.options.Options;
-import de.adesso.wickedcharts.highcharts.options.interaction.InteractionEvent;
 import de.adesso.wickedcharts.highcharts.options.interaction.InteractionFunction;
 import de.adesso.wickedcharts.highcharts.options.processing.IOptionsProcessor;
 import de.adesso.wickedcharts.highcharts.options.processing.OptionsProcessorContext;
 import de.adesso.wickedcharts.wicket.highcharts.Chart;
-import org.apache.wicket.ajax.AjaxRequestTarget;
 
 import java.io.Serializable;
 import java.util.List;
@@ -43,21 +41,19 @@ public class InteractionProcessor implements IOptionsProcessor, Serializable {
     public void processOptions(final Options options, final OptionsProcessorContext context) {
 
         List<InteractionFunction> functions = context.getInteractionFunctions();
-        for (final InteractionFunction function : functions) {
+        InteractionDispatchingBehavior behavior = functions.isEmpty()
+                ? InteractionDispatchingBehavior.getFromChart(this.chart)
+                : InteractionDispatchingBehavior.forChart(this.chart);
+        if (behavior == null) {
+            return;
+        }
 
-            // add server side AJAX event
-            InteractionBehavior interactionBehavior = new InteractionBehavior() {
-                @Override
-                public void onEvent(final InteractionEvent event, final AjaxRequestTarget target) {
-                    WicketInteractionEvent wicketEvent = new WicketInteractionEvent(target, event);
-                    function.onInteraction(wicketEvent);
-                }
-            };
-            this.chart.add(interactionBehavior);
+        // register the functions with the server side AJAX behavior of the chart
+        behavior.setFunctions(InteractionFunction.class, functions);
 
-            // add client side javascript to trigger an AJAX call
-            String functionBody = interactionBehavior.getCallbackScript().toString();
-            function.setFunction(functionBody);
+        // add client side javascript to trigger an AJAX call
+        for (final InteractionFunction function : functions) {
+            function.setFunction(behavior.getCallbackFunctionBody(function).toString());
         }
     }
 
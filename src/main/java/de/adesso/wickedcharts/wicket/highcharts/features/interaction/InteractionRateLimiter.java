@@ -0,0 +1,135 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts.features.interaction;
+
+import de.adesso.wickedcharts.highcharts.options.interaction.TokenBucket;
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.Session;
+
+/**
+ * Limits the rate at which the events of interaction and selection functions
+ * of a user session are passed to the server side functions. Each session gets
+ * its own {@link TokenBucket}. Events exceeding the limit are either dropped
+ * or coalesced (see {@link Overflow}).
+ *
+ * The limiter is disabled by default. Call
+ * {@link #setSessionLimit(int, double)} from the init() method of your wicket
+ * application to enable it.
+ */
+public class InteractionRateLimiter {
+
+    /**
+     * Defines what happens with an event exceeding the limit.
+     */
+    public enum Overflow {
+
+        /**
+         * The event is dropped.
+         */
+        DROP,
+
+        /**
+         * The event is kept and passed to the function as soon as the limit
+         * allows it. Further excess events of the same function replace the kept
+         * event, so only the latest of them is passed to the function.
+         */
+        COALESCE
+
+    }
+
+    private static final InteractionRateLimiter INSTANCE = new InteractionRateLimiter();
+
+    private static final MetaDataKey<TokenBucket> BUCKET = new MetaDataKey<TokenBucket>() {
+        private static final long serialVersionUID = 1L;
+    };
+
+    private volatile int capacity;
+
+    private volatile double eventsPerSecond;
+
+    private volatile Overflow overflow = Overflow.COALESCE;
+
+    public static InteractionRateLimiter getInstance() {
+        return INSTANCE;
+    }
+
+    private InteractionRateLimiter() {
+    }
+
+    /**
+     * Enables the limiter.
+     *
+     * @param capacity        the number of events a session may send in a burst.
+     * @param eventsPerSecond the number of events per second a session may send in
+     *                        the long run.
+     */
+    public void setSessionLimit(final int capacity, final double eventsPerSecond) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive!");
+        }
+        if (!(eventsPerSecond > 0)) {
+            throw new IllegalArgumentException("eventsPerSecond must be positive!");
+        }
+        this.eventsPerSecond = eventsPerSecond;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Disables the limiter.
+     */
+    public void disable() {
+        this.capacity = 0;
+    }
+
+    public boolean isEnabled() {
+        return this.capacity > 0;
+    }
+
+    public void setOverflow(final Overflow overflow) {
+        if (overflow == null) {
+            throw new IllegalArgumentException("overflow must not be null!");
+        }
+        this.overflow = overflow;
+    }
+
+    public Overflow getOverflow() {
+        return this.overflow;
+    }
+
+    /**
+     * Takes a token from the bucket of the given session.
+     *
+     * @param session the session of the current request
+     * @return 0, if the event may be passed to the function, otherwise the number
+     * of milliseconds until the next event is allowed.
+     */
+    public long tryAcquire(final Session session) {
+        int capacity = this.capacity;
+        double eventsPerSecond = this.eventsPerSecond;
+        if (capacity <= 0) {
+            return 0;
+        }
+        TokenBucket bucket;
+        synchronized (session) {
+            bucket = session.getMetaData(BUCKET);
+            if (bucket == null || bucket.getCapacity() != capacity || bucket.getTokensPerSecond() != eventsPerSecond) {
+                bucket = new TokenBucket(capacity, eventsPerSecond);
+                session.setMetaData(BUCKET, bucket);
+            }
+        }
+        return bucket.tryAcquire();
+    }
+
+}
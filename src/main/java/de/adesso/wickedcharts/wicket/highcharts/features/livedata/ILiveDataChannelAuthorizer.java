@@ -0,0 +1,50 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts.features.livedata;
+
+import org.apache.wicket.request.Request;
+import org.apache.wicket.util.io.IClusterable;
+
+/**
+ * Decides which live data channels a client may read via the
+ * {@link LiveDataPushResource}. Register it with
+ * {@link LiveDataPushResourceReference#setAuthorizer(ILiveDataChannelAuthorizer)}
+ * in the <code>init()</code> method of the application, e.g. to restrict the
+ * channels to the roles of the user of the current session:
+ *
+ * <pre>
+ * LiveDataPushResourceReference.get().setAuthorizer(
+ *         (channelName, request) -&gt; MySession.get().canRead(channelName));
+ * </pre>
+ */
+@FunctionalInterface
+public interface ILiveDataChannelAuthorizer extends IClusterable {
+
+    /**
+     * Allows reading every channel by any client knowing its name.
+     */
+    ILiveDataChannelAuthorizer ALLOW_ALL = (channelName, request) -> true;
+
+    /**
+     * @param channelName
+     *          the name of the requested channel.
+     * @param request
+     *          the request of the client. The session of the client is
+     *          available via {@link org.apache.wicket.Session#get()}.
+     * @return true, if the client may read the points of the channel.
+     */
+    boolean isAuthorized(String channelName, Request request);
+
+}
@@ -16,25 +16,45 @@ package de.adesso.wickedcharts.wicket.highcharts.features.livedata;
 
 import de.adesso.wickedcharts.highcharts.jackson.JsonRenderer;
 import de.adesso.wickedcharts.highcharts.options.livedata.JavaScriptParameters;
+import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataBuffer;
 import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataSeries;
 import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataUpdateEvent;
 import de.adesso.wickedcharts.highcharts.options.series.Point;
-import de.adesso.wickedcharts.highcharts.options.util.OptionsUtil;
 import de.adesso.wickedcharts.wicket.JavaScriptExpressionSendingAjaxBehavior;
 import de.adesso.wickedcharts.wicket.highcharts.Chart;
 import de.adesso.wickedcharts.wicket.highcharts.JsonRendererFactory;
 import org.apache.wicket.Component;
 import org.apache.wicket.ajax.AjaxRequestTarget;
-import org.apache.wicket.markup.head.HeaderItem;
+import org.apache.wicket.ajax.attributes.AjaxCallListener;
+import org.apache.wicket.ajax.attributes.AjaxRequestAttributes;
 import org.apache.wicket.markup.head.IHeaderResponse;
 import org.apache.wicket.markup.head.JavaScriptHeaderItem;
-import org.apache.wicket.markup.head.OnDomReadyHeaderItem;
+import org.apache.wicket.request.resource.JavaScriptResourceReference;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * This Behavior adds javascript functionality to a chart that allows live
- * updating of a {@link LiveDataSeries} via AJAX.
+ * updating of the {@link LiveDataSeries} of the chart via AJAX.
+ *
+ * All {@link LiveDataSeries} of a chart are served by a single instance of
+ * this behavior. The client polls in the shortest update interval of all
+ * series and each poll returns the new points of all series that are due,
+ * keyed by their wickedChartsId. The updates are numbered, so that the client
+ * catches up on points it has missed. The client does not send a request while the
+ * previous one is in flight and backs off after failed or slow requests, see
+ * {@link LiveDataSeries#getNextUpdateDelayMs()} for hints from the server.
+ *
+ * The javascript parameters of each series are sent under the name
+ * <code>wickedChartsId:parameterName</code>, so that series using the same
+ * parameter name do not overwrite each other's values.
  *
  * @author Tom Hombergs (tom.hombergs@gmail.com)
  */
@@ -42,69 +62,298 @@ public class LiveDataAjaxBehavior extends JavaScriptExpressionSendingAjaxBehavio
 
     private static final long serialVersionUID = 1L;
 
-    private final LiveDataSeries series;
+    /**
+     * The request parameter containing the sequence numbers of the last
+     * updates the client has applied.
+     */
+    static final String SEQUENCES_PARAMETER = "liveDataSequences";
+
+    static final JavaScriptResourceReference LIVE_DATA_JS = new JavaScriptResourceReference(
+            LiveDataAjaxBehavior.class, "LiveData.js");
+
+    private final List<LiveDataSeries> series = new ArrayList<>();
 
-    private boolean firstRendering = true;
+    /**
+     * The time of the last update of each series, by wickedChartsId.
+     */
+    private final Map<Integer, Long> lastUpdates = new HashMap<>();
 
-    public LiveDataAjaxBehavior(final LiveDataSeries series) {
-        this.series = series;
+    /**
+     * The points of the last updates of each series, by wickedChartsId.
+     */
+    private final Map<Integer, LiveDataBuffer> buffers = new HashMap<>();
+
+    /**
+     * The delay until the next update suggested by the series updated in the
+     * last request.
+     */
+    private Integer nextUpdateDelayMs;
+
+    /**
+     * Sets the series served by this behavior.
+     *
+     * @param series the {@link LiveDataSeries} of the chart.
+     */
+    public void setSeries(final List<LiveDataSeries> series) {
+        this.series.clear();
+        this.series.addAll(series);
+        Set<Integer> wickedChartsIds = new HashSet<>();
+        for (LiveDataSeries liveDataSeries : series) {
+            wickedChartsIds.add(liveDataSeries.getWickedChartsId());
+        }
+        this.buffers.keySet().retainAll(wickedChartsIds);
+        this.lastUpdates.keySet().retainAll(wickedChartsIds);
+        clearJavaScriptValues();
+        for (LiveDataSeries liveDataSeries : series) {
+            for (Map.Entry<String, String> entry : liveDataSeries.getJavaScriptParameters().entrySet()) {
+                addJavaScriptValue(getParameterName(liveDataSeries, entry.getKey()), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * @return the name under which the value of the given javascript parameter
+     * of the given series is sent to the server.
+     */
+    static String getParameterName(final LiveDataSeries liveDataSeries, final String parameterName) {
+        return liveDataSeries.getWickedChartsId() + ":" + parameterName;
+    }
+
+    /**
+     * @return the javascript parameters of the given series, read from the
+     * parameters of all series.
+     */
+    static JavaScriptParameters getSeriesParameters(final LiveDataSeries liveDataSeries,
+                                                    final JavaScriptParameters parameters) {
+        return new JavaScriptParameters() {
+            @Override
+            public String getParameterValue(final String parameterName) {
+                return parameters.getParameterValue(getParameterName(liveDataSeries, parameterName));
+            }
+        };
+    }
+
+    public List<LiveDataSeries> getSeries() {
+        return this.series;
+    }
+
+    /**
+     * @return the interval in which the client polls for updates, i.e. the
+     * shortest update interval of all series.
+     */
+    public int getUpdateIntervalMs() {
+        int interval = Integer.MAX_VALUE;
+        for (LiveDataSeries liveDataSeries : this.series) {
+            interval = Math.min(interval, liveDataSeries.getUpdateIntervalMs());
+        }
+        return interval;
+    }
+
+    /**
+     * @return the time after which the client stops polling if the user does
+     * not interact with the page, or 0 to poll regardless of user interaction.
+     * @see LiveDataSeries#setIdleTimeoutMs(int)
+     */
+    public int getIdleTimeoutMs() {
+        return LiveDataSeries.getIdleTimeoutMs(this.series);
     }
 
     @Override
     protected void respond(final AjaxRequestTarget target) {
+        JsonRenderer renderer = JsonRendererFactory.getInstance().getRenderer();
+        Map<String, Map<String, Object>> updates = collectUpdates(target, createJavascriptParameters(),
+                parseSequences(getVariableValue(SEQUENCES_PARAMETER).toString()));
+        if (!updates.isEmpty()) {
+            target.appendJavaScript(MessageFormat.format("WickedCharts.LiveData.addPoints({0}, {1});",
+                    ((Chart) getComponent()).getJavaScriptVarName(), renderer.toJson(updates)));
+        }
+        if (this.nextUpdateDelayMs != null) {
+            target.appendJavaScript(MessageFormat.format("WickedCharts.LiveData.Poller.hint(''{0}'', {1});",
+                    getChartMarkupId(), String.valueOf(this.nextUpdateDelayMs)));
+        }
+    }
+
+    /**
+     * Collects the updates of all series. Series that are due are asked for
+     * new points. The points of each series are numbered, and each update
+     * contains all points since the sequence number the client has sent, so
+     * that a client catches up on points it has missed. If it has missed more
+     * points than the catch-up capacity of the series, the update contains a
+     * snapshot of the series instead and is marked for resynchronization.
+     *
+     * @param target     the current AJAX request target.
+     * @param parameters the javascript parameters of all series transmitted by
+     *                   the client, keyed by
+     *                   <code>wickedChartsId:parameterName</code>.
+     * @param sequences  the sequence number of the last update the client has
+     *                   applied to each series, keyed by wickedChartsId. Series
+     *                   without sequence number receive the new points only.
+     * @return the update of each series, keyed by wickedChartsId. An update
+     * contains the new sequence number ("sequence"), the points ("points") and
+     * the resynchronization flag ("resync"), if set. Series without updates
+     * are omitted.
+     */
+    public Map<String, Map<String, Object>> collectUpdates(final AjaxRequestTarget target,
+                                                          final JavaScriptParameters parameters,
+                                                          final Map<String, Long> sequences) {
         Chart chart = (Chart) getComponent();
-        int seriesIndex = OptionsUtil.getSeriesIndex(chart.getOptions(), this.series.getWickedChartsId());
-        LiveDataUpdateEvent event = new LiveDataUpdateEvent();
-        event.setJavascriptChartName(chart.getJavaScriptVarName());
-        event.setParameters(createJavascriptParameters());
-        WicketLiveDataUpdateEvent wicketEvent = new WicketLiveDataUpdateEvent(target, event);
-        final Point point = this.series.update(wicketEvent);
-        if (point != null) {
-            JsonRenderer renderer = JsonRendererFactory.getInstance().getRenderer();
-            String jsonPoint = renderer.toJson(point);
-            String javaScript = "var chartVarName = " + ((Chart) getComponent()).getJavaScriptVarName() + ";\n";
-            javaScript += "var seriesIndex = " + seriesIndex + ";\n";
-            javaScript += "eval(chartVarName).series[seriesIndex].addPoint(" + jsonPoint + ", true, true);\n";
-            target.appendJavaScript(javaScript);
+        Map<String, Map<String, Object>> updates = new LinkedHashMap<>();
+        this.nextUpdateDelayMs = null;
+        long now = System.currentTimeMillis();
+        for (LiveDataSeries liveDataSeries : this.series) {
+            String wickedChartsId = String.valueOf(liveDataSeries.getWickedChartsId());
+            LiveDataBuffer buffer = getBuffer(liveDataSeries);
+            long previousSequence = buffer.getSequence();
+            if (isDue(liveDataSeries, now)) {
+                this.lastUpdates.put(liveDataSeries.getWickedChartsId(), now);
+                LiveDataUpdateEvent event = new LiveDataUpdateEvent();
+                event.setJavascriptChartName(chart.getJavaScriptVarName());
+                event.setParameters(getSeriesParameters(liveDataSeries, parameters));
+                WicketLiveDataUpdateEvent wicketEvent = new WicketLiveDataUpdateEvent(target, event);
+                List<Point> points = liveDataSeries.updatePoints(wicketEvent);
+                if (liveDataSeries.getHistory() != null) {
+                    liveDataSeries.getHistory().add(points);
+                }
+                buffer.append(points);
+                Integer delay = liveDataSeries.getNextUpdateDelayMs();
+                if (delay != null && (this.nextUpdateDelayMs == null || delay < this.nextUpdateDelayMs)) {
+                    this.nextUpdateDelayMs = delay;
+                }
+            }
+            Long clientSequence = sequences.get(wickedChartsId);
+            Map<String, Object> update = createUpdate(liveDataSeries, buffer,
+                    clientSequence != null ? clientSequence : previousSequence);
+            if (update != null) {
+                updates.put(wickedChartsId, update);
+            }
         }
+        return updates;
     }
 
-    @Override
-    public void renderHead(final Component component, final IHeaderResponse response) {
-        super.renderHead(component, response);
-        if (this.firstRendering) {
-            response.render(getIntervalDeclarationHeaderItem());
-            this.firstRendering = false;
+    private Map<String, Object> createUpdate(final LiveDataSeries liveDataSeries, final LiveDataBuffer buffer,
+                                             final long lastSequence) {
+        LiveDataBuffer.Update update = buffer.getUpdateSince(lastSequence);
+        if (update.getPoints().isEmpty() && update.getSequence() == lastSequence) {
+            return null;
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sequence", update.getSequence());
+        if (update.isComplete()) {
+            result.put("points", update.getPoints());
         } else {
-            response.render(getClearIntervalHeaderItem());
+            result.put("points", getSnapshot(liveDataSeries, update.getPoints()));
+            result.put("resync", true);
         }
+        return result;
     }
 
-    private HeaderItem getClearIntervalHeaderItem() {
-        String varName = getIntervalJavaScriptVarName();
-        String javaScript = MessageFormat.format("if(!(typeof {0} === \"undefined\"))'{'\n" + "clearInterval({0});\n"
-                + "'}'", varName);
-        return OnDomReadyHeaderItem.forScript(javaScript);
+    /**
+     * The snapshot of a series consists of its data including the window of
+     * recent points or, if there is no such window, of its data with all
+     * points still kept for catching up applied in its update mode.
+     */
+    private List<Point> getSnapshot(final LiveDataSeries liveDataSeries, final List<Point> bufferedPoints) {
+        if (liveDataSeries.isHistoryEnabled()) {
+            List<Point> data = liveDataSeries.getData();
+            return data == null ? new ArrayList<Point>() : new ArrayList<>(data);
+        }
+        return liveDataSeries.getUpdateMode().apply(liveDataSeries.getData(), bufferedPoints,
+                liveDataSeries.getWindowSize());
     }
 
-    private HeaderItem getIntervalDeclarationHeaderItem() {
-        String varName = getIntervalJavaScriptVarName();
-        String javaScript = MessageFormat.format("var {0};", varName);
-        return JavaScriptHeaderItem.forScript(javaScript, varName + "-declaration");
+    private LiveDataBuffer getBuffer(final LiveDataSeries liveDataSeries) {
+        LiveDataBuffer buffer = this.buffers.get(liveDataSeries.getWickedChartsId());
+        if (buffer == null) {
+            buffer = new LiveDataBuffer(liveDataSeries.getCatchUpCapacity());
+            this.buffers.put(liveDataSeries.getWickedChartsId(), buffer);
+        } else if (buffer.getCapacity() != liveDataSeries.getCatchUpCapacity()) {
+            // continue the numbering, so that the sequence number of the client
+            // stays valid or the client is resynchronized
+            buffer = new LiveDataBuffer(buffer, liveDataSeries.getCatchUpCapacity());
+            this.buffers.put(liveDataSeries.getWickedChartsId(), buffer);
+        }
+        return buffer;
     }
 
-    protected String getIntervalJavaScriptVarName() {
-        Chart chart = (Chart) getComponent();
-        int seriesIndex = OptionsUtil.getSeriesIndex(chart.getOptions(), this.series.getWickedChartsId());
-        return getComponent().getMarkupId() + "SeriesInterval" + seriesIndex;
+    /**
+     * Parses the sequence numbers sent by the client.
+     *
+     * @param json a JSON object containing the sequence number of each series,
+     *             keyed by wickedChartsId. May be null.
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Long> parseSequences(final String json) {
+        Map<String, Long> sequences = new HashMap<>();
+        if (json == null || json.isEmpty()) {
+            return sequences;
+        }
+        Map<String, Object> values = JsonRendererFactory.getInstance().getRenderer().fromJson(json, Map.class);
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            if (entry.getValue() instanceof Number) {
+                sequences.put(entry.getKey(), ((Number) entry.getValue()).longValue());
+            }
+        }
+        return sequences;
     }
 
-    protected void reset() {
-        this.firstRendering = true;
+    /**
+     * @return the delay until the next update suggested by the series updated
+     * in the last call of {@link #collectUpdates(AjaxRequestTarget, JavaScriptParameters, Map)},
+     * or null, if no series has suggested a delay.
+     */
+    public Integer getNextUpdateDelayMs() {
+        return this.nextUpdateDelayMs;
     }
 
-    public LiveDataSeries getSeries() {
-        return this.series;
+    /**
+     * @return a javascript function returning an object that contains the
+     * values of all javascript parameters of the series.
+     */
+    public String getJavaScriptParametersFunction() {
+        StringBuilder function = new StringBuilder("function(){return {");
+        boolean first = true;
+        for (Map.Entry<String, String> entry : getJavaScriptValues().entrySet()) {
+            if (!first) {
+                function.append(", ");
+            }
+            function.append('"').append(entry.getKey().replace("\"", "\\\"")).append("\": (")
+                    .append(entry.getValue()).append(')');
+            first = false;
+        }
+        return function.append("};}").toString();
+    }
+
+    /**
+     * A series is due if its update interval has passed since its last update.
+     * Half a poll interval is tolerated, since the client timer is not exact.
+     */
+    private boolean isDue(final LiveDataSeries liveDataSeries, final long now) {
+        Long lastUpdate = this.lastUpdates.get(liveDataSeries.getWickedChartsId());
+        return lastUpdate == null
+                || now - lastUpdate >= liveDataSeries.getUpdateIntervalMs() - getUpdateIntervalMs() / 2;
+    }
+
+    @Override
+    public void renderHead(final Component component, final IHeaderResponse response) {
+        super.renderHead(component, response);
+        response.render(JavaScriptHeaderItem.forReference(LIVE_DATA_JS));
+    }
+
+    @Override
+    protected void updateAjaxAttributes(final AjaxRequestAttributes attributes) {
+        super.updateAjaxAttributes(attributes);
+        String markupId = getChartMarkupId();
+        AjaxCallListener listener = new AjaxCallListener();
+        attributes.getDynamicExtraParameters().add("return {'" + SEQUENCES_PARAMETER
+                + "': JSON.stringify(WickedCharts.LiveData.getSequences(WickedCharts.LiveData.getChart('"
+                + markupId + "')))};");
+        listener.onSuccess("WickedCharts.LiveData.Poller.done('" + markupId + "', true);");
+        listener.onFailure("WickedCharts.LiveData.Poller.done('" + markupId + "', false);");
+        attributes.getAjaxCallListeners().add(listener);
+    }
+
+    String getChartMarkupId() {
+        return getComponent().getMarkupId();
     }
 
     @Override
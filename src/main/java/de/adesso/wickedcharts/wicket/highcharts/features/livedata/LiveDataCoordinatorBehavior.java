@@ -0,0 +1,131 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts.features.livedata;
+
+import de.adesso.wickedcharts.highcharts.jackson.JsonRenderer;
+import de.adesso.wickedcharts.highcharts.options.livedata.JavaScriptParameters;
+import de.adesso.wickedcharts.wicket.highcharts.Chart;
+import de.adesso.wickedcharts.wicket.highcharts.JsonRendererFactory;
+import org.apache.wicket.Component;
+import org.apache.wicket.Page;
+import org.apache.wicket.ajax.AbstractDefaultAjaxBehavior;
+import org.apache.wicket.ajax.AjaxRequestTarget;
+import org.apache.wicket.ajax.attributes.AjaxCallListener;
+import org.apache.wicket.ajax.attributes.AjaxRequestAttributes;
+import org.apache.wicket.ajax.attributes.CallbackParameter;
+import org.apache.wicket.markup.head.IHeaderResponse;
+import org.apache.wicket.markup.head.JavaScriptHeaderItem;
+import org.apache.wicket.request.cycle.RequestCycle;
+import org.apache.wicket.util.visit.IVisit;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page-wide coordinator for the live data of all charts on a page. Without
+ * it, each chart with a {@link de.adesso.wickedcharts.highcharts.options.livedata.LiveDataSeries}
+ * runs its own timer and sends its own AJAX request. Since Wicket processes
+ * the AJAX requests of a page one after the other, a page with many live
+ * charts produces a queue of requests on each interval.
+ *
+ * If this behavior is added to the page, all live charts register with a
+ * single client timer instead. On each tick, the parameters of all charts
+ * that are due are collected and sent in a single AJAX request, and the new
+ * points of all charts are returned in a single response. The next request is
+ * not sent while the previous one is in flight, and the coordinator backs off
+ * after failed or slow requests.
+ *
+ * Usage: <code>page.add(new LiveDataCoordinatorBehavior());</code>
+ */
+public class LiveDataCoordinatorBehavior extends AbstractDefaultAjaxBehavior {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String REQUEST_PARAMETER = "liveDataRequest";
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void respond(final AjaxRequestTarget target) {
+        String request = RequestCycle.get().getRequest().getRequestParameters().getParameterValue(REQUEST_PARAMETER)
+                .toString();
+        if (request == null) {
+            return;
+        }
+        JsonRenderer renderer = JsonRendererFactory.getInstance().getRenderer();
+        final Map<String, Map<String, Object>> charts = renderer.fromJson(request, Map.class);
+        final Map<String, Map<String, Map<String, Object>>> updates = new LinkedHashMap<>();
+        final Map<String, Integer> hints = new LinkedHashMap<>();
+        ((Page) getComponent()).visitChildren(Chart.class, (final Chart chart, final IVisit<Void> visit) -> {
+            Map<String, Object> parameters = charts.get(chart.getMarkupId());
+            List<LiveDataAjaxBehavior> behaviors = chart.getBehaviors(LiveDataAjaxBehavior.class);
+            if (parameters != null && !behaviors.isEmpty()) {
+                LiveDataAjaxBehavior behavior = behaviors.get(0);
+                Object sequences = parameters.remove(LiveDataAjaxBehavior.SEQUENCES_PARAMETER);
+                Map<String, Map<String, Object>> chartUpdates = behavior.collectUpdates(target,
+                        createJavascriptParameters(parameters),
+                        LiveDataAjaxBehavior.parseSequences(sequences == null ? null : sequences.toString()));
+                if (!chartUpdates.isEmpty()) {
+                    updates.put(chart.getMarkupId(), chartUpdates);
+                }
+                if (behavior.getNextUpdateDelayMs() != null) {
+                    hints.put(chart.getMarkupId(), behavior.getNextUpdateDelayMs());
+                }
+            }
+        });
+        if (!updates.isEmpty() || !hints.isEmpty()) {
+            target.appendJavaScript("WickedCharts.LiveData.Coordinator.dispatch(" + renderer.toJson(updates) + ", "
+                    + renderer.toJson(hints) + ");");
+        }
+    }
+
+    @Override
+    protected void updateAjaxAttributes(final AjaxRequestAttributes attributes) {
+        super.updateAjaxAttributes(attributes);
+        AjaxCallListener listener = new AjaxCallListener();
+        listener.onSuccess("WickedCharts.LiveData.Coordinator.done(true);");
+        listener.onFailure("WickedCharts.LiveData.Coordinator.done(false);");
+        attributes.getAjaxCallListeners().add(listener);
+    }
+
+    @Override
+    public void renderHead(final Component component, final IHeaderResponse response) {
+        super.renderHead(component, response);
+        response.render(JavaScriptHeaderItem.forReference(LiveDataAjaxBehavior.LIVE_DATA_JS));
+        response.render(JavaScriptHeaderItem.forScript("WickedCharts.LiveData.Coordinator.init("
+                + getCallbackFunction(CallbackParameter.explicit(REQUEST_PARAMETER)) + ");",
+                "wicked-charts-live-data-coordinator"));
+    }
+
+    @Override
+    protected void onBind() {
+        super.onBind();
+        if (!(getComponent() instanceof Page)) {
+            throw new IllegalStateException(LiveDataCoordinatorBehavior.class.getSimpleName()
+                    + " can only be bound to components of type " + Page.class.getSimpleName() + ".");
+        }
+    }
+
+    private static JavaScriptParameters createJavascriptParameters(final Map<String, Object> parameters) {
+        return new JavaScriptParameters() {
+            @Override
+            public String getParameterValue(final String parameterName) {
+                Object value = parameters.get(parameterName);
+                return value == null ? null : String.valueOf(value);
+            }
+        };
+    }
+
+}
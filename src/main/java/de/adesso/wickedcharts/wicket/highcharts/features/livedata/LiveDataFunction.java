@@ -15,15 +15,23 @@
 package de.adesso.wickedcharts.wicket.highcharts.features.livedata;
 
 import de.adesso.wickedcharts.highcharts.options.Function;
-import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataChannel;
 import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataSeries;
-import de.adesso.wickedcharts.highcharts.options.util.OptionsUtil;
+import de.adesso.wickedcharts.wicket.highcharts.JsonRendererFactory;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
- * This javascript function starts a javascript timer to update a
- * {@link LiveDataSeries}.
+ * This javascript function starts a javascript poller to update the
+ * {@link LiveDataSeries} of a chart. There is only one poller per chart, no
+ * matter how many {@link LiveDataSeries} the chart contains. Series bound to
+ * a {@link LiveDataChannel} are not polled but subscribed to their channels.
  *
  * @author Tom Hombergs (tom.hombergs@gmail.com)
  */
@@ -31,22 +39,74 @@ public class LiveDataFunction extends Function {
 
     private static final long serialVersionUID = 1L;
 
-    private String createJavascript(final Options options, final LiveDataAjaxBehavior behavior) {
-        int seriesIndex = OptionsUtil.getSeriesIndex(options, behavior.getSeries().getWickedChartsId());
-        String interval = String.valueOf(behavior.getSeries().getUpdateIntervalMs());
-        String intervalVarName = behavior.getIntervalJavaScriptVarName();
-        String functionBody = "var series = this.series[" + seriesIndex + "];\n";
-        functionBody += MessageFormat.format("if(!(typeof {0} === \"undefined\"))'{'clearInterval({0});'}'",
-                intervalVarName);
-        functionBody += intervalVarName + " = setInterval(function(series){\n";
-        functionBody += behavior.getCallbackScript();
-        functionBody += "}, " + interval + ");";
-        return functionBody;
+    /**
+     * Constructs a function that does not poll. Use
+     * {@link #addPushSubscription(String, CharSequence, List)} to subscribe to
+     * the channels of series updated by push.
+     */
+    public LiveDataFunction() {
+        setFunction("");
     }
 
-    public void addLiveDataSeries(final Options options, final LiveDataAjaxBehavior behavior) {
-        String javascript = createJavascript(options, behavior);
-        setFunction(getBody() + "\n\n" + javascript);
+    public LiveDataFunction(final LiveDataAjaxBehavior behavior) {
+        setFunction(createJavascript(behavior));
+    }
+
+    /**
+     * Constructs a function that registers the chart with the page-wide
+     * {@link LiveDataCoordinatorBehavior} instead of starting its own timer.
+     *
+     * @param behavior the behavior serving the live data of the chart.
+     * @param markupId the markup id of the chart.
+     */
+    public LiveDataFunction(final LiveDataAjaxBehavior behavior, final String markupId) {
+        setFunction(MessageFormat.format("WickedCharts.LiveData.Coordinator.register(''{0}'', this, {1}, {2}, {3});",
+                markupId, String.valueOf(behavior.getUpdateIntervalMs()),
+                behavior.getJavaScriptParametersFunction(), String.valueOf(behavior.getIdleTimeoutMs())));
+    }
+
+    /**
+     * Adds the subscription of the given series to their
+     * {@link LiveDataChannel}s. The client receives only points published
+     * after this function has been created.
+     *
+     * @param markupId the markup id of the chart.
+     * @param url      the url of the {@link LiveDataPushResource}.
+     * @param series   the series bound to a channel.
+     * @return this object for chaining
+     */
+    public LiveDataFunction addPushSubscription(final String markupId, final CharSequence url,
+                                                final List<LiveDataSeries> series) {
+        Map<String, List<Integer>> seriesByChannel = new LinkedHashMap<>();
+        Set<String> sharedChannels = new HashSet<>();
+        for (LiveDataSeries liveDataSeries : series) {
+            seriesByChannel.computeIfAbsent(liveDataSeries.getChannel(), name -> new ArrayList<>())
+                    .add(liveDataSeries.getWickedChartsId());
+            if (liveDataSeries.isSharedAcrossTabs()) {
+                sharedChannels.add(liveDataSeries.getChannel());
+            }
+        }
+        Map<String, Map<String, Object>> channels = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Integer>> entry : seriesByChannel.entrySet()) {
+            Map<String, Object> channel = new LinkedHashMap<>();
+            channel.put("sequence", LiveDataChannel.get(entry.getKey()).getSequence());
+            channel.put("series", entry.getValue());
+            if (sharedChannels.contains(entry.getKey())) {
+                channel.put("shared", Boolean.TRUE);
+            }
+            channels.put(entry.getKey(), channel);
+        }
+        setFunction(getBody() + MessageFormat.format(
+                "WickedCharts.LiveData.Push.subscribe(''{0}'', this, ''{1}'', {2}, {3});", markupId, url,
+                JsonRendererFactory.getInstance().getRenderer().toJson(channels),
+                String.valueOf(LiveDataSeries.getIdleTimeoutMs(series))));
+        return this;
+    }
+
+    private String createJavascript(final LiveDataAjaxBehavior behavior) {
+        return MessageFormat.format("WickedCharts.LiveData.Poller.start(''{0}'', {1}, function()'{'{2}'}', {3});",
+                behavior.getChartMarkupId(), String.valueOf(behavior.getUpdateIntervalMs()),
+                behavior.getCallbackScript(), String.valueOf(behavior.getIdleTimeoutMs()));
     }
 
 }
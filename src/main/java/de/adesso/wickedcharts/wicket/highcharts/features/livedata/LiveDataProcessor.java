@@ -14,6 +14,7 @@
  */
 package de.adesso.wickedcharts.wicket.highcharts.features.livedata;
 
+import de.adesso.wickedcharts.highcharts.options.ChartOptions;
 import de.adesso.wickedcharts.highcharts.options.IProcessableOption;
 import de.adesso.wickedcharts.highcharts.options.Options;
 import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataSeries;
@@ -21,12 +22,19 @@ import de.adesso.wickedcharts.highcharts.options.processing.IOptionsProcessor;
 import de.adesso.wickedcharts.highcharts.options.processing.OptionsProcessorContext;
 import de.adesso.wickedcharts.highcharts.options.util.OptionsUtil;
 import org.apache.wicket.Component;
+import org.apache.wicket.Page;
+import org.apache.wicket.request.cycle.RequestCycle;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * This processor reads all {@link LiveDataSeries} from an {@link Options}
- * object and adds a {@link LiveDataAjaxBehavior} to the chart.
+ * object and adds a single {@link LiveDataAjaxBehavior} serving all of them to
+ * the chart. If the page contains a {@link LiveDataCoordinatorBehavior}, the
+ * chart is polled by the coordinator instead of its own timer. Series bound to
+ * a {@link de.adesso.wickedcharts.highcharts.options.livedata.LiveDataChannel}
+ * are not polled, but subscribed to the {@link LiveDataPushResource}.
  *
  * @author Tom Hombergs (tom.hombergs@gmail.com)
  */
@@ -41,35 +49,65 @@ public class LiveDataProcessor implements IOptionsProcessor {
     @Override
     public void processOptions(final Options options, final OptionsProcessorContext context) {
         List<IProcessableOption> processables = options.getMarkedForProcessing(LiveDataSeries.PROCESSING_KEY);
-        LiveDataFunction function = new LiveDataFunction();
-        if (processables.size() > 1) {
-            throw new RuntimeException("Only one LiveDataSeries per chart allowed!");
+        if (processables.isEmpty()) {
+            return;
         }
+        List<LiveDataSeries> polledSeries = new ArrayList<>();
+        List<LiveDataSeries> pushedSeries = new ArrayList<>();
         for (IProcessableOption processable : processables) {
             LiveDataSeries series = (LiveDataSeries) processable;
-
-            LiveDataAjaxBehavior behavior = getBehaviorFromComponent(this.component, series);
-            if (behavior == null) {
-                behavior = new LiveDataAjaxBehavior(series);
-                this.component.add(behavior);
+            if (series.getChannel() == null) {
+                polledSeries.add(series);
+            } else {
+                pushedSeries.add(series);
             }
-            behavior.addJavaScriptValues(series.getJavaScriptParameters());
-            function.addLiveDataSeries(options, behavior);
+        }
+
+        LiveDataAjaxBehavior behavior = getBehaviorFromComponent(this.component);
+        if (behavior == null) {
+            behavior = new LiveDataAjaxBehavior();
+            this.component.add(behavior);
+        }
+        behavior.setSeries(polledSeries);
+        removeLiveDataFunction(options);
+        LiveDataFunction function;
+        if (polledSeries.isEmpty()) {
+            function = new LiveDataFunction();
+        } else if (hasCoordinator(this.component)) {
+            function = new LiveDataFunction(behavior, this.component.getMarkupId());
+        } else {
+            function = new LiveDataFunction(behavior);
+        }
+        if (!pushedSeries.isEmpty()) {
+            function.addPushSubscription(this.component.getMarkupId(),
+                    RequestCycle.get().urlFor(LiveDataPushResourceReference.get(), null), pushedSeries);
         }
         OptionsUtil.getInstance().setChartEventsLoad(options, function);
     }
 
-    private LiveDataAjaxBehavior getBehaviorFromComponent(final Component component, final LiveDataSeries series) {
-        List<LiveDataAjaxBehavior> behaviors = component.getBehaviors(LiveDataAjaxBehavior.class);
+    private boolean hasCoordinator(final Component component) {
+        Page page = component.findParent(Page.class);
+        return page != null && !page.getBehaviors(LiveDataCoordinatorBehavior.class).isEmpty();
+    }
 
-        for (LiveDataAjaxBehavior behavior : behaviors) {
-            if (behavior.getSeries().getWickedChartsId().equals(series.getWickedChartsId())) {
-                behavior.reset();
-                return behavior;
-            }
+    /**
+     * Removes the {@link LiveDataFunction} of a previous processing run, so that
+     * changes of the update intervals are applied.
+     */
+    private void removeLiveDataFunction(final Options options) {
+        ChartOptions chartOptions = options.getChartOptions();
+        if (chartOptions != null && chartOptions.getEvents() != null
+                && chartOptions.getEvents().getLoad() instanceof LiveDataFunction) {
+            chartOptions.getEvents().setLoad(null);
         }
+    }
 
-        return null;
+    private LiveDataAjaxBehavior getBehaviorFromComponent(final Component component) {
+        List<LiveDataAjaxBehavior> behaviors = component.getBehaviors(LiveDataAjaxBehavior.class);
+        if (behaviors.isEmpty()) {
+            return null;
+        }
+        return behaviors.get(0);
     }
 
 }
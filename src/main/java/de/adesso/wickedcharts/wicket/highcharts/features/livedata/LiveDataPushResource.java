@@ -0,0 +1,206 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts.features.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataBuffer;
+import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataChannel;
+import de.adesso.wickedcharts.wicket.highcharts.JsonRendererFactory;
+import org.apache.wicket.request.mapper.parameter.PageParameters;
+import org.apache.wicket.request.resource.AbstractResource;
+import org.apache.wicket.util.string.StringValue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes the points published to {@link LiveDataChannel}s to the client via
+ * long polling. A request names the channels and the sequence number up to
+ * which the client has seen the points of each channel. If there are newer
+ * points, they are returned immediately. Otherwise the request is held open
+ * until points are published to one of the channels or the timeout expires.
+ *
+ * This resource is not bound to a page, so a pending request does not block
+ * the AJAX requests of the page. Only channels registered on the server can
+ * be read, and only if the {@link ILiveDataChannelAuthorizer} allows it. A
+ * request for a channel the client is not authorized for is answered with
+ * status 403.
+ *
+ * A pending request occupies a thread of the servlet container until points
+ * are published or the timeout expires, i.e. each open chart with a live data
+ * channel costs one container thread. To keep the container responsive, at most
+ * <code>maxWaiters</code> requests are held open at the same time. Further
+ * requests are answered with status 503, after which the client retries with
+ * a growing delay. Choose the limit well below the size of the thread pool of
+ * the container.
+ *
+ * Use {@link LiveDataPushResourceReference} to refer to this resource.
+ */
+public class LiveDataPushResource extends AbstractResource {
+
+    private static final long serialVersionUID = 1L;
+
+    static final String CHANNEL_PARAMETER = "channel";
+
+    static final String SEQUENCE_PARAMETER = "sequence";
+
+    /**
+     * The default time a request is held open, if no points are published.
+     */
+    public static final long DEFAULT_TIMEOUT_MS = 20000;
+
+    /**
+     * The default number of requests held open at the same time.
+     */
+    public static final int DEFAULT_MAX_WAITERS = 100;
+
+    private static final AtomicInteger WAITERS = new AtomicInteger();
+
+    private final long timeoutMs;
+
+    private final int maxWaiters;
+
+    private final ILiveDataChannelAuthorizer authorizer;
+
+    public LiveDataPushResource() {
+        this(DEFAULT_TIMEOUT_MS);
+    }
+
+    public LiveDataPushResource(final long timeoutMs) {
+        this(timeoutMs, DEFAULT_MAX_WAITERS, ILiveDataChannelAuthorizer.ALLOW_ALL);
+    }
+
+    /**
+     * @param timeoutMs
+     *          the time a request is held open, if no points are published.
+     * @param maxWaiters
+     *          the number of requests held open at the same time by all
+     *          instances of this resource.
+     * @param authorizer
+     *          decides which channels a client may read.
+     */
+    public LiveDataPushResource(final long timeoutMs, final int maxWaiters, final ILiveDataChannelAuthorizer authorizer) {
+        if (maxWaiters <= 0) {
+            throw new IllegalArgumentException("maxWaiters must be positive!");
+        }
+        this.timeoutMs = timeoutMs;
+        this.maxWaiters = maxWaiters;
+        this.authorizer = authorizer;
+    }
+
+    /**
+     * @return the number of requests currently held open.
+     */
+    public static int getWaiterCount() {
+        return WAITERS.get();
+    }
+
+    @Override
+    protected ResourceResponse newResourceResponse(final Attributes attributes) {
+        ResourceResponse response = new ResourceResponse();
+        PageParameters parameters = attributes.getParameters();
+        List<StringValue> channelNames = parameters.getValues(CHANNEL_PARAMETER);
+        List<StringValue> sequences = parameters.getValues(SEQUENCE_PARAMETER);
+        if (channelNames.isEmpty() || channelNames.size() != sequences.size()) {
+            return response.setError(400, "Each channel requires a sequence number!");
+        }
+        Map<LiveDataChannel, Long> subscriptions = new LinkedHashMap<>();
+        for (int i = 0; i < channelNames.size(); i++) {
+            String channelName = channelNames.get(i).toString();
+            if (!this.authorizer.isAuthorized(channelName, attributes.getRequest())) {
+                return response.setError(403, "Access to the channel " + channelName + " is denied!");
+            }
+            LiveDataChannel channel = LiveDataChannel.find(channelName);
+            if (channel != null) {
+                subscriptions.put(channel, sequences.get(i).toLong(-1L));
+            }
+        }
+
+        Map<String, Map<String, Object>> updates = awaitUpdates(subscriptions);
+        if (updates == null) {
+            return response.setError(503, "Too many pending requests!");
+        }
+        final String json = JsonRendererFactory.getInstance().getRenderer().toJson(updates);
+        response.setContentType("application/json");
+        response.setTextEncoding("UTF-8");
+        response.disableCaching();
+        response.setWriteCallback(new WriteCallback() {
+            @Override
+            public void writeData(final Attributes attributes) {
+                attributes.getResponse().write(json);
+            }
+        });
+        return response;
+    }
+
+    /**
+     * Waits for updates of the given channels.
+     *
+     * @return the updates or null, if there are no updates yet and too many
+     *         requests are held open already.
+     */
+    private Map<String, Map<String, Object>> awaitUpdates(final Map<LiveDataChannel, Long> subscriptions) {
+        Map<String, Map<String, Object>> updates = collectUpdates(subscriptions);
+        if (!updates.isEmpty() || subscriptions.isEmpty()) {
+            return updates;
+        }
+        if (WAITERS.incrementAndGet() > this.maxWaiters) {
+            WAITERS.decrementAndGet();
+            return null;
+        }
+        CountDownLatch published = new CountDownLatch(1);
+        Runnable listener = published::countDown;
+        for (LiveDataChannel channel : subscriptions.keySet()) {
+            channel.addListener(listener);
+        }
+        try {
+            // points may have been published before the listener was added
+            updates = collectUpdates(subscriptions);
+            if (updates.isEmpty() && published.await(this.timeoutMs, TimeUnit.MILLISECONDS)) {
+                updates = collectUpdates(subscriptions);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (LiveDataChannel channel : subscriptions.keySet()) {
+                channel.removeListener(listener);
+            }
+            WAITERS.decrementAndGet();
+        }
+        return updates;
+    }
+
+    /**
+     * Collects the updates of all channels with new points or with a sequence
+     * number the client has to adopt, keyed by the name of the channel.
+     */
+    private Map<String, Map<String, Object>> collectUpdates(final Map<LiveDataChannel, Long> subscriptions) {
+        Map<String, Map<String, Object>> updates = new LinkedHashMap<>();
+        for (Map.Entry<LiveDataChannel, Long> subscription : subscriptions.entrySet()) {
+            LiveDataBuffer.Update update = subscription.getKey().getUpdateSince(subscription.getValue());
+            if (!update.getPoints().isEmpty() || update.getSequence() != subscription.getValue()) {
+                Map<String, Object> channelUpdate = new LinkedHashMap<>();
+                channelUpdate.put("sequence", update.getSequence());
+                channelUpdate.put("points", update.getPoints());
+                updates.put(subscription.getKey().getName(), channelUpdate);
+            }
+        }
+        return updates;
+    }
+
+}
@@ -0,0 +1,82 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts.features.livedata;
+
+import org.apache.wicket.request.resource.IResource;
+import org.apache.wicket.request.resource.ResourceReference;
+
+/**
+ * Reference to the {@link LiveDataPushResource}. It is registered with the
+ * application by the {@link de.adesso.wickedcharts.wicket.WickedChartsInitializer}.
+ *
+ * By default, any client knowing the name of a channel may read it. Set an
+ * {@link ILiveDataChannelAuthorizer} in the <code>init()</code> method of the
+ * application to restrict the access.
+ */
+public class LiveDataPushResourceReference extends ResourceReference {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final LiveDataPushResourceReference INSTANCE = new LiveDataPushResourceReference();
+
+    private volatile ILiveDataChannelAuthorizer authorizer = ILiveDataChannelAuthorizer.ALLOW_ALL;
+
+    private volatile int maxWaiters = LiveDataPushResource.DEFAULT_MAX_WAITERS;
+
+    private LiveDataPushResourceReference() {
+        super(LiveDataPushResourceReference.class, "live-data-push");
+    }
+
+    public static LiveDataPushResourceReference get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Sets the authorizer deciding which channels a client may read.
+     */
+    public LiveDataPushResourceReference setAuthorizer(final ILiveDataChannelAuthorizer authorizer) {
+        if (authorizer == null) {
+            throw new IllegalArgumentException("authorizer must not be null!");
+        }
+        this.authorizer = authorizer;
+        return this;
+    }
+
+    public ILiveDataChannelAuthorizer getAuthorizer() {
+        return this.authorizer;
+    }
+
+    /**
+     * Sets the number of requests held open at the same time. Each of them
+     * occupies a thread of the servlet container.
+     */
+    public LiveDataPushResourceReference setMaxWaiters(final int maxWaiters) {
+        if (maxWaiters <= 0) {
+            throw new IllegalArgumentException("maxWaiters must be positive!");
+        }
+        this.maxWaiters = maxWaiters;
+        return this;
+    }
+
+    public int getMaxWaiters() {
+        return this.maxWaiters;
+    }
+
+    @Override
+    public IResource getResource() {
+        return new LiveDataPushResource(LiveDataPushResource.DEFAULT_TIMEOUT_MS, this.maxWaiters, this.authorizer);
+    }
+
+}
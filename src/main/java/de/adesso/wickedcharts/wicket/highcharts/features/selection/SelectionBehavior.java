@@ -40,14 +40,25 @@ public abstract class SelectionBehavior extends JavaScriptExpressionSendingAjaxB
 
     @Override
     protected void respond(final AjaxRequestTarget target) {
-        Chart chart = (Chart) getComponent();
+        SelectionEvent event = createEvent((Chart) getComponent(), getVariableValue(SELECTION_EVENT));
+        onSelection(event, target);
+    }
+
+    /**
+     * Creates the {@link SelectionEvent} for a selection within the given
+     * chart. This method is not part of the public API!
+     *
+     * @param chart              the chart in which the user selected a portion
+     * @param selectionEventJson the selection event sent by the client as JSON
+     * @return the event
+     */
+    public static SelectionEvent createEvent(final Chart chart, final StringValue selectionEventJson) {
         Options options = chart.getOptions();
 
         SelectionEvent event = new SelectionEvent();
         event.setJavascriptChartName(chart.getJavaScriptVarName());
 
-        StringValue selectionEventJson = getVariableValue(SELECTION_EVENT);
-        if (selectionEventJson != null && !"".equals(selectionEventJson.toString())) {
+        if (selectionEventJson != null && !selectionEventJson.isEmpty()) {
             JsonRenderer renderer = JsonRendererFactory.getInstance().getRenderer();
             JsonSelectionEvent jsonEvent = renderer.fromJson(selectionEventJson.toString(), JsonSelectionEvent.class);
 
@@ -61,11 +72,10 @@ public abstract class SelectionBehavior extends JavaScriptExpressionSendingAjaxB
                 event.getyAxes().add(selection);
             }
         }
-
-        onSelection(event, target);
+        return event;
     }
 
-    private Selection mapJsonSelection(final Options options, final JsonSelection jsonSelection) {
+    private static Selection mapJsonSelection(final Options options, final JsonSelection jsonSelection) {
         Selection selection = new Selection();
         selection.setMax(jsonSelection.getMax());
         selection.setMin(jsonSelection.getMin());
@@ -15,12 +15,11 @@
 package de.adesso.wickedcharts.wicket.highcharts.features.selection;
 
 import de.adesso.wickedcharts.highcharts.options.Options;
-import de.adesso.wickedcharts.highcharts.options.interaction.SelectionEvent;
 import de.adesso.wickedcharts.highcharts.options.interaction.SelectionFunction;
 import de.adesso.wickedcharts.highcharts.options.processing.IOptionsProcessor;
 import de.adesso.wickedcharts.highcharts.options.processing.OptionsProcessorContext;
 import de.adesso.wickedcharts.wicket.highcharts.Chart;
-import org.apache.wicket.ajax.AjaxRequestTarget;
+import de.adesso.wickedcharts.wicket.highcharts.features.interaction.InteractionDispatchingBehavior;
 
 import java.io.Serializable;
 import java.util.List;
@@ -37,21 +36,19 @@ public class SelectionProcessor implements IOptionsProcessor, Serializable {
     public void processOptions(final Options options, final OptionsProcessorContext context) {
 
         List<SelectionFunction> functions = context.getSelectionFunctions();
-        for (final SelectionFunction function : functions) {
+        InteractionDispatchingBehavior behavior = functions.isEmpty()
+                ? InteractionDispatchingBehavior.getFromChart(this.chart)
+                : InteractionDispatchingBehavior.forChart(this.chart);
+        if (behavior == null) {
+            return;
+        }
 
-            // add server side AJAX event
-            SelectionBehavior selectionBehavior = new SelectionBehavior() {
-                @Override
-                public void onSelection(final SelectionEvent event, final AjaxRequestTarget target) {
-                    WicketSelectionEvent wicketEvent = new WicketSelectionEvent(target, event);
-                    function.onSelect(wicketEvent);
-                }
-            };
-            this.chart.add(selectionBehavior);
-
-            // add client side javascript to trigger an AJAX call
-            String functionBody = selectionBehavior.getCallbackScript().toString();
-            function.setFunction(functionBody);
+        // register the functions with the server side AJAX behavior of the chart
+        behavior.setFunctions(SelectionFunction.class, functions);
+
+        // add client side javascript to trigger an AJAX call
+        for (final SelectionFunction function : functions) {
+            function.setFunction(behavior.getCallbackFunctionBody(function).toString());
         }
     }
 
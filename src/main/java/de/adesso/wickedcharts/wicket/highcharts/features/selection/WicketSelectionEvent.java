@@ -26,7 +26,7 @@ public class WicketSelectionEvent extends SelectionEvent {
 
     private AjaxRequestTarget ajaxRequestTarget;
 
-    WicketSelectionEvent(final AjaxRequestTarget ajaxRequestTarget, final SelectionEvent sourceEvent) {
+    public WicketSelectionEvent(final AjaxRequestTarget ajaxRequestTarget, final SelectionEvent sourceEvent) {
         this.setAjaxRequestTarget(ajaxRequestTarget);
         this.xAxes = sourceEvent.getxAxes();
         this.yAxes = sourceEvent.getyAxes();
@@ -4,4 +4,14 @@ function drilldown(point, drilldownOptionsArray) {
 	if (drilldownOptions) {
 		new Highcharts.Chart(drilldownOptions);
 	}
-}
\ No newline at end of file
+}
+
+function lazyDrilldown(point, drilldownOptionsArray, loadDrilldownOptions) {
+	var index = point.drilldownOptionsIndex;
+	var drilldownOptions = drilldownOptionsArray[index];
+	if (drilldownOptions) {
+		new Highcharts.Chart(drilldownOptions);
+	} else if (index != null) {
+		loadDrilldownOptions(index);
+	}
+}
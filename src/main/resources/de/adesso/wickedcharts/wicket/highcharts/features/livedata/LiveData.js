@@ -0,0 +1,1000 @@
+/**
+ * @namespace Root namespace of Wicked Charts.
+ */
+var WickedCharts = WickedCharts || {};
+
+/**
+ * @namespace Namespace of the LiveData module of Wicked Charts.
+ */
+WickedCharts.LiveData = WickedCharts.LiveData || {};
+
+/**
+ * Retrieves the series of the given chart with the given wickedChartsId.
+ *
+ * @param chart the Highcharts chart object.
+ * @param wickedChartsId the id of the series.
+ * @return the series or null, if the chart has no series with the given id.
+ */
+WickedCharts.LiveData.getSeries = function (chart, wickedChartsId) {
+    for (var i = 0; i < chart.series.length; i++) {
+        if (chart.series[i].options.wickedChartsId == wickedChartsId) {
+            return chart.series[i];
+        }
+    }
+    return null;
+};
+
+/**
+ * Retrieves the x value of a point given in any of the formats Highcharts
+ * accepts.
+ *
+ * @return the x value or null, if the point has no explicit x value.
+ */
+WickedCharts.LiveData.getX = function (point) {
+    if (point instanceof Array) {
+        return point.length > 1 ? point[0] : null;
+    }
+    if (point != null && typeof point === "object" && typeof point.x === "number") {
+        return point.x;
+    }
+    return null;
+};
+
+/**
+ * Retrieves the chart rendered into the element with the given markup id.
+ *
+ * @return the Highcharts chart object or null, if there is no such chart.
+ */
+WickedCharts.LiveData.getChart = function (markupId) {
+    for (var i = 0; i < Highcharts.charts.length; i++) {
+        var chart = Highcharts.charts[i];
+        if (chart && chart.renderTo && chart.renderTo.id == markupId) {
+            return chart;
+        }
+    }
+    return null;
+};
+
+/**
+ * Retrieves the sequence numbers of the last updates applied to the series of
+ * a chart.
+ *
+ * @param chart the Highcharts chart object. May be null.
+ * @return object containing the sequence numbers keyed by the wickedChartsId
+ *          of the series.
+ */
+WickedCharts.LiveData.getSequences = function (chart) {
+    var sequences = {};
+    if (chart != null) {
+        for (var i = 0; i < chart.series.length; i++) {
+            var series = chart.series[i];
+            if (typeof series.wickedChartsSequence === "number") {
+                sequences[series.options.wickedChartsId] = series.wickedChartsSequence;
+            }
+        }
+    }
+    return sequences;
+};
+
+/**
+ * Applies new points to the series of a chart in the update mode of each
+ * series and redraws the chart once. When appending, points with an x value
+ * not greater than the x value of the last point of the series are skipped,
+ * since they have already been rendered as part of the window of recent
+ * points of the series.
+ *
+ * @param chart the Highcharts chart object.
+ * @param updates object containing the update for each series, keyed by the
+ *          wickedChartsId of the series. An update is either an array of
+ *          points or an object containing the sequence number of the update
+ *          ("sequence"), the points ("points") and optionally a flag
+ *          ("resync") denoting that the points replace the data of the series.
+ */
+WickedCharts.LiveData.addPoints = function (chart, updates) {
+    var redraw = false;
+    for (var wickedChartsId in updates) {
+        var series = WickedCharts.LiveData.getSeries(chart, wickedChartsId);
+        if (series == null) {
+            continue;
+        }
+        var update = updates[wickedChartsId];
+        var points = update instanceof Array ? update : update.points;
+        if (typeof update.sequence === "number") {
+            series.wickedChartsSequence = update.sequence;
+        }
+        if (update.resync) {
+            series.setData(points, false);
+            redraw = true;
+        } else if (points.length > 0) {
+            var mode = series.options.wickedChartsUpdateMode || "appendAndShift";
+            redraw = WickedCharts.LiveData.updateModes[mode](series, points) || redraw;
+        }
+    }
+    if (redraw) {
+        chart.redraw();
+    }
+};
+
+/**
+ * @return the points not rendered yet, i.e. the points with an x value
+ *          greater than the x value of the last point of the series.
+ */
+WickedCharts.LiveData.getNewPoints = function (series, points) {
+    var lastX = series.xData && series.xData.length > 0 ? series.xData[series.xData.length - 1] : null;
+    var newPoints = [];
+    for (var i = 0; i < points.length; i++) {
+        var x = WickedCharts.LiveData.getX(points[i]);
+        if (x != null && lastX != null && x <= lastX) {
+            continue;
+        }
+        newPoints.push(points[i]);
+        if (x != null) {
+            lastX = x;
+        }
+    }
+    return newPoints;
+};
+
+/**
+ * @namespace Functions applying points to a series without redrawing it,
+ *            keyed by the update mode of the series (see the Java enum
+ *            LiveDataUpdateMode). Each function returns true, if the series
+ *            has been changed.
+ */
+WickedCharts.LiveData.updateModes = {
+
+    append: function (series, points) {
+        var newPoints = WickedCharts.LiveData.getNewPoints(series, points);
+        for (var i = 0; i < newPoints.length; i++) {
+            series.addPoint(newPoints[i], false, false);
+        }
+        return newPoints.length > 0;
+    },
+
+    appendAndShift: function (series, points) {
+        var newPoints = WickedCharts.LiveData.getNewPoints(series, points);
+        for (var i = 0; i < newPoints.length; i++) {
+            series.addPoint(newPoints[i], false, true);
+        }
+        return newPoints.length > 0;
+    },
+
+    replaceLast: function (series, points) {
+        // only the latest point of the update is visible
+        var point = points[points.length - 1];
+        if (series.data.length > 0) {
+            series.data[series.data.length - 1].update(point, false);
+        } else {
+            series.addPoint(point, false, false);
+        }
+        return true;
+    },
+
+    updateById: function (series, points) {
+        for (var i = 0; i < points.length; i++) {
+            var existing = points[i].id != null ? series.chart.get(points[i].id) : null;
+            if (existing != null && existing.series === series) {
+                existing.update(points[i], false);
+            } else {
+                series.addPoint(points[i], false, false);
+            }
+        }
+        return true;
+    },
+
+    window: function (series, points) {
+        var newPoints = WickedCharts.LiveData.getNewPoints(series, points);
+        if (newPoints.length == 0) {
+            return false;
+        }
+        var data = (series.options.data || []).concat(newPoints);
+        var windowSize = series.options.wickedChartsWindowSize;
+        if (windowSize && data.length > windowSize) {
+            data = data.slice(data.length - windowSize);
+        }
+        series.setData(data, false);
+        return true;
+    }
+};
+
+/**
+ * @namespace Tracks whether the user is looking at the page. Live updates are
+ *            suspended while the page is hidden and, if an idle timeout is
+ *            configured, while the user does not interact with the page.
+ *            They are resumed immediately when the page becomes visible again
+ *            or the user interacts with it.
+ */
+WickedCharts.LiveData.Activity = WickedCharts.LiveData.Activity || {
+    lastInteraction: new Date().getTime(),
+    initialized: false
+};
+
+/**
+ * Starts listening for visibility changes and user interaction.
+ */
+WickedCharts.LiveData.Activity.init = function () {
+    var self = WickedCharts.LiveData.Activity;
+    if (self.initialized) {
+        return;
+    }
+    self.initialized = true;
+    var interact = function () {
+        var now = new Date().getTime();
+        var previous = self.lastInteraction;
+        self.lastInteraction = now;
+        // resuming is not necessary on each mouse move
+        if (now - previous > 1000) {
+            self.resume();
+        }
+    };
+    var events = ["mousemove", "mousedown", "keydown", "touchstart", "wheel", "scroll"];
+    for (var i = 0; i < events.length; i++) {
+        document.addEventListener(events[i], interact, true);
+    }
+    document.addEventListener("visibilitychange", function () {
+        if (!document.hidden) {
+            self.resume();
+        }
+    });
+};
+
+/**
+ * @param idleTimeoutMs the idle timeout or 0, if updates should continue
+ *          regardless of user interaction.
+ * @return true, if updates with the given idle timeout should be continued.
+ */
+WickedCharts.LiveData.Activity.isActive = function (idleTimeoutMs) {
+    if (document.hidden) {
+        return false;
+    }
+    return !idleTimeoutMs || new Date().getTime() - WickedCharts.LiveData.Activity.lastInteraction <= idleTimeoutMs;
+};
+
+/**
+ * Resumes all suspended live updates. They catch up on the points missed in
+ * the meantime.
+ */
+WickedCharts.LiveData.Activity.resume = function () {
+    WickedCharts.LiveData.Poller.resume();
+    WickedCharts.LiveData.Coordinator.resume();
+    WickedCharts.LiveData.Push.resume();
+};
+
+/**
+ * @namespace Polls the live data of a single chart. The next request is not
+ *            sent while the previous one is in flight. After failed or slow
+ *            requests the polling interval is doubled, after successful
+ *            requests it is halved again until it reaches the update interval.
+ */
+WickedCharts.LiveData.Poller = WickedCharts.LiveData.Poller || {
+    pollers: {},
+    maxBackoffFactor: 16
+};
+
+/**
+ * Starts polling for a chart. A poller previously started for the same chart
+ * is stopped.
+ *
+ * @param markupId the markup id of the chart component.
+ * @param intervalMs the update interval of the chart.
+ * @param poll function sending the AJAX request.
+ * @param idleTimeoutMs the time without user interaction after which polling
+ *          is suspended, or 0.
+ */
+WickedCharts.LiveData.Poller.start = function (markupId, intervalMs, poll, idleTimeoutMs) {
+    var self = WickedCharts.LiveData.Poller;
+    WickedCharts.LiveData.Activity.init();
+    self.stop(markupId);
+    var poller = {
+        intervalMs: intervalMs,
+        idleTimeoutMs: idleTimeoutMs || 0,
+        paused: false,
+        delayMs: intervalMs,
+        poll: poll,
+        inFlight: false,
+        sentAt: 0,
+        hintMs: null,
+        timer: null
+    };
+    self.pollers[markupId] = poller;
+    self.schedule(markupId, poller, intervalMs);
+};
+
+WickedCharts.LiveData.Poller.stop = function (markupId) {
+    var self = WickedCharts.LiveData.Poller;
+    var poller = self.pollers[markupId];
+    if (poller) {
+        clearTimeout(poller.timer);
+        delete self.pollers[markupId];
+    }
+};
+
+WickedCharts.LiveData.Poller.schedule = function (markupId, poller, delayMs) {
+    var self = WickedCharts.LiveData.Poller;
+    clearTimeout(poller.timer);
+    poller.timer = setTimeout(function () {
+        self.tick(markupId, poller);
+    }, delayMs);
+};
+
+WickedCharts.LiveData.Poller.tick = function (markupId, poller) {
+    var self = WickedCharts.LiveData.Poller;
+    if (self.pollers[markupId] !== poller) {
+        return;
+    }
+    if (document.getElementById(markupId) == null) {
+        // the chart has been removed from the page
+        self.stop(markupId);
+        return;
+    }
+    if (!WickedCharts.LiveData.Activity.isActive(poller.idleTimeoutMs)) {
+        // no timer is scheduled until polling is resumed
+        poller.paused = true;
+        return;
+    }
+    var now = new Date().getTime();
+    // a request that has not completed within the maximum delay is considered
+    // lost, e.g. because it has been aborted by Wicket
+    if (!poller.inFlight || now - poller.sentAt > poller.intervalMs * self.maxBackoffFactor) {
+        poller.inFlight = true;
+        poller.sentAt = now;
+        poller.poll();
+    }
+    self.schedule(markupId, poller, poller.delayMs);
+};
+
+/**
+ * Resumes all suspended pollers with an immediate request.
+ */
+WickedCharts.LiveData.Poller.resume = function () {
+    var self = WickedCharts.LiveData.Poller;
+    for (var markupId in self.pollers) {
+        var poller = self.pollers[markupId];
+        if (poller.paused && WickedCharts.LiveData.Activity.isActive(poller.idleTimeoutMs)) {
+            poller.paused = false;
+            self.tick(markupId, poller);
+        }
+    }
+};
+
+/**
+ * Sets the delay until the next request, as suggested by the server.
+ */
+WickedCharts.LiveData.Poller.hint = function (markupId, delayMs) {
+    var poller = WickedCharts.LiveData.Poller.pollers[markupId];
+    if (poller) {
+        poller.hintMs = delayMs;
+    }
+};
+
+/**
+ * Called when a request has completed. Adapts the polling delay.
+ *
+ * @param markupId the markup id of the chart component.
+ * @param success true if the request has succeeded.
+ */
+WickedCharts.LiveData.Poller.done = function (markupId, success) {
+    var self = WickedCharts.LiveData.Poller;
+    var poller = self.pollers[markupId];
+    if (!poller || !poller.inFlight) {
+        return;
+    }
+    poller.inFlight = false;
+    var now = new Date().getTime();
+    poller.delayMs = self.nextDelay(poller.delayMs, poller.intervalMs, success && now - poller.sentAt <= poller.intervalMs);
+    if (poller.hintMs != null) {
+        self.schedule(markupId, poller, poller.hintMs);
+        poller.hintMs = null;
+    } else {
+        self.schedule(markupId, poller, Math.max(0, poller.sentAt + poller.delayMs - now));
+    }
+};
+
+/**
+ * Computes the delay after a request. The delay is doubled after a failed or
+ * slow request and halved after a successful one, but it never leaves the
+ * range between the update interval and its maximum multiple.
+ */
+WickedCharts.LiveData.Poller.nextDelay = function (delayMs, intervalMs, healthy) {
+    if (healthy) {
+        return Math.max(intervalMs, Math.round(delayMs / 2));
+    }
+    return Math.min(intervalMs * WickedCharts.LiveData.Poller.maxBackoffFactor, delayMs * 2);
+};
+
+/**
+ * @namespace Page-wide coordinator that polls the live data of all charts on
+ *            a page with a single timer and a single AJAX request per tick.
+ */
+WickedCharts.LiveData.Coordinator = WickedCharts.LiveData.Coordinator || {
+    charts: {},
+    callback: null,
+    timer: null,
+    tickMs: null,
+    delayMs: null,
+    inFlight: false,
+    sentAt: 0,
+    resumeAt: 0,
+    paused: false
+};
+
+/**
+ * Sets the function that sends a live data request to the server.
+ *
+ * @param callback function taking the JSON encoded request.
+ */
+WickedCharts.LiveData.Coordinator.init = function (callback) {
+    WickedCharts.LiveData.Coordinator.callback = callback;
+};
+
+/**
+ * Registers a chart for live updates. Registering a chart again replaces the
+ * previous registration.
+ *
+ * @param markupId the markup id of the chart component.
+ * @param chart the Highcharts chart object.
+ * @param intervalMs the update interval of the chart.
+ * @param parameters function returning the javascript parameters of the chart.
+ * @param idleTimeoutMs the time without user interaction after which the
+ *          chart is no longer updated, or 0.
+ */
+WickedCharts.LiveData.Coordinator.register = function (markupId, chart, intervalMs, parameters, idleTimeoutMs) {
+    var self = WickedCharts.LiveData.Coordinator;
+    WickedCharts.LiveData.Activity.init();
+    self.charts[markupId] = {
+        chart: chart,
+        intervalMs: intervalMs,
+        parameters: parameters,
+        idleTimeoutMs: idleTimeoutMs || 0,
+        nextDue: 0
+    };
+    self.paused = false;
+    self.schedule();
+};
+
+WickedCharts.LiveData.Coordinator.unregister = function (markupId) {
+    var self = WickedCharts.LiveData.Coordinator;
+    delete self.charts[markupId];
+    self.schedule();
+};
+
+/**
+ * (Re-)starts the timer. It ticks in the shortest interval of all registered
+ * charts, so that the intervals of all charts are aligned to one grid.
+ */
+WickedCharts.LiveData.Coordinator.schedule = function () {
+    var self = WickedCharts.LiveData.Coordinator;
+    var tickMs = null;
+    for (var markupId in self.charts) {
+        var intervalMs = self.charts[markupId].intervalMs;
+        if (tickMs == null || intervalMs < tickMs) {
+            tickMs = intervalMs;
+        }
+    }
+    if (tickMs == self.tickMs) {
+        return;
+    }
+    if (self.timer != null) {
+        clearInterval(self.timer);
+        self.timer = null;
+    }
+    self.tickMs = tickMs;
+    self.delayMs = tickMs;
+    if (tickMs != null) {
+        self.timer = setInterval(self.tick, tickMs);
+    }
+};
+
+/**
+ * Collects the parameters of all charts that are due and sends them to the
+ * server in one request. Ticks are skipped while a request is in flight and
+ * while the coordinator backs off after failed or slow requests.
+ */
+WickedCharts.LiveData.Coordinator.tick = function () {
+    var self = WickedCharts.LiveData.Coordinator;
+    if (self.callback == null) {
+        return;
+    }
+    var now = new Date().getTime();
+    var lost = now - self.sentAt > self.tickMs * WickedCharts.LiveData.Poller.maxBackoffFactor;
+    if ((self.inFlight && !lost) || now < self.resumeAt) {
+        return;
+    }
+    var request = {};
+    var due = false;
+    var removed = false;
+    var active = false;
+    for (var markupId in self.charts) {
+        var entry = self.charts[markupId];
+        if (document.getElementById(markupId) == null) {
+            // the chart has been removed from the page
+            delete self.charts[markupId];
+            removed = true;
+            continue;
+        }
+        if (!WickedCharts.LiveData.Activity.isActive(entry.idleTimeoutMs)) {
+            continue;
+        }
+        active = true;
+        if (entry.nextDue <= now + self.tickMs / 2) {
+            request[markupId] = entry.parameters();
+            request[markupId].liveDataSequences = JSON.stringify(WickedCharts.LiveData.getSequences(entry.chart));
+            entry.nextDue = now + entry.intervalMs;
+            due = true;
+        }
+    }
+    if (due) {
+        self.inFlight = true;
+        self.sentAt = now;
+        self.callback(JSON.stringify(request));
+    }
+    if (!active) {
+        self.suspend();
+    } else if (removed) {
+        self.schedule();
+    }
+};
+
+/**
+ * Stops the timer until the coordinator is resumed.
+ */
+WickedCharts.LiveData.Coordinator.suspend = function () {
+    var self = WickedCharts.LiveData.Coordinator;
+    if (self.timer != null) {
+        clearInterval(self.timer);
+        self.timer = null;
+    }
+    self.tickMs = null;
+    self.paused = true;
+};
+
+/**
+ * Restarts a suspended timer with an immediate tick.
+ */
+WickedCharts.LiveData.Coordinator.resume = function () {
+    var self = WickedCharts.LiveData.Coordinator;
+    if (self.paused) {
+        self.paused = false;
+        self.schedule();
+        if (self.tickMs != null) {
+            self.tick();
+        }
+    }
+};
+
+/**
+ * Called when a request has completed. Adapts the delay until the next
+ * request.
+ *
+ * @param success true if the request has succeeded.
+ */
+WickedCharts.LiveData.Coordinator.done = function (success) {
+    var self = WickedCharts.LiveData.Coordinator;
+    if (!self.inFlight) {
+        return;
+    }
+    self.inFlight = false;
+    var now = new Date().getTime();
+    self.delayMs = WickedCharts.LiveData.Poller.nextDelay(self.delayMs, self.tickMs,
+        success && now - self.sentAt <= self.tickMs);
+    self.resumeAt = self.sentAt + self.delayMs - self.tickMs / 2;
+};
+
+/**
+ * Applies the updates returned by the server.
+ *
+ * @param updates object containing the updates of each chart, keyed by the
+ *          markup id of the chart. See WickedCharts.LiveData.addPoints.
+ * @param hints object containing the delay until the next update suggested
+ *          by the server, keyed by the markup id of the chart. Optional.
+ */
+WickedCharts.LiveData.Coordinator.dispatch = function (updates, hints) {
+    var self = WickedCharts.LiveData.Coordinator;
+    for (var markupId in updates) {
+        var entry = self.charts[markupId];
+        if (entry) {
+            WickedCharts.LiveData.addPoints(entry.chart, updates[markupId]);
+        }
+    }
+    var now = new Date().getTime();
+    for (var hintedId in hints || {}) {
+        if (self.charts[hintedId]) {
+            self.charts[hintedId].nextDue = now + hints[hintedId];
+        }
+    }
+};
+
+/**
+ * @namespace Receives the points published to live data channels on the
+ *            server via long polling.
+ */
+WickedCharts.LiveData.Push = WickedCharts.LiveData.Push || {
+    subscriptions: {}
+};
+
+/**
+ * Subscribes a chart to live data channels. Subscribing a chart again
+ * replaces the previous subscription.
+ *
+ * @param markupId the markup id of the chart component.
+ * @param chart the Highcharts chart object.
+ * @param url the url of the push resource.
+ * @param channels object containing for each channel name the wickedChartsIds
+ *          of the series bound to the channel ("series") and the sequence
+ *          number of the channel at the time of rendering ("sequence").
+ *          Channels flagged as "shared" are received once per browser, see
+ *          WickedCharts.LiveData.Shared.
+ * @param idleTimeoutMs the time without user interaction after which the
+ *          subscription is suspended, or 0.
+ */
+WickedCharts.LiveData.Push.subscribe = function (markupId, chart, url, channels, idleTimeoutMs) {
+    var self = WickedCharts.LiveData.Push;
+    WickedCharts.LiveData.Activity.init();
+    var subscription = {
+        chart: chart,
+        url: url,
+        channels: channels,
+        idleTimeoutMs: idleTimeoutMs || 0,
+        paused: false,
+        retryMs: 0
+    };
+    self.subscriptions[markupId] = subscription;
+    self.poll(markupId, subscription);
+    for (var name in channels) {
+        if (channels[name].shared) {
+            WickedCharts.LiveData.Shared.start();
+            break;
+        }
+    }
+};
+
+/**
+ * Sends a long polling request and sends the next one as soon as the response
+ * has been applied. Failed requests are retried with an increasing delay.
+ */
+WickedCharts.LiveData.Push.poll = function (markupId, subscription) {
+    var self = WickedCharts.LiveData.Push;
+    if (self.subscriptions[markupId] !== subscription) {
+        // the subscription has been replaced
+        return;
+    }
+    if (document.getElementById(markupId) == null) {
+        // the chart has been removed from the page
+        delete self.subscriptions[markupId];
+        return;
+    }
+    if (!WickedCharts.LiveData.Activity.isActive(subscription.idleTimeoutMs)) {
+        subscription.paused = true;
+        return;
+    }
+    var sequences = {};
+    var polled = false;
+    for (var name in subscription.channels) {
+        if (!subscription.channels[name].shared) {
+            sequences[name] = subscription.channels[name].sequence;
+            polled = true;
+        }
+    }
+    if (!polled) {
+        // all channels are received from the leading tab
+        return;
+    }
+    self.request(subscription.url, sequences, function (status, response) {
+        if (self.subscriptions[markupId] !== subscription) {
+            return;
+        }
+        if (status == 200) {
+            subscription.retryMs = 0;
+            self.apply(subscription, response);
+            self.poll(markupId, subscription);
+        } else {
+            subscription.retryMs = self.nextRetry(subscription.retryMs);
+            setTimeout(function () {
+                self.poll(markupId, subscription);
+            }, subscription.retryMs);
+        }
+    });
+};
+
+/**
+ * Sends a long polling request.
+ *
+ * @param url the url of the push resource.
+ * @param sequences object containing the sequence number up to which the
+ *          points have been received, keyed by channel name.
+ * @param callback function taking the HTTP status and the parsed response.
+ * @return the request.
+ */
+WickedCharts.LiveData.Push.request = function (url, sequences, callback) {
+    var query = [];
+    for (var name in sequences) {
+        query.push("channel=" + encodeURIComponent(name) + "&sequence=" + sequences[name]);
+    }
+    var request = new XMLHttpRequest();
+    request.open("GET", url + (url.indexOf("?") < 0 ? "?" : "&") + query.join("&"), true);
+    request.onreadystatechange = function () {
+        if (request.readyState == 4) {
+            callback(request.status, request.status == 200 ? JSON.parse(request.responseText) : null);
+        }
+    };
+    request.send();
+    return request;
+};
+
+/**
+ * @return the delay before retrying a failed request.
+ */
+WickedCharts.LiveData.Push.nextRetry = function (retryMs) {
+    return Math.min(Math.max(retryMs * 2, 1000), 30000);
+};
+
+/**
+ * Resumes all suspended subscriptions.
+ */
+WickedCharts.LiveData.Push.resume = function () {
+    var self = WickedCharts.LiveData.Push;
+    for (var markupId in self.subscriptions) {
+        var subscription = self.subscriptions[markupId];
+        if (subscription.paused && WickedCharts.LiveData.Activity.isActive(subscription.idleTimeoutMs)) {
+            subscription.paused = false;
+            self.poll(markupId, subscription);
+        }
+    }
+};
+
+/**
+ * Adds the points of a response to the series bound to the channels.
+ *
+ * @param subscription the subscription of the chart.
+ * @param response object containing the new sequence number ("sequence") and
+ *          the new points ("points") of each channel, keyed by channel name.
+ */
+WickedCharts.LiveData.Push.apply = function (subscription, response) {
+    var updates = {};
+    for (var name in response) {
+        var channel = subscription.channels[name];
+        if (!channel) {
+            continue;
+        }
+        channel.sequence = response[name].sequence;
+        for (var i = 0; i < channel.series.length; i++) {
+            var wickedChartsId = channel.series[i];
+            updates[wickedChartsId] = (updates[wickedChartsId] || []).concat(response[name].points);
+        }
+    }
+    WickedCharts.LiveData.addPoints(subscription.chart, updates);
+};
+
+/**
+ * @namespace Receives shared live data channels once per browser instead of
+ *            once per tab. The visible tabs of an origin elect a leader via a
+ *            lease in the localStorage. Only the leader sends long polling
+ *            requests, for the channels of all tabs, and relays the responses
+ *            to the other tabs via a BroadcastChannel. Hidden tabs do not
+ *            take the lead, so the lead passes to a visible tab when the
+ *            leader is hidden. In browsers without BroadcastChannel, each tab
+ *            receives its channels itself.
+ */
+WickedCharts.LiveData.Shared = WickedCharts.LiveData.Shared || {
+    leaseKey: "wicked-charts-live-data-leader",
+    heartbeatMs: 1000,
+    leaseMs: 3000,
+    tabId: null,
+    broadcast: null,
+    leader: false,
+    request: null,
+    aborted: false,
+    requestedChannels: {},
+    retryMs: 0,
+    followers: {},
+    sequences: {},
+    url: null
+};
+
+WickedCharts.LiveData.Shared.start = function () {
+    var self = WickedCharts.LiveData.Shared;
+    if (self.tabId != null) {
+        return;
+    }
+    self.tabId = String(Math.random()).substring(2) + new Date().getTime();
+    if (typeof BroadcastChannel === "undefined") {
+        self.fallback();
+        return;
+    }
+    self.broadcast = new BroadcastChannel("wicked-charts-live-data");
+    self.broadcast.onmessage = function (event) {
+        self.receive(event.data);
+    };
+    self.heartbeat();
+    setInterval(self.heartbeat, self.heartbeatMs);
+};
+
+/**
+ * Receives shared channels like all other channels, if they cannot be shared.
+ */
+WickedCharts.LiveData.Shared.fallback = function () {
+    var push = WickedCharts.LiveData.Push;
+    for (var markupId in push.subscriptions) {
+        var subscription = push.subscriptions[markupId];
+        for (var name in subscription.channels) {
+            subscription.channels[name].shared = false;
+        }
+        push.poll(markupId, subscription);
+    }
+};
+
+/**
+ * Renews or acquires the lead, or announces the channels of this tab to the
+ * leader.
+ */
+WickedCharts.LiveData.Shared.heartbeat = function () {
+    var self = WickedCharts.LiveData.Shared;
+    var now = new Date().getTime();
+    var lease = null;
+    try {
+        lease = JSON.parse(window.localStorage.getItem(self.leaseKey));
+    } catch (e) {
+        // no valid lease
+    }
+    var free = lease == null || lease.expires < now || lease.tabId == self.tabId;
+    if (free && !document.hidden) {
+        window.localStorage.setItem(self.leaseKey, JSON.stringify({tabId: self.tabId, expires: now + self.leaseMs}));
+        if (!self.leader) {
+            self.leader = true;
+            self.poll();
+        }
+    } else {
+        self.leader = false;
+        self.broadcast.postMessage({
+            type: "subscribe",
+            tabId: self.tabId,
+            url: self.getUrl(),
+            channels: self.getLocalChannels()
+        });
+    }
+    for (var tabId in self.followers) {
+        if (self.followers[tabId].expires < now) {
+            delete self.followers[tabId];
+        }
+    }
+};
+
+/**
+ * @return the absolute url of the push resource or null, if this tab has no
+ *          shared channels.
+ */
+WickedCharts.LiveData.Shared.getUrl = function () {
+    var push = WickedCharts.LiveData.Push;
+    for (var markupId in push.subscriptions) {
+        var link = document.createElement("a");
+        link.href = push.subscriptions[markupId].url;
+        return link.href;
+    }
+    return null;
+};
+
+/**
+ * @return the sequence numbers of the shared channels of this tab, keyed by
+ *          channel name.
+ */
+WickedCharts.LiveData.Shared.getLocalChannels = function () {
+    var push = WickedCharts.LiveData.Push;
+    var channels = {};
+    for (var markupId in push.subscriptions) {
+        if (document.getElementById(markupId) == null) {
+            delete push.subscriptions[markupId];
+            continue;
+        }
+        var subscription = push.subscriptions[markupId];
+        for (var name in subscription.channels) {
+            var channel = subscription.channels[name];
+            if (channel.shared && (channels[name] == null || channel.sequence < channels[name])) {
+                channels[name] = channel.sequence;
+            }
+        }
+    }
+    return channels;
+};
+
+/**
+ * Sends a long polling request for the shared channels of all tabs, as long
+ * as this tab is the leader.
+ */
+WickedCharts.LiveData.Shared.poll = function () {
+    var self = WickedCharts.LiveData.Shared;
+    if (!self.leader || self.request != null) {
+        return;
+    }
+    var sequences = {};
+    var channels = [self.getLocalChannels()];
+    for (var tabId in self.followers) {
+        channels.push(self.followers[tabId].channels);
+    }
+    var any = false;
+    for (var i = 0; i < channels.length; i++) {
+        for (var name in channels[i]) {
+            if (sequences[name] == null) {
+                sequences[name] = self.sequences[name] != null ? self.sequences[name] : channels[i][name];
+            }
+            any = true;
+        }
+    }
+    var url = self.getUrl() || self.url;
+    if (!any || url == null) {
+        return;
+    }
+    self.requestedChannels = sequences;
+    self.request = WickedCharts.LiveData.Push.request(url, sequences, function (status, response) {
+        self.request = null;
+        if (status == 200) {
+            self.retryMs = 0;
+            for (var name in response) {
+                self.sequences[name] = response[name].sequence;
+            }
+            self.broadcast.postMessage({type: "update", response: response});
+            self.dispatch(response);
+            self.poll();
+        } else if (status == 0 && self.aborted) {
+            // aborted to include new channels
+            self.aborted = false;
+            self.poll();
+        } else {
+            self.retryMs = WickedCharts.LiveData.Push.nextRetry(self.retryMs);
+            setTimeout(self.poll, self.retryMs);
+        }
+    });
+};
+
+WickedCharts.LiveData.Shared.receive = function (message) {
+    var self = WickedCharts.LiveData.Shared;
+    if (message.type == "update") {
+        for (var name in message.response) {
+            self.sequences[name] = message.response[name].sequence;
+        }
+        self.dispatch(message.response);
+    } else if (message.type == "subscribe" && self.leader) {
+        self.followers[message.tabId] = {
+            expires: new Date().getTime() + self.leaseMs,
+            channels: message.channels
+        };
+        self.url = self.url || message.url;
+        var added = false;
+        for (var name in message.channels) {
+            if (self.requestedChannels[name] == null) {
+                added = true;
+            }
+        }
+        if (self.request != null && added) {
+            self.aborted = true;
+            self.request.abort();
+        } else {
+            self.poll();
+        }
+    }
+};
+
+/**
+ * Applies a response to the shared channels of all charts of this tab. Each
+ * chart receives only the points it has not received yet.
+ */
+WickedCharts.LiveData.Shared.dispatch = function (response) {
+    var push = WickedCharts.LiveData.Push;
+    for (var markupId in push.subscriptions) {
+        var subscription = push.subscriptions[markupId];
+        var filtered = {};
+        for (var name in response) {
+            var channel = subscription.channels[name];
+            if (!channel || !channel.shared || response[name].sequence <= channel.sequence) {
+                continue;
+            }
+            var points = response[name].points;
+            var first = response[name].sequence - points.length;
+            filtered[name] = {
+                sequence: response[name].sequence,
+                points: points.slice(Math.max(0, channel.sequence - first))
+            };
+        }
+        push.apply(subscription, filtered);
+    }
+};
+
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2012-2019 Wicked Charts (tom.hombergs@gmail.com)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.jackson;
+
+import de.adesso.wickedcharts.highcharts.options.series.Box;
+import de.adesso.wickedcharts.highcharts.options.series.BoxSeries;
+import org.junit.jupiter.api.Test;
+
+class BoxSeriesSerializerTest extends AbstractSerializerTest {
+
+    @Test
+    void test() {
+        // given
+        BoxSeries series = new BoxSeries();
+        series.addPoint(new Box(1, 2, 3, 4, 5));
+        series.addPoint(new Box(1, 2, 3.5, 4, 5, 100L));
+        JsonRenderer renderer = new JsonRenderer();
+        renderer.addSerializer(BoxSeries.class, new BoxSeriesSerializer());
+
+        // when
+        String json = renderer.toJson(series);
+
+        // then
+        assertIgnoreWhitespaces("{data: [[1, 2, 3, 4, 5],[100, 1, 2, 3.5, 4, 5]]}", json);
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2012-2019 Wicked Charts (tom.hombergs@gmail.com)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.jackson;
+
+import de.adesso.wickedcharts.highcharts.options.series.DoubleSeries;
+import de.adesso.wickedcharts.highcharts.options.series.SimpleSeries;
+import org.junit.jupiter.api.Test;
+
+class DoubleSeriesDataSerializerTest extends AbstractSerializerTest {
+
+    @Test
+    void test() {
+        // given
+        DoubleSeries series = new DoubleSeries();
+        series.addPoint(1.0).addPoint(Double.NaN).addPoints(new double[]{2.5, -3.0});
+        JsonRenderer renderer = new JsonRenderer();
+
+        // when
+        String json = renderer.toJson(series);
+
+        // then
+        assertIgnoreWhitespaces("{\"data\": [1.0, null, 2.5, -3.0]}", json);
+    }
+
+    @Test
+    void testSameOutputAsSimpleSeries() {
+        // given
+        DoubleSeries doubleSeries = new DoubleSeries();
+        doubleSeries.setName("series").setData(0.5, 1.5, 2.5);
+        SimpleSeries simpleSeries = new SimpleSeries();
+        simpleSeries.setName("series");
+        simpleSeries.setData(0.5, 1.5, 2.5);
+        JsonRenderer renderer = new JsonRenderer();
+
+        // when
+        String json = renderer.toJson(doubleSeries);
+
+        // then
+        assertIgnoreWhitespaces(renderer.toJson(simpleSeries), json);
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2012-2019 Wicked Charts (tom.hombergs@gmail.com)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.jackson;
+
+import de.adesso.wickedcharts.highcharts.options.Axis;
+import de.adesso.wickedcharts.highcharts.options.ChartOptions;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.SeriesType;
+import de.adesso.wickedcharts.highcharts.options.Title;
+import de.adesso.wickedcharts.highcharts.options.series.PointSeries;
+import de.adesso.wickedcharts.highcharts.options.series.SimpleSeries;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonRendererPreloadTest {
+
+    private static Options createOptions() {
+        Options options = new Options();
+        options.setChartOptions(new ChartOptions().setType(SeriesType.COLUMN));
+        options.setTitle(new Title("preloaded"));
+        options.setxAxis(new Axis().setCategories("a", "b"));
+        options.addSeries(new SimpleSeries().setData(1, 2));
+        options.addSeries(new PointSeries().addNumberPoint(3));
+        return options;
+    }
+
+    @Test
+    void testPreloadDoesNotChangeOutput() {
+        // given
+        Options options = createOptions();
+        String expected = new JsonRenderer().toJson(options);
+        JsonRenderer renderer = new JsonRenderer();
+
+        // when
+        renderer.preloadSerializers();
+
+        // then
+        assertEquals(expected, renderer.toJson(options));
+    }
+
+    @Test
+    void testPreloadCachesSerializers() {
+        // given
+        Options options = createOptions();
+        JsonRenderer lazyRenderer = new JsonRenderer();
+        JsonRenderer preloadedRenderer = new JsonRenderer();
+        int initialCount = preloadedRenderer.getCachedSerializersCount();
+
+        // when
+        preloadedRenderer.preloadSerializers();
+        int preloadedCount = preloadedRenderer.getCachedSerializersCount();
+        preloadedRenderer.toJson(options);
+        lazyRenderer.toJson(options);
+
+        // then
+        assertTrue(preloadedCount > initialCount);
+        int resolvedByPreloadedRenderer = preloadedRenderer.getCachedSerializersCount() - preloadedCount;
+        int resolvedByLazyRenderer = lazyRenderer.getCachedSerializersCount() - initialCount;
+        assertTrue(resolvedByPreloadedRenderer < resolvedByLazyRenderer);
+    }
+
+}
@@ -0,0 +1,73 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.jackson;
+
+import de.adesso.wickedcharts.highcharts.options.ChartOptions;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.SeriesType;
+import de.adesso.wickedcharts.highcharts.options.Title;
+import de.adesso.wickedcharts.highcharts.options.series.CoordinatesSeries;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JsonRendererWriteToTest {
+
+    private Options createOptions() {
+        Options options = new Options();
+        options.setChartOptions(new ChartOptions().setType(SeriesType.LINE));
+        options.setTitle(new Title("Streaming \u00fcber alles"));
+        CoordinatesSeries series = new CoordinatesSeries();
+        for (int i = 0; i < 1000; i++) {
+            series.addPoint(i, i * 0.5);
+        }
+        options.addSeries(series);
+        return options;
+    }
+
+    @Test
+    void testWriteToWriter() {
+        // given
+        Options options = createOptions();
+        JsonRenderer renderer = new JsonRenderer();
+        StringWriter writer = new StringWriter();
+
+        // when
+        renderer.writeTo(options, writer);
+        writer.write(";");
+
+        // then
+        assertEquals(renderer.toJson(options) + ";", writer.toString());
+    }
+
+    @Test
+    void testWriteToOutputStream() {
+        // given
+        Options options = createOptions();
+        JsonRenderer renderer = new JsonRenderer();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        renderer.writeTo(options, out);
+
+        // then
+        assertEquals(renderer.toJson(options), new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+}
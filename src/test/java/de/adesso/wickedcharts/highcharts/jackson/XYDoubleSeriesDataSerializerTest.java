@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2019 Wicked Charts (tom.hombergs@gmail.com)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.jackson;
+
+import de.adesso.wickedcharts.highcharts.options.series.XYDoubleSeries;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class XYDoubleSeriesDataSerializerTest extends AbstractSerializerTest {
+
+    @Test
+    void testCoordinates() {
+        // given
+        XYDoubleSeries series = new XYDoubleSeries();
+        series.addPoints(new long[]{1600000000000L, 1600000060000L}, new double[]{1.5, Double.NaN});
+        series.addPoint(0.5, 2.0);
+        JsonRenderer renderer = new JsonRenderer();
+
+        // when
+        String json = renderer.toJson(series);
+
+        // then
+        assertIgnoreWhitespaces("{\"data\": [[1600000000000, 1.5], [1600000060000, null], [0.5, 2.0]]}", json);
+    }
+
+    @Test
+    void testRanges() {
+        // given
+        XYDoubleSeries series = new XYDoubleSeries();
+        series.addRangePoint(1, -1.0, 1.0);
+        series.addRangePoints(new double[]{2}, new double[]{-2.0}, new double[]{2.0});
+        JsonRenderer renderer = new JsonRenderer();
+
+        // when
+        String json = renderer.toJson(series);
+
+        // then
+        assertIgnoreWhitespaces("{\"data\": [[1, -1.0, 1.0], [2, -2.0, 2.0]]}", json);
+    }
+
+    @Test
+    void testMixingPointKindsFails() {
+        XYDoubleSeries series = new XYDoubleSeries();
+        series.addPoint(1, 1.0);
+        assertThrows(IllegalStateException.class, () -> series.addRangePoint(2, 1.0, 2.0));
+    }
+
+}
@@ -0,0 +1,174 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.jackson.cache;
+
+import de.adesso.wickedcharts.highcharts.jackson.JsonRenderer;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.Title;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JsonCacheTest {
+
+    private final JsonRenderer renderer = new JsonRenderer();
+
+    private static Options options(final String title) {
+        return new Options().setTitle(new Title(title)).setVersion(title);
+    }
+
+    @Test
+    void testSecondLookupIsHit() {
+        // given
+        JsonCache cache = new JsonCache(1024 * 1024);
+        Options options = options("a");
+
+        // when
+        String first = cache.getOrRender("a", options, this.renderer);
+        String second = cache.getOrRender("a", options, this.renderer);
+
+        // then
+        assertEquals(this.renderer.toJson(options), first);
+        assertSame(first, second);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void testChartsSharingVersionAndMarkupIdAreCachedSeparately() {
+        // given
+        JsonCache cache = new JsonCache(1024 * 1024);
+        Options first = new Options().setTitle(new Title("first")).setVersion("1").setCacheKey("sales");
+        Options second = new Options().setTitle(new Title("second")).setVersion("1").setCacheKey("costs");
+
+        // when
+        String firstJson = cache.getOrRender(JsonCache.createKey(first, "chart1"), first, this.renderer);
+        String secondJson = cache.getOrRender(JsonCache.createKey(second, "chart1"), second, this.renderer);
+
+        // then
+        assertEquals(this.renderer.toJson(first), firstJson);
+        assertEquals(this.renderer.toJson(second), secondJson);
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    void testOptionsWithoutCacheKeyAreNotCached() {
+        // given
+        Options options = new Options().setTitle(new Title("a")).setVersion("1");
+
+        // when
+        String key = JsonCache.createKey(options, "chart1");
+
+        // then
+        assertNull(key);
+    }
+
+    @Test
+    void testVersionIsNotRendered() {
+        // when
+        String json = this.renderer.toJson(options("a"));
+
+        // then
+        assertFalse(json.contains("version"));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        // given
+        String a = this.renderer.toJson(options("a"));
+        JsonCache cache = new JsonCache(2L * 2 * a.length());
+        cache.getOrRender("a", options("a"), this.renderer);
+        cache.getOrRender("b", options("b"), this.renderer);
+
+        // when
+        cache.getOrRender("a", options("a"), this.renderer);
+        cache.getOrRender("c", options("c"), this.renderer);
+
+        // then
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(4L * a.length(), cache.getBytes());
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    void testEntryLargerThanCacheIsNotCached() {
+        // given
+        JsonCache cache = new JsonCache(4);
+
+        // when
+        cache.getOrRender("a", options("a"), this.renderer);
+
+        // then
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getBytes());
+    }
+
+    @Test
+    void testSecondTierStoreIsShared() {
+        // given
+        InMemoryJsonCacheStore store = new InMemoryJsonCacheStore(1024 * 1024);
+        JsonCache node1 = new JsonCache(1024 * 1024, store);
+        JsonCache node2 = new JsonCache(1024 * 1024, store);
+        String json = node1.getOrRender("a", options("a"), this.renderer);
+
+        // when
+        String result = node2.getOrRender("a", options("a"), this.renderer);
+
+        // then
+        assertEquals(json, result);
+        assertEquals(0, node2.getMisses());
+        assertEquals(1, node2.getStoreHits());
+        assertEquals(1, node2.size());
+    }
+
+    @Test
+    void testSecondTierStoreEvictsLeastRecentlyUsedEntry() {
+        // given
+        String a = this.renderer.toJson(options("a"));
+        InMemoryJsonCacheStore store = new InMemoryJsonCacheStore(2L * 2 * a.length());
+        store.put("a", a);
+        store.put("b", this.renderer.toJson(options("b")));
+
+        // when
+        store.get("a");
+        store.put("c", this.renderer.toJson(options("c")));
+
+        // then
+        assertEquals(2, store.size());
+        assertEquals(4L * a.length(), store.getBytes());
+        assertNull(store.get("b"));
+    }
+
+    @Test
+    void testInvalidate() {
+        // given
+        InMemoryJsonCacheStore store = new InMemoryJsonCacheStore(1024 * 1024);
+        JsonCache cache = new JsonCache(1024 * 1024, store);
+        cache.getOrRender("a", options("a"), this.renderer);
+
+        // when
+        cache.invalidate("a");
+
+        // then
+        assertEquals(0, cache.size());
+        assertEquals(0, store.size());
+        assertNull(cache.get("a"));
+    }
+
+}
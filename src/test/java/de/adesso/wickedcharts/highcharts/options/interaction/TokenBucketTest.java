@@ -0,0 +1,92 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.interaction;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void testBurstUpToCapacity() {
+        // given
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        // when
+        long first = bucket.tryAcquire(0);
+        long second = bucket.tryAcquire(0);
+        long third = bucket.tryAcquire(0);
+        long excess = bucket.tryAcquire(0);
+
+        // then
+        assertEquals(0, first);
+        assertEquals(0, second);
+        assertEquals(0, third);
+        assertEquals(1000, excess);
+    }
+
+    @Test
+    void testRefillAtConstantRate() {
+        // given
+        TokenBucket bucket = new TokenBucket(1, 4, 0);
+        bucket.tryAcquire(0);
+
+        // when
+        long early = bucket.tryAcquire(SECOND / 8);
+        long inTime = bucket.tryAcquire(SECOND / 4);
+
+        // then
+        assertEquals(125, early);
+        assertEquals(0, inTime);
+    }
+
+    @Test
+    void testRefillIsCappedAtCapacity() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, 10, 0);
+
+        // when
+        bucket.tryAcquire(100 * SECOND);
+        bucket.tryAcquire(100 * SECOND);
+        long excess = bucket.tryAcquire(100 * SECOND);
+
+        // then
+        assertEquals(100, excess);
+    }
+
+    @Test
+    void testClockGoingBackwards() {
+        // given
+        TokenBucket bucket = new TokenBucket(1, 1, 10 * SECOND);
+        bucket.tryAcquire(10 * SECOND);
+
+        // when
+        long delay = bucket.tryAcquire(0);
+
+        // then
+        assertEquals(1000, delay);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0));
+    }
+
+}
@@ -0,0 +1,64 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class InMemoryLiveDataBrokerTest {
+
+    @AfterEach
+    void removeChannel() {
+        LiveDataFeed.stop("feed");
+        LiveDataChannel.remove("feed");
+    }
+
+    @Test
+    void testFeedPublishesViaBroker() {
+        // given
+        InMemoryLiveDataBroker broker = new InMemoryLiveDataBroker();
+        LiveDataChannel channel = LiveDataChannel.get("feed");
+        channel.connect(broker);
+        final Point point = new Point(1);
+        LiveDataFeed feed = LiveDataFeed.start("feed", 60000, () -> point, broker);
+
+        // when
+        feed.tick();
+
+        // then
+        assertEquals(1, channel.getSequence());
+        assertSame(point, channel.getUpdateSince(0).getPoints().get(0));
+    }
+
+    @Test
+    void testDisconnectedChannelReceivesNoPoints() {
+        // given
+        InMemoryLiveDataBroker broker = new InMemoryLiveDataBroker();
+        LiveDataChannel channel = LiveDataChannel.get("feed");
+        channel.connect(broker);
+        channel.disconnect();
+
+        // when
+        broker.publish("feed", new Point(1));
+
+        // then
+        assertEquals(0, channel.getSequence());
+    }
+
+}
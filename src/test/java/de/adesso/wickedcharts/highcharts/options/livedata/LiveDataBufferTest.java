@@ -0,0 +1,135 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveDataBufferTest {
+
+    @Test
+    void testClientCatchesUpOnMissedPoints() {
+        // given
+        LiveDataBuffer buffer = new LiveDataBuffer(5);
+        buffer.append(Arrays.asList(new Point(1), new Point(2)));
+        long applied = buffer.getSequence();
+        buffer.append(new Point(3));
+        buffer.append(new Point(4));
+
+        // when
+        LiveDataBuffer.Update update = buffer.getUpdateSince(applied);
+
+        // then
+        assertTrue(update.isComplete());
+        assertEquals(4, update.getSequence());
+        assertEquals(2, update.getPoints().size());
+        assertEquals(3, update.getPoints().get(0).getY());
+    }
+
+    @Test
+    void testUpdateIsIncompleteIfPointsHaveBeenDropped() {
+        // given
+        LiveDataBuffer buffer = new LiveDataBuffer(2);
+        for (int i = 0; i < 5; i++) {
+            buffer.append(new Point(i));
+        }
+
+        // when
+        LiveDataBuffer.Update update = buffer.getUpdateSince(1);
+
+        // then
+        assertFalse(update.isComplete());
+        assertEquals(2, update.getPoints().size());
+        assertEquals(3, update.getPoints().get(0).getY());
+    }
+
+    @Test
+    void testUpdateIsCompleteIfOldestPointIsStillBuffered() {
+        // given
+        LiveDataBuffer buffer = new LiveDataBuffer(2);
+        for (int i = 0; i < 5; i++) {
+            buffer.append(new Point(i));
+        }
+
+        // when
+        LiveDataBuffer.Update update = buffer.getUpdateSince(3);
+
+        // then
+        assertTrue(update.isComplete());
+        assertEquals(2, update.getPoints().size());
+    }
+
+    @Test
+    void testResizedBufferContinuesNumbering() {
+        // given
+        LiveDataBuffer buffer = new LiveDataBuffer(5);
+        for (int i = 0; i < 5; i++) {
+            buffer.append(new Point(i));
+        }
+
+        // when
+        LiveDataBuffer resized = new LiveDataBuffer(buffer, 3);
+        resized.append(new Point(5));
+
+        // then
+        assertEquals(6, resized.getSequence());
+        LiveDataBuffer.Update update = resized.getUpdateSince(4);
+        assertTrue(update.isComplete());
+        assertEquals(2, update.getPoints().size());
+        assertEquals(4, update.getPoints().get(0).getY());
+        assertFalse(resized.getUpdateSince(2).isComplete());
+    }
+
+    @Test
+    void testEnlargedBufferIsIncompleteBeforeOldestCopiedPoint() {
+        // given
+        LiveDataBuffer buffer = new LiveDataBuffer(2);
+        for (int i = 0; i < 5; i++) {
+            buffer.append(new Point(i));
+        }
+
+        // when
+        LiveDataBuffer resized = new LiveDataBuffer(buffer, 10);
+
+        // then
+        assertFalse(resized.getUpdateSince(2).isComplete());
+        LiveDataBuffer.Update update = resized.getUpdateSince(3);
+        assertTrue(update.isComplete());
+        assertEquals(2, update.getPoints().size());
+        assertEquals(3, update.getPoints().get(0).getY());
+    }
+
+    @Test
+    void testUpdateIsIncompleteIfClientIsAhead() {
+        // given
+        LiveDataBuffer buffer = new LiveDataBuffer(5);
+        buffer.append(new Point(1));
+
+        // when
+        LiveDataBuffer.Update update = buffer.getUpdateSince(7);
+
+        // then
+        assertFalse(update.isComplete());
+        assertEquals(1, update.getSequence());
+        assertTrue(update.getPoints().isEmpty());
+    }
+
+}
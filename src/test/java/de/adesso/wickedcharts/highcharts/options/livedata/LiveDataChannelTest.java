@@ -0,0 +1,126 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveDataChannelTest {
+
+    @Test
+    void testUpdateSinceSequence() {
+        // given
+        LiveDataChannel channel = new LiveDataChannel("test", 10);
+        Point first = new Point(1);
+        Point second = new Point(2);
+        Point third = new Point(3);
+        channel.publish(first, second);
+        channel.publish(third);
+
+        // when
+        LiveDataBuffer.Update update = channel.getUpdateSince(1);
+
+        // then
+        assertEquals(3, update.getSequence());
+        assertEquals(2, update.getPoints().size());
+        assertSame(second, update.getPoints().get(0));
+        assertSame(third, update.getPoints().get(1));
+    }
+
+    @Test
+    void testUpdateOfLaggingClientContainsBufferedPoints() {
+        // given
+        LiveDataChannel channel = new LiveDataChannel("test", 3);
+        for (int i = 0; i < 5; i++) {
+            channel.publish(new Point(i));
+        }
+
+        // when
+        LiveDataBuffer.Update update = channel.getUpdateSince(0);
+
+        // then
+        assertEquals(5, update.getSequence());
+        assertEquals(3, update.getPoints().size());
+        assertEquals(2, update.getPoints().get(0).getY());
+        assertEquals(4, update.getPoints().get(2).getY());
+    }
+
+    @Test
+    void testUpdateOfClientAheadOfChannel() {
+        // given
+        LiveDataChannel channel = new LiveDataChannel("test", 3);
+        channel.publish(new Point(1));
+
+        // when
+        LiveDataBuffer.Update update = channel.getUpdateSince(42);
+
+        // then
+        assertEquals(1, update.getSequence());
+        assertTrue(update.getPoints().isEmpty());
+    }
+
+    @Test
+    void testListenersAreCalledOnPublish() {
+        // given
+        LiveDataChannel channel = new LiveDataChannel("test", 3);
+        final AtomicInteger calls = new AtomicInteger();
+        Runnable listener = calls::incrementAndGet;
+        channel.addListener(listener);
+
+        // when
+        channel.publish(new Point(1));
+        channel.removeListener(listener);
+        channel.publish(new Point(2));
+
+        // then
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testSharedChannels() {
+        // when
+        LiveDataChannel channel = LiveDataChannel.get("shared");
+
+        // then
+        assertSame(channel, LiveDataChannel.get("shared"));
+        assertSame(channel, LiveDataChannel.find("shared"));
+        LiveDataChannel.remove("shared");
+        assertNull(LiveDataChannel.find("shared"));
+    }
+
+    @Test
+    void testRemovedChannelIsDisconnectedFromBroker() {
+        // given
+        InMemoryLiveDataBroker broker = new InMemoryLiveDataBroker();
+        LiveDataChannel channel = LiveDataChannel.get("removed");
+        channel.connect(broker);
+
+        // when
+        assertSame(channel, LiveDataChannel.remove("removed"));
+        broker.publish("removed", new Point(1));
+
+        // then
+        assertNull(LiveDataChannel.find("removed"));
+        assertEquals(0, channel.getSequence());
+    }
+
+}
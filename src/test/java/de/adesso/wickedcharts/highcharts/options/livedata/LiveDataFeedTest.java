@@ -0,0 +1,109 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.jackson.JsonRenderer;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveDataFeedTest {
+
+    @AfterEach
+    void stopFeed() {
+        LiveDataFeed.stop("feed");
+        LiveDataChannel.remove("feed");
+    }
+
+    @Test
+    void testPointsAreProducedOnceForAllSeries() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        LiveDataFeed feed = LiveDataFeed.start("feed", 60000, () -> new Point(calls.incrementAndGet()));
+        feed.tick();
+        LiveDataFeedSeries first = new LiveDataFeedSeries(new Options(), feed);
+        LiveDataFeedSeries second = new LiveDataFeedSeries(new Options(), feed);
+
+        // when
+        feed.tick();
+        List<Point> firstPoints = first.updatePoints(new LiveDataUpdateEvent());
+        List<Point> secondPoints = second.updatePoints(new LiveDataUpdateEvent());
+
+        // then
+        assertEquals(2, calls.get());
+        assertEquals(1, firstPoints.size());
+        assertSame(firstPoints.get(0), secondPoints.get(0));
+        assertTrue(first.updatePoints(new LiveDataUpdateEvent()).isEmpty());
+        assertEquals(60000, first.getUpdateIntervalMs());
+    }
+
+    @Test
+    void testFeedSurvivesFailingProducer() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        LiveDataFeed feed = LiveDataFeed.start("feed", 60000, () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return new Point(calls.get());
+        });
+
+        // when
+        feed.tick();
+        feed.tick();
+
+        // then
+        assertEquals(2, calls.get());
+        assertEquals(1, feed.getChannel().getSequence());
+    }
+
+    @Test
+    void testStopAllStopsFeeds() {
+        // given
+        LiveDataFeed.start("feed", 60000, () -> null);
+
+        // when
+        LiveDataFeed.stopAll();
+
+        // then
+        assertNull(LiveDataFeed.get("feed"));
+        assertNotNull(LiveDataFeed.start("feed", 60000, () -> null));
+    }
+
+    @Test
+    void testFeedNameIsNotRendered() {
+        // given
+        LiveDataFeed feed = LiveDataFeed.start("feed", 60000, () -> null);
+        LiveDataFeedSeries series = new LiveDataFeedSeries(new Options(), feed);
+
+        // when
+        String json = new JsonRenderer().toJson(series);
+
+        // then
+        assertFalse(json.contains("feed"));
+    }
+
+}
@@ -0,0 +1,132 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveDataFlowSubscriberTest {
+
+    @Test
+    void testBufferRequestsDrainedPoints() {
+        // given
+        TestSubscription subscription = new TestSubscription();
+        LiveDataFlowSubscriber subscriber = new LiveDataFlowSubscriber(LiveDataConflationPolicy.BUFFER, 3, 60000);
+        subscriber.onSubscribe(subscription);
+        subscriber.onNext(new Point(1));
+        subscriber.onNext(new Point(2));
+
+        // when
+        List<Point> points = subscriber.drain();
+
+        // then
+        assertEquals(2, points.size());
+        assertEquals(1, points.get(0).getY());
+        assertEquals(5, subscription.requested);
+    }
+
+    @Test
+    void testDropOldest() {
+        // given
+        LiveDataFlowSubscriber subscriber = new LiveDataFlowSubscriber(LiveDataConflationPolicy.DROP_OLDEST, 2, 60000);
+        subscriber.onSubscribe(new TestSubscription());
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            subscriber.onNext(new Point(i));
+        }
+        List<Point> points = subscriber.drain();
+
+        // then
+        assertEquals(2, points.size());
+        assertEquals(4, points.get(0).getY());
+        assertEquals(5, points.get(1).getY());
+        assertEquals(3, subscriber.getDroppedPoints());
+    }
+
+    @Test
+    void testConflation() {
+        // given
+        LiveDataFlowSubscriber latest = createConflatingSubscriber(LiveDataConflationPolicy.LATEST);
+        LiveDataFlowSubscriber min = createConflatingSubscriber(LiveDataConflationPolicy.MIN);
+        LiveDataFlowSubscriber max = createConflatingSubscriber(LiveDataConflationPolicy.MAX);
+        LiveDataFlowSubscriber average = createConflatingSubscriber(LiveDataConflationPolicy.AVERAGE);
+
+        // when
+        Point latestPoint = latest.drain().get(0);
+        Point minPoint = min.drain().get(0);
+        Point maxPoint = max.drain().get(0);
+        Point averagePoint = average.drain().get(0);
+
+        // then
+        assertEquals(3L, latestPoint.getX());
+        assertEquals(2, latestPoint.getY());
+        assertEquals(3L, minPoint.getX());
+        assertEquals(1.0, minPoint.getY());
+        assertEquals(6.0, maxPoint.getY());
+        assertEquals(3.0, averagePoint.getY());
+        assertTrue(average.drain().isEmpty());
+    }
+
+    @Test
+    void testCancelWhenAbandoned() throws InterruptedException {
+        // given
+        TestSubscription subscription = new TestSubscription();
+        LiveDataFlowSubscriber subscriber = new LiveDataFlowSubscriber(LiveDataConflationPolicy.LATEST, 1, 1);
+        subscriber.onSubscribe(subscription);
+        Thread.sleep(10);
+
+        // when
+        subscriber.onNext(new Point(1));
+
+        // then
+        assertTrue(subscriber.isAbandoned());
+        assertTrue(subscription.cancelled);
+        assertTrue(subscriber.drain().isEmpty());
+    }
+
+    private LiveDataFlowSubscriber createConflatingSubscriber(final LiveDataConflationPolicy policy) {
+        LiveDataFlowSubscriber subscriber = new LiveDataFlowSubscriber(policy, 1, 60000);
+        subscriber.onSubscribe(new TestSubscription());
+        subscriber.onNext(new Point(1L, 1));
+        subscriber.onNext(new Point(2L, 6));
+        subscriber.onNext(new Point(3L, 2));
+        return subscriber;
+    }
+
+    private static class TestSubscription implements Flow.Subscription {
+
+        private long requested;
+
+        private boolean cancelled;
+
+        @Override
+        public void request(final long n) {
+            this.requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LiveDataHistoryTest {
+
+    @Test
+    void testWindowKeepsLastPoints() {
+        // given
+        LiveDataHistory history = new LiveDataHistory(3);
+        for (int i = 0; i < 5; i++) {
+            history.add(new Point(1000L + i, i), 0);
+        }
+
+        // when
+        List<Point> points = history.getPoints(0);
+
+        // then
+        assertEquals(3, points.size());
+        assertEquals(1002L, points.get(0).getX());
+        assertEquals(2L, points.get(0).getY());
+        assertEquals(1004L, points.get(2).getX());
+    }
+
+    @Test
+    void testWindowEvictsOldPoints() {
+        // given
+        LiveDataHistory history = new LiveDataHistory(10, 1000);
+        history.add(new Point(1, 1), 0);
+        history.add(new Point(2, 2), 500);
+        history.add(new Point(3, 3), 1500);
+
+        // when
+        List<Point> points = history.getPoints(1600);
+
+        // then
+        assertEquals(1, points.size());
+        assertEquals(3L, points.get(0).getX());
+        assertEquals(1, history.size());
+    }
+
+    @Test
+    void testPointsWithoutValues() {
+        // given
+        LiveDataHistory history = new LiveDataHistory(2);
+        history.add(new Point(1.5), 0);
+        history.add(new Point(2, null), 0);
+
+        // when
+        List<Point> points = history.getPoints(0);
+
+        // then
+        assertNull(points.get(0).getX());
+        assertEquals(1.5, points.get(0).getY());
+        assertEquals(2L, points.get(1).getX());
+        assertNull(points.get(1).getY());
+    }
+
+}
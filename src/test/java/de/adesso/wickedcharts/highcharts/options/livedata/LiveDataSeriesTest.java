@@ -0,0 +1,187 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.jackson.JsonRenderer;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveDataSeriesTest {
+
+    @Test
+    void testUpdatePointsWrapsSinglePoint() {
+        // given
+        final Point point = new Point(1);
+        LiveDataSeries series = new LiveDataSeries(new Options(), 1000) {
+            @Override
+            public Point update(final LiveDataUpdateEvent event) {
+                return point;
+            }
+        };
+
+        // when
+        List<Point> points = series.updatePoints(new LiveDataUpdateEvent());
+
+        // then
+        assertEquals(1, points.size());
+        assertSame(point, points.get(0));
+    }
+
+    @Test
+    void testUpdatePointsWithoutPoint() {
+        // given
+        LiveDataSeries series = new LiveDataSeries(new Options(), 1000) {
+            @Override
+            public Point update(final LiveDataUpdateEvent event) {
+                return null;
+            }
+        };
+
+        // when
+        List<Point> points = series.updatePoints(new LiveDataUpdateEvent());
+
+        // then
+        assertTrue(points.isEmpty());
+    }
+
+    @Test
+    void testBatchSeriesUpdateReturnsLastPoint() {
+        // given
+        final Point first = new Point(1);
+        final Point last = new Point(2);
+        LiveDataSeries series = new LiveDataBatchSeries(new Options(), 1000) {
+            @Override
+            public List<Point> updatePoints(final LiveDataUpdateEvent event) {
+                return Arrays.asList(first, last);
+            }
+        };
+
+        // when
+        Point point = series.update(new LiveDataUpdateEvent());
+
+        // then
+        assertSame(last, point);
+    }
+
+    @Test
+    void testDataIsRenderedWithHistory() {
+        // given
+        LiveDataSeries series = createSeries();
+        series.addPoint(new Point(1, 1));
+        series.setHistory(new LiveDataHistory(10));
+        series.getHistory().add(new Point(2, 2));
+
+        // when
+        List<Point> data = series.getData();
+
+        // then
+        assertEquals(2, data.size());
+        assertEquals(2L, data.get(1).getX());
+    }
+
+    @Test
+    void testHistoryReplacesPointsById() {
+        // given
+        LiveDataSeries series = createSeries();
+        series.setUpdateMode(LiveDataUpdateMode.UPDATE_BY_ID);
+        series.addPoint(new Point("first", 1).setId("a"));
+        series.addPoint(new Point("second", 2).setId("b"));
+        series.setHistory(new LiveDataHistory(10));
+        series.getHistory().add(new Point("first", 5).setId("a"));
+        series.getHistory().add(new Point("first", 6).setId("a"));
+        series.getHistory().add(new Point("second", 7).setId("b"));
+
+        // when
+        List<Point> data = series.getData();
+
+        // then
+        assertEquals(2, data.size());
+        assertEquals("a", data.get(0).getId());
+        assertEquals("first", data.get(0).getName());
+        assertEquals(6L, data.get(0).getY());
+        assertEquals(7L, data.get(1).getY());
+    }
+
+    @Test
+    void testDataIsRenderedWithHistoryOfChannel() {
+        // given
+        LiveDataChannel channel = new LiveDataChannel("history", 10);
+        channel.setHistory(new LiveDataHistory(10));
+        LiveDataChannel.register(channel);
+        LiveDataSeries series = createSeries();
+        series.setChannel("history");
+
+        // when
+        channel.publish(new Point(1, 1), new Point(2, 2));
+        List<Point> data = series.getData();
+        LiveDataChannel.remove("history");
+
+        // then
+        assertEquals(2, data.size());
+        assertEquals(1L, data.get(0).getX());
+    }
+
+    @Test
+    void testIdleTimeoutOfSeriesGroup() {
+        // given
+        LiveDataSeries first = createSeries();
+        LiveDataSeries second = createSeries();
+        first.setIdleTimeoutMs(60000);
+        second.setIdleTimeoutMs(120000);
+
+        // when
+        int idleTimeoutMs = LiveDataSeries.getIdleTimeoutMs(Arrays.asList(first, second));
+        second.setIdleTimeoutMs(0);
+
+        // then
+        assertEquals(120000, idleTimeoutMs);
+        assertEquals(0, LiveDataSeries.getIdleTimeoutMs(Arrays.asList(first, second)));
+    }
+
+    @Test
+    void testUpdateModeIsRenderedForClient() {
+        // given
+        LiveDataSeries series = createSeries();
+        String defaultJson = new JsonRenderer().toJson(series);
+
+        // when
+        series.setUpdateMode(LiveDataUpdateMode.WINDOW).setWindowSize(50);
+        String json = new JsonRenderer().toJson(series).replaceAll("\\s", "");
+
+        // then
+        assertFalse(defaultJson.contains("wickedChartsUpdateMode"));
+        assertTrue(json.contains("\"wickedChartsUpdateMode\":\"window\""));
+        assertTrue(json.contains("\"wickedChartsWindowSize\":50"));
+    }
+
+    private static LiveDataSeries createSeries() {
+        return new LiveDataSeries(new Options(), 1000) {
+            @Override
+            public Point update(final LiveDataUpdateEvent event) {
+                return null;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,98 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LiveDataUpdateModeTest {
+
+    @Test
+    void testAppend() {
+        // given
+        List<Point> data = Arrays.asList(new Point(1), new Point(2));
+        Point point = new Point(3);
+
+        // when
+        List<Point> result = LiveDataUpdateMode.APPEND.apply(data, Arrays.asList(point), 1);
+
+        // then
+        assertEquals(3, result.size());
+        assertSame(point, result.get(2));
+        assertEquals(2, data.size());
+    }
+
+    @Test
+    void testReplaceLast() {
+        // given
+        Point first = new Point(1);
+        List<Point> data = Arrays.asList(first, new Point(2));
+        Point latest = new Point(4);
+
+        // when
+        List<Point> result = LiveDataUpdateMode.REPLACE_LAST.apply(data, Arrays.asList(new Point(3), latest), 1);
+
+        // then
+        assertEquals(Arrays.asList(first, latest), result);
+    }
+
+    @Test
+    void testReplaceLastWithoutData() {
+        // given
+        Point point = new Point(1);
+
+        // when
+        List<Point> result = LiveDataUpdateMode.REPLACE_LAST.apply(null, Arrays.asList(point), 1);
+
+        // then
+        assertEquals(Arrays.asList(point), result);
+    }
+
+    @Test
+    void testUpdateById() {
+        // given
+        Point a = new Point(1).setId("a");
+        Point b = new Point(2).setId("b");
+        Point newB = new Point(3).setId("b");
+        Point c = new Point(4).setId("c");
+
+        // when
+        List<Point> result = LiveDataUpdateMode.UPDATE_BY_ID.apply(Arrays.asList(a, b), Arrays.asList(newB, c), 1);
+
+        // then
+        assertEquals(Arrays.asList(a, newB, c), result);
+    }
+
+    @Test
+    void testWindow() {
+        // given
+        Point first = new Point(1);
+        Point second = new Point(2);
+        Point third = new Point(3);
+
+        // when
+        List<Point> result = LiveDataUpdateMode.WINDOW.apply(Arrays.asList(first), Arrays.asList(second, third), 2);
+
+        // then
+        assertEquals(Arrays.asList(second, third), result);
+    }
+
+}
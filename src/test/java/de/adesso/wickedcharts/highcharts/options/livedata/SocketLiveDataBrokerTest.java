@@ -0,0 +1,105 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.Events;
+import de.adesso.wickedcharts.highcharts.options.Function;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SocketLiveDataBrokerTest {
+
+    @Test
+    void testPointsAreRelayedToAllNodes() throws Exception {
+        // given
+        try (SocketLiveDataHub hub = new SocketLiveDataHub(0);
+             SocketLiveDataBroker publisher = new SocketLiveDataBroker(hub.getPort());
+             SocketLiveDataBroker subscriber = new SocketLiveDataBroker(hub.getPort())) {
+            final CountDownLatch latch = new CountDownLatch(2);
+            final List<Point> received = new CopyOnWriteArrayList<>();
+            publisher.subscribe("feed", point -> latch.countDown());
+            subscriber.subscribe("feed", point -> {
+                received.add(point);
+                latch.countDown();
+            });
+            subscriber.subscribe("other", point -> received.add(point));
+            waitForConnections(hub, 2);
+
+            // when
+            publisher.publish("feed", new Point("name", 42, Color.RED));
+
+            // then
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(1, received.size());
+            assertEquals("name", received.get(0).getName());
+            assertEquals(42, received.get(0).getY());
+        }
+    }
+
+    @Test
+    void testBrokerWithWrongSecretIsDisconnected() throws Exception {
+        // given
+        try (SocketLiveDataHub hub = new SocketLiveDataHub(0, "secret");
+             SocketLiveDataBroker authorized = new SocketLiveDataBroker(InetAddress.getLoopbackAddress(),
+                     hub.getPort(), "secret");
+             SocketLiveDataBroker unauthorized = new SocketLiveDataBroker(InetAddress.getLoopbackAddress(),
+                     hub.getPort(), "guess")) {
+            final List<Point> received = new CopyOnWriteArrayList<>();
+            unauthorized.subscribe("feed", point -> received.add(point));
+            final CountDownLatch latch = new CountDownLatch(1);
+            authorized.subscribe("feed", point -> latch.countDown());
+            waitForConnections(hub, 1);
+
+            // when
+            authorized.publish("feed", new Point(1));
+
+            // then
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(1, hub.getConnectionCount());
+            assertTrue(received.isEmpty());
+        }
+    }
+
+    @Test
+    void testPointWithEventsCannotBePublished() throws Exception {
+        // given
+        try (SocketLiveDataHub hub = new SocketLiveDataHub(0);
+             SocketLiveDataBroker broker = new SocketLiveDataBroker(hub.getPort())) {
+            Point point = new Point(1).setEvents(new Events().setClick(new Function("alert(1);")));
+
+            // when / then
+            assertThrows(IllegalArgumentException.class, () -> broker.publish("feed", point));
+        }
+    }
+
+    private void waitForConnections(final SocketLiveDataHub hub, final int count) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 5000;
+        while (hub.getConnectionCount() < count && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+    }
+
+}
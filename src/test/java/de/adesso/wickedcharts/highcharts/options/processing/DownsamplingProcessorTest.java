@@ -0,0 +1,313 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.processing;
+
+import de.adesso.wickedcharts.highcharts.jackson.JsonRenderer;
+import de.adesso.wickedcharts.highcharts.options.ChartOptions;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.RenderView;
+import de.adesso.wickedcharts.highcharts.options.series.Coordinate;
+import de.adesso.wickedcharts.highcharts.options.series.CoordinatesSeries;
+import de.adesso.wickedcharts.highcharts.options.series.DoubleSeries;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import de.adesso.wickedcharts.highcharts.options.series.PointSeries;
+import de.adesso.wickedcharts.highcharts.options.series.RangeCoordinate;
+import de.adesso.wickedcharts.highcharts.options.series.RangeSeries;
+import de.adesso.wickedcharts.highcharts.options.series.Series;
+import de.adesso.wickedcharts.highcharts.options.series.SimpleSeries;
+import de.adesso.wickedcharts.highcharts.options.series.XYDoubleSeries;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DownsamplingProcessorTest {
+
+    private static CoordinatesSeries sine(final int n) {
+        CoordinatesSeries series = new CoordinatesSeries();
+        for (int i = 0; i < n; i++) {
+            series.addPoint(i, Math.sin(i / 100d) * 100);
+        }
+        return series;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> rendered(final Options options, final Series<?> series) {
+        return (List<T>) options.getRenderedData(series);
+    }
+
+    private static void process(final Options options, final DownsamplingProcessor processor) {
+        processor.processOptions(options, new OptionsProcessorContext(options));
+    }
+
+    @Test
+    void testLttbKeepsFirstAndLastPoint() {
+        // given
+        CoordinatesSeries series = sine(10000);
+        Options options = new Options().addSeries(series);
+
+        // when
+        process(options, new DownsamplingProcessor(new Downsampling(DownsamplingAlgorithm.LTTB, 100)));
+
+        // then
+        List<Coordinate<Number, Number>> data = rendered(options, series);
+        assertEquals(100, data.size());
+        assertEquals(0, data.get(0).getX());
+        assertEquals(9999, data.get(99).getX());
+    }
+
+    @Test
+    void testM4KeepsExtremes() {
+        // given
+        CoordinatesSeries series = sine(10000);
+        series.getData().get(4321).setY(1000);
+        series.getData().get(1234).setY(-1000);
+        Options options = new Options().addSeries(series);
+
+        // when
+        process(options, new DownsamplingProcessor(new Downsampling(DownsamplingAlgorithm.M4, 200)));
+
+        // then
+        List<Coordinate<Number, Number>> data = rendered(options, series);
+        assertTrue(data.size() <= 200);
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (Coordinate<Number, Number> coordinate : data) {
+            min = Math.min(min, coordinate.getY().doubleValue());
+            max = Math.max(max, coordinate.getY().doubleValue());
+        }
+        assertEquals(-1000, min);
+        assertEquals(1000, max);
+        assertEquals(0, data.get(0).getX());
+        assertEquals(9999, data.get(data.size() - 1).getX());
+    }
+
+    @Test
+    void testTargetDerivedFromChartWidth() {
+        // given
+        CoordinatesSeries series = sine(10000);
+        Options options = new Options().setChartOptions(new ChartOptions().setWidth(300)).addSeries(series);
+
+        // when
+        process(options, new DownsamplingProcessor(new Downsampling(DownsamplingAlgorithm.LTTB)));
+
+        // then
+        assertEquals(300, rendered(options, series).size());
+    }
+
+    @Test
+    void testNoTargetLeavesSeriesUntouched() {
+        // given
+        CoordinatesSeries series = sine(1000);
+        Options options = new Options().addSeries(series);
+
+        // when
+        process(options, new DownsamplingProcessor(new Downsampling(DownsamplingAlgorithm.LTTB)));
+
+        // then
+        assertNull(options.getRenderedData(series));
+        assertEquals(1000, series.getData().size());
+    }
+
+    @Test
+    void testConfigurationPerSeries() {
+        // given
+        CoordinatesSeries excluded = sine(1000);
+        CoordinatesSeries configured = sine(1000);
+        CoordinatesSeries defaulted = sine(1000);
+        Options options = new Options().addSeries(excluded).addSeries(configured).addSeries(defaulted);
+        DownsamplingProcessor processor = new DownsamplingProcessor(new Downsampling(DownsamplingAlgorithm.LTTB, 100))
+                .setDownsampling(excluded, null)
+                .setDownsampling(configured, new Downsampling(DownsamplingAlgorithm.MIN_MAX, 50));
+
+        // when
+        process(options, processor);
+
+        // then
+        assertNull(options.getRenderedData(excluded));
+        assertTrue(rendered(options, configured).size() <= 50);
+        assertEquals(100, rendered(options, defaulted).size());
+    }
+
+    @Test
+    void testSimpleSeriesIsRenderedAsCoordinates() {
+        // given
+        SimpleSeries series = new SimpleSeries();
+        series.setName("simple");
+        series.setPointStart(1000);
+        series.setPointInterval(10);
+        Number[] values = new Number[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 7;
+        }
+        series.setData(values);
+        Options options = new Options().addSeries(series);
+
+        // when
+        process(options, new DownsamplingProcessor(new Downsampling(DownsamplingAlgorithm.LTTB, 10)));
+
+        // then
+        assertSame(series, options.getSeries().get(0));
+        assertEquals(1000, series.getData().size());
+        List<Coordinate<Number, Number>> data = rendered(options, series);
+        assertEquals(10, data.size());
+        assertEquals(1000L, data.get(0).getX());
+        assertEquals(10990L, data.get(9).getX());
+    }
+
+    @Test
+    void testLttbWithNullValues() {
+        // given
+        SimpleSeries series = new SimpleSeries();
+        Number[] values = new Number[1000];
+        for (int i = 1; i < values.length; i++) {
+            values[i] = i % 100 >= 40 && i % 100 < 50 ? null : Math.sin(i / 50d) * 100;
+        }
+        series.setData(values);
+        Options options = new Options().addSeries(series);
+
+        // when
+        process(options, new DownsamplingProcessor(new Downsampling(DownsamplingAlgorithm.LTTB, 50)));
+
+        // then
+        List<Coordinate<Number, Number>> data = rendered(options, series);
+        assertEquals(50, data.size());
+        assertEquals(0L, data.get(0).getX());
+        assertEquals(999L, data.get(49).getX());
+        for (int i = 1; i < data.size(); i++) {
+            assertNotNull(data.get(i).getY());
+        }
+    }
+
+    @Test
+    void testPointsAreRenderedWithImplicitX() {
+        // given
+        PointSeries series = new PointSeries();
+        for (int i = 0; i < 1000; i++) {
+            series.addPoint(new Point(i % 13));
+        }
+        Point last = series.getData().get(999);
+        Options options = new Options().addSeries(series);
+
+        // when
+        process(options, new DownsamplingProcessor(new Downsampling(DownsamplingAlgorithm.M4, 40)));
+
+        // then
+        List<RenderView> data = rendered(options, series);
+        RenderView view = data.get(data.size() - 1);
+        assertSame(last, view.getValue());
+        assertEquals(999L, view.getProperties().get("x"));
+        assertNull(last.getX());
+        assertEquals(1000, series.getData().size());
+    }
+
+    @Test
+    void testRangesAreReducedToEnvelope() {
+        // given
+        RangeSeries series = new RangeSeries();
+        for (int i = 0; i < 1000; i++) {
+            series.addPoint(i, -i, i);
+        }
+        Options options = new Options().addSeries(series);
+
+        // when
+        process(options, new DownsamplingProcessor(new Downsampling(DownsamplingAlgorithm.LTTB, 10)));
+
+        // then
+        List<RangeCoordinate<Number, Number, Number>> data = rendered(options, series);
+        assertEquals(10, data.size());
+        assertEquals(0L, data.get(0).getX());
+        assertEquals(99L, data.get(0).getY2());
+        assertEquals(-999L, data.get(9).getY1());
+        assertEquals(999L, data.get(9).getY2());
+    }
+
+    @Test
+    void testDoubleSeriesIsRenderedAsCoordinates() {
+        // given
+        DoubleSeries series = new DoubleSeries();
+        for (int i = 0; i < 1000; i++) {
+            series.addPoint(Math.cos(i));
+        }
+        Options options = new Options().addSeries(series);
+
+        // when
+        process(options, new DownsamplingProcessor(new Downsampling(DownsamplingAlgorithm.LTTB, 25)));
+
+        // then
+        assertSame(series, options.getSeries().get(0));
+        assertEquals(1000, series.size());
+        List<Coordinate<Number, Number>> data = rendered(options, series);
+        assertEquals(25, data.size());
+        assertEquals(0L, data.get(0).getX());
+        assertEquals(999L, data.get(24).getX());
+    }
+
+    @Test
+    void testUnsortedSeriesIsLeftUntouched() {
+        // given
+        CoordinatesSeries series = sine(1000);
+        series.getData().get(500).setX(-1);
+        Options options = new Options().addSeries(series);
+
+        // when
+        process(options, new DownsamplingProcessor(new Downsampling(DownsamplingAlgorithm.LTTB, 10)));
+
+        // then
+        assertNull(options.getRenderedData(series));
+        assertEquals(1000, series.getData().size());
+    }
+
+    @Test
+    void testNothingIsRenderedIfAllPointsAreSelected() {
+        // given
+        CoordinatesSeries series = sine(10);
+        Options options = new Options().addSeries(series);
+
+        // when
+        process(options, new DownsamplingProcessor(new Downsampling(DownsamplingAlgorithm.LTTB, 2)));
+
+        // then
+        assertNull(options.getRenderedData(series));
+    }
+
+    @Test
+    void testReducedDataIsRendered() {
+        // given
+        XYDoubleSeries series = new XYDoubleSeries();
+        series.setName("xy");
+        for (int i = 0; i < 1000; i++) {
+            series.addPoint(i, i % 2);
+        }
+        Options options = new Options().addSeries(series);
+
+        // when
+        process(options, new DownsamplingProcessor(new Downsampling(DownsamplingAlgorithm.LTTB, 3)));
+        String json = new JsonRenderer().toJson(options).replaceAll("\\s", "");
+
+        // then
+        assertEquals(1000, series.size());
+        assertTrue(json.contains("\"name\":\"xy\""));
+        assertTrue(json.contains("\"data\":[[0,0"));
+        assertTrue(json.contains("[999,1"));
+        assertEquals(5, json.split("\\[").length - 1);
+    }
+
+}
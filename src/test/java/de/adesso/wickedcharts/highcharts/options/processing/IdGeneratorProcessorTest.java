@@ -0,0 +1,259 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.processing;
+
+import de.adesso.wickedcharts.highcharts.options.Axis;
+import de.adesso.wickedcharts.highcharts.options.Events;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.PlotOptions;
+import de.adesso.wickedcharts.highcharts.options.PlotOptionsChoice;
+import de.adesso.wickedcharts.highcharts.options.PointOptions;
+import de.adesso.wickedcharts.highcharts.options.interaction.InteractionEvent;
+import de.adesso.wickedcharts.highcharts.options.interaction.InteractionFunction;
+import de.adesso.wickedcharts.highcharts.options.interaction.SelectionEvent;
+import de.adesso.wickedcharts.highcharts.options.interaction.SelectionFunction;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import de.adesso.wickedcharts.highcharts.options.series.PointSeries;
+import de.adesso.wickedcharts.highcharts.options.series.Series;
+import de.adesso.wickedcharts.highcharts.options.util.OptionsUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdGeneratorProcessorTest {
+
+    @Test
+    void testNoIdsWithoutFeatures() {
+        // given
+        Options options = new Options();
+        PointSeries series = createSeries(options, new Point(1));
+
+        // when
+        process(options);
+
+        // then
+        assertNull(series.getWickedChartsId());
+        assertNull(series.getData().get(0).getWickedChartsId());
+        assertNull(options.getWickedChartsIdIndex());
+    }
+
+    @Test
+    void testElementsAreIndexedByWickedChartsId() {
+        // given
+        Options options = new Options();
+        options.setPlotOptions(new PlotOptionsChoice().setSeries(new PlotOptions()
+                .setPoint(new PointOptions().setEvents(new Events().setClick(createInteractionFunction(options))))));
+        createSeries(options, new Point(0));
+        Point first = new Point(1);
+        Point second = new Point(2);
+        PointSeries pointSeries = createSeries(options, first, second);
+        Axis xAxis = new Axis();
+        Axis yAxis = new Axis();
+        options.setxAxis(xAxis);
+        options.setyAxis(yAxis);
+        createSelectionFunction(options);
+
+        // when
+        process(options);
+
+        // then
+        assertSame(pointSeries, OptionsUtil.getSeriesWithWickedChartsId(options, pointSeries.getWickedChartsId()));
+        assertSame(second, OptionsUtil.getPointWithWickedChartsId(options, second.getWickedChartsId()));
+        assertSame(xAxis, OptionsUtil.getAxisWithWickedChartsId(options, xAxis.getWickedChartsId()));
+        assertSame(yAxis, OptionsUtil.getAxisWithWickedChartsId(options, yAxis.getWickedChartsId()));
+        assertEquals(1, OptionsUtil.getSeriesIndex(options, pointSeries.getWickedChartsId()));
+        assertEquals(1, options.getWickedChartsIdIndex().getSeriesIndex(first.getWickedChartsId()));
+        assertNull(OptionsUtil.getPointWithWickedChartsId(options, pointSeries.getWickedChartsId()));
+        assertNull(OptionsUtil.getSeriesWithWickedChartsId(options, 1000));
+    }
+
+    @Test
+    void testPointIdsOnlyForPointsWithInteraction() {
+        // given
+        Options options = new Options();
+        Point plainPoint = new Point(1);
+        Point interactivePoint = new Point(2).setEvents(new Events().setClick(createInteractionFunction(options)));
+        PointSeries series = createSeries(options, plainPoint, interactivePoint);
+        Axis axis = new Axis();
+        options.setxAxis(axis);
+
+        // when
+        process(options);
+
+        // then
+        assertNotNull(series.getWickedChartsId());
+        assertNull(plainPoint.getWickedChartsId());
+        assertNotNull(interactivePoint.getWickedChartsId());
+        assertNull(axis.getWickedChartsId());
+    }
+
+    @Test
+    void testIdsAreStableAcrossProcessing() {
+        // given
+        Options options = new Options();
+        Point point = new Point(1).setEvents(new Events().setClick(createInteractionFunction(options)));
+        PointSeries series = createSeries(options, point);
+        process(options);
+        int seriesId = series.getWickedChartsId();
+        int pointId = point.getWickedChartsId();
+        PointSeries copy = new PointSeries();
+        copy.copyFrom(series);
+        options.addSeries(copy);
+
+        // when
+        process(options);
+
+        // then
+        assertEquals(seriesId, series.getWickedChartsId());
+        assertEquals(pointId, point.getWickedChartsId());
+        assertNotEquals(seriesId, copy.getWickedChartsId());
+        assertTrue(copy.getWickedChartsId() > pointId);
+        assertSame(series, OptionsUtil.getSeriesWithWickedChartsId(options, seriesId));
+        assertSame(copy, OptionsUtil.getSeriesWithWickedChartsId(options, copy.getWickedChartsId()));
+    }
+
+    @Test
+    void testIndexSizeIsBoundedWhenDataIsReplaced() {
+        // given
+        Options options = new Options();
+        options.setPlotOptions(new PlotOptionsChoice().setSeries(new PlotOptions()
+                .setPoint(new PointOptions().setEvents(new Events().setClick(createInteractionFunction(options))))));
+        PointSeries series = createSeries(options);
+
+        // when
+        Point lastPoint = null;
+        for (int i = 0; i < 50; i++) {
+            Point[] points = new Point[1000];
+            for (int j = 0; j < points.length; j++) {
+                points[j] = new Point(j);
+            }
+            series.setData(points);
+            process(options);
+            lastPoint = points[999];
+        }
+
+        // then
+        WickedChartsIdIndex index = options.getWickedChartsIdIndex();
+        assertEquals(1001, index.size());
+        assertTrue(index.getMaxId() > 49000);
+        assertSame(lastPoint, index.getPoint(lastPoint.getWickedChartsId()));
+        assertSame(series, index.getSeries(series.getWickedChartsId()));
+        assertNull(index.get(series.getWickedChartsId() + 1));
+    }
+
+    @Test
+    void testLookupWithoutIndex() {
+        // given
+        Options options = new Options();
+        Point point = new Point(1).setWickedChartsId(7);
+        PointSeries series = new PointSeries();
+        series.setData(point);
+        series.setWickedChartsId(6);
+        options.addSeries(series);
+        Axis axis = new Axis();
+        axis.setWickedChartsId(8);
+        options.setyAxis(axis);
+
+        // when
+        Point foundPoint = OptionsUtil.getPointWithWickedChartsId(options, 7);
+        Axis foundAxis = OptionsUtil.getAxisWithWickedChartsId(options, 8);
+
+        // then
+        assertSame(point, foundPoint);
+        assertSame(axis, foundAxis);
+        assertSame(series, OptionsUtil.getSeriesWithWickedChartsId(options, 6));
+    }
+
+    @Test
+    void testElementsAddedAfterProcessingAreFound() {
+        // given
+        Options options = new Options();
+        createSeries(options, new Point(0));
+        createSelectionFunction(options);
+        process(options);
+        Point point = new Point(1).setWickedChartsId(1000);
+        PointSeries series = createSeries(options, point);
+        series.setWickedChartsId(1001);
+        Axis axis = new Axis();
+        axis.setWickedChartsId(1002);
+        options.setxAxis(axis);
+
+        // when
+        Series<?> foundSeries = OptionsUtil.getSeriesWithWickedChartsId(options, 1001);
+        Point foundPoint = OptionsUtil.getPointWithWickedChartsId(options, 1000);
+        Axis foundAxis = OptionsUtil.getAxisWithWickedChartsId(options, 1002);
+
+        // then
+        assertSame(series, foundSeries);
+        assertSame(point, foundPoint);
+        assertSame(axis, foundAxis);
+        assertEquals(1, OptionsUtil.getSeriesIndex(options, 1001));
+    }
+
+    @Test
+    void testRemovedElementsAreNotFound() {
+        // given
+        Options options = new Options();
+        options.setPlotOptions(new PlotOptionsChoice().setSeries(new PlotOptions()
+                .setPoint(new PointOptions().setEvents(new Events().setClick(createInteractionFunction(options))))));
+        PointSeries removed = createSeries(options, new Point(0));
+        Point point = new Point(1);
+        PointSeries kept = createSeries(options, point);
+        createSelectionFunction(options);
+        process(options);
+
+        // when
+        options.getSeries().remove(removed);
+        kept.setData(new Point(2));
+
+        // then
+        assertNull(OptionsUtil.getSeriesWithWickedChartsId(options, removed.getWickedChartsId()));
+        assertNull(OptionsUtil.getPointWithWickedChartsId(options, point.getWickedChartsId()));
+        assertEquals(0, OptionsUtil.getSeriesIndex(options, kept.getWickedChartsId()));
+    }
+
+    private static PointSeries createSeries(final Options options, final Point... points) {
+        PointSeries series = new PointSeries();
+        series.setData(points);
+        options.addSeries(series);
+        return series;
+    }
+
+    private static void process(final Options options) {
+        new IdGeneratorProcessor().processOptions(options, new OptionsProcessorContext(options));
+    }
+
+    private static InteractionFunction createInteractionFunction(final Options options) {
+        return new InteractionFunction(options) {
+            @Override
+            public void onInteraction(final InteractionEvent event) {
+            }
+        };
+    }
+
+    private static SelectionFunction createSelectionFunction(final Options options) {
+        return new SelectionFunction(options) {
+            @Override
+            public void onSelect(final SelectionEvent event) {
+            }
+        };
+    }
+
+}
@@ -0,0 +1,199 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.processing;
+
+import de.adesso.wickedcharts.highcharts.options.Axis;
+import de.adesso.wickedcharts.highcharts.options.Events;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.PlotOptions;
+import de.adesso.wickedcharts.highcharts.options.PlotOptionsChoice;
+import de.adesso.wickedcharts.highcharts.options.interaction.InteractionEvent;
+import de.adesso.wickedcharts.highcharts.options.interaction.InteractionFunction;
+import de.adesso.wickedcharts.highcharts.options.series.DoubleSeries;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import de.adesso.wickedcharts.highcharts.options.series.PointSeries;
+import de.adesso.wickedcharts.highcharts.options.series.Series;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OptionsProcessingPipelineTest {
+
+    @Test
+    void testConsecutiveVisitorsShareOneTraversal() {
+        // given
+        Options options = createOptions();
+        List<String> events = new ArrayList<>();
+        RecordingVisitor first = new RecordingVisitor("first", events, true);
+        RecordingVisitor second = new RecordingVisitor("second", events, false);
+
+        // when
+        new OptionsProcessingPipeline().process(options, null, Arrays.asList(first, second));
+
+        // then
+        assertEquals(Arrays.asList(
+                "first:begin", "second:begin",
+                "first:series0", "second:series0",
+                "first:point", "first:point",
+                "first:series1", "second:series1",
+                "first:axis", "second:axis",
+                "first:end", "second:end"), events);
+    }
+
+    @Test
+    void testProcessorsAreAppliedInOrder() {
+        // given
+        Options options = createOptions();
+        List<String> events = new ArrayList<>();
+        List<IOptionsProcessor> processors = Arrays.asList(
+                new RecordingVisitor("first", events, false),
+                (o, c) -> events.add("plain"),
+                new RecordingVisitor("second", events, false));
+
+        // when
+        new OptionsProcessingPipeline().process(options, null, processors);
+
+        // then
+        assertEquals("first:end", events.get(events.indexOf("plain") - 1));
+        assertEquals("second:begin", events.get(events.indexOf("plain") + 1));
+    }
+
+    @Test
+    void testContextContainsFunctionsAddedByProcessors() {
+        // given
+        Options options = createOptions();
+        IOptionsProcessor addingProcessor = (o, c) -> o.setPlotOptions(new PlotOptionsChoice()
+                .setSeries(new PlotOptions().setEvents(new Events().setClick(new InteractionFunction(o) {
+                    @Override
+                    public void onInteraction(final InteractionEvent event) {
+                    }
+                }))));
+
+        // when
+        OptionsProcessorContext context = new OptionsProcessingPipeline().process(options, null,
+                Arrays.asList(addingProcessor, new IdGeneratorProcessor()));
+
+        // then
+        assertEquals(1, context.getInteractionFunctions().size());
+        assertNotNull(options.getSeries().get(0).getWickedChartsId());
+    }
+
+    @Test
+    void testProcessingIsSkippedForSameVersion() {
+        // given
+        Options options = createOptions();
+        OptionsProcessingPipeline pipeline = new OptionsProcessingPipeline();
+        List<String> events = new ArrayList<>();
+        List<IOptionsProcessor> processors = Collections.singletonList((o, c) -> events.add("processed"));
+
+        // when
+        OptionsProcessorContext context = pipeline.process(options, "1", processors);
+        OptionsProcessorContext skippedContext = pipeline.process(options, "1", processors);
+
+        // then
+        assertEquals(1, events.size());
+        assertSame(context, skippedContext);
+        assertSame(context, pipeline.getContext(options));
+        assertTrue(pipeline.isUpToDate(options, "1"));
+        assertFalse(pipeline.isUpToDate(options, "2"));
+        assertFalse(pipeline.isUpToDate(createOptions(), "1"));
+        assertNotSame(context, pipeline.getContext(createOptions()));
+    }
+
+    @Test
+    void testProcessingIsRepeatedWithoutVersion() {
+        // given
+        Options options = createOptions();
+        OptionsProcessingPipeline pipeline = new OptionsProcessingPipeline();
+        List<String> events = new ArrayList<>();
+        List<IOptionsProcessor> processors = Collections.singletonList((o, c) -> events.add("processed"));
+
+        // when
+        pipeline.process(options, null, processors);
+        pipeline.process(options, null, processors);
+        pipeline.process(options, "1", processors);
+        pipeline.invalidate();
+        pipeline.process(options, "1", processors);
+
+        // then
+        assertEquals(4, events.size());
+    }
+
+    private Options createOptions() {
+        Options options = new Options();
+        options.addSeries(new PointSeries().setData(new Point(1), new Point(2)));
+        options.addSeries(new DoubleSeries().addPoints(1, 2, 3));
+        options.setxAxis(new Axis());
+        return options;
+    }
+
+    private static class RecordingVisitor implements IOptionsProcessor, IOptionsVisitor {
+
+        private final String name;
+
+        private final List<String> events;
+
+        private final boolean visitPoints;
+
+        RecordingVisitor(final String name, final List<String> events, final boolean visitPoints) {
+            this.name = name;
+            this.events = events;
+            this.visitPoints = visitPoints;
+        }
+
+        @Override
+        public void processOptions(final Options options, final OptionsProcessorContext context) {
+            throw new IllegalStateException("Visitors must not be processed directly!");
+        }
+
+        @Override
+        public boolean beginVisit(final Options options, final OptionsProcessorContext context) {
+            this.events.add(this.name + ":begin");
+            return true;
+        }
+
+        @Override
+        public boolean visitSeries(final Series<?> series, final int seriesIndex) {
+            this.events.add(this.name + ":series" + seriesIndex);
+            return this.visitPoints;
+        }
+
+        @Override
+        public void visitPoint(final Point point, final int seriesIndex) {
+            this.events.add(this.name + ":point");
+        }
+
+        @Override
+        public void visitAxis(final Axis axis) {
+            this.events.add(this.name + ":axis");
+        }
+
+        @Override
+        public void endVisit(final Options options) {
+            this.events.add(this.name + ":end");
+        }
+    }
+
+}
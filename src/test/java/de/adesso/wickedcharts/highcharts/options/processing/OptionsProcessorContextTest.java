@@ -0,0 +1,51 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.highcharts.options.processing;
+
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.drilldown.DrilldownPoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class OptionsProcessorContextTest {
+
+    @Test
+    void testDrilldownOptionsAreIndexedByIdentity() {
+        // given
+        Options root = new Options();
+        Options level1 = new Options();
+        Options level2 = new Options();
+        DrilldownPoint first = new DrilldownPoint(root, level1);
+        DrilldownPoint second = new DrilldownPoint(root, level1);
+        DrilldownPoint deeper = new DrilldownPoint(level1, level2);
+        DrilldownPoint back = new DrilldownPoint(level2, root);
+
+        // when
+        OptionsProcessorContext context = new OptionsProcessorContext(root);
+
+        // then
+        assertEquals(3, context.getDrilldownOptions().size());
+        assertSame(level1, context.getDrilldownOptions().get(0));
+        assertSame(level2, context.getDrilldownOptions().get(1));
+        assertSame(root, context.getDrilldownOptions().get(2));
+        assertEquals(0, first.getDrilldownOptionsIndex());
+        assertEquals(0, second.getDrilldownOptionsIndex());
+        assertEquals(1, deeper.getDrilldownOptionsIndex());
+        assertEquals(2, back.getDrilldownOptionsIndex());
+    }
+
+}
@@ -0,0 +1,51 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket;
+
+import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataChannel;
+import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataFeed;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import org.apache.wicket.mock.MockApplication;
+import org.apache.wicket.util.tester.WicketTester;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class WickedChartsInitializerTest {
+
+    @AfterEach
+    void stopFeed() {
+        LiveDataFeed.stop("shared");
+        LiveDataChannel.remove("shared");
+    }
+
+    @Test
+    void testDestroyingAnApplicationKeepsSharedFeedsAndChannels() {
+        // given
+        WicketTester first = new WicketTester(new MockApplication());
+        WicketTester second = new WicketTester(new MockApplication());
+        LiveDataFeed.start("shared", 60000, () -> new Point(1));
+
+        // when
+        first.destroy();
+
+        // then
+        assertNotNull(LiveDataFeed.get("shared"));
+        assertNotNull(LiveDataChannel.find("shared"));
+        second.destroy();
+    }
+
+}
@@ -0,0 +1,79 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts;
+
+import de.adesso.wickedcharts.highcharts.jackson.JsonRenderer;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import org.apache.wicket.mock.MockApplication;
+import org.apache.wicket.response.StringResponse;
+import org.apache.wicket.util.tester.WicketTester;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingJsonHeaderItemTest {
+
+    private WicketTester tester;
+
+    @BeforeEach
+    void setUp() {
+        this.tester = new WicketTester(new MockApplication());
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.tester.destroy();
+    }
+
+    @Test
+    void testGivenRendererIsUsed() {
+        // given
+        JsonRenderer renderer = new JsonRenderer() {
+            @Override
+            public void writeTo(final Object object, final Writer writer) {
+                try {
+                    writer.write("{\"custom\":true}");
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+        StringResponse response = new StringResponse();
+
+        // when
+        new StreamingJsonHeaderItem("chartOptions", new Options(), renderer).render(response);
+
+        // then
+        assertTrue(response.toString().contains("window.chartOptions = {\"custom\":true};"));
+    }
+
+    @Test
+    void testClosingScriptTagIsEscaped() {
+        // given
+        StringResponse response = new StringResponse();
+
+        // when
+        StreamingJsonHeaderItem.forJson("chartOptions", "{\"title\":\"</script>\"}").render(response);
+
+        // then
+        assertTrue(response.toString().contains("<\\/script>"));
+    }
+
+}
@@ -0,0 +1,120 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts.features.drilldown;
+
+import de.adesso.wickedcharts.highcharts.options.ChartOptions;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.SeriesType;
+import de.adesso.wickedcharts.highcharts.options.Title;
+import de.adesso.wickedcharts.highcharts.options.drilldown.DrilldownPoint;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import de.adesso.wickedcharts.highcharts.options.series.PointSeries;
+import de.adesso.wickedcharts.wicket.JavaScriptResourceRegistry;
+import de.adesso.wickedcharts.wicket.highcharts.Chart;
+import org.apache.wicket.mock.MockApplication;
+import org.apache.wicket.util.tester.WicketTester;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyDrilldownBehaviorTest {
+
+    private WicketTester tester;
+
+    @BeforeEach
+    void setUp() {
+        this.tester = new WicketTester(new MockApplication());
+        JavaScriptResourceRegistry.getInstance().setJQueryReference("jquery.js");
+        JavaScriptResourceRegistry.getInstance().setHighchartsReference("highcharts.js");
+        JavaScriptResourceRegistry.getInstance().setHighchartsExportingReference("exporting.js");
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.tester.destroy();
+    }
+
+    @Test
+    void testDrilldownOptionsAreNotRenderedIntoThePage() {
+        // when
+        Chart chart = createChart();
+
+        // then
+        String page = this.tester.getLastResponse().getDocument();
+        assertTrue(page.contains(chart.getMarkupId() + "_drilldownOptions = [];"));
+        assertTrue(page.contains("\"drilldownOptionsIndex\" : 1"));
+        assertFalse(page.contains("first level"));
+        assertFalse(page.contains("second level"));
+    }
+
+    @Test
+    void testLevelIsLoadedByIndex() {
+        // given
+        Chart chart = createChart();
+
+        // when
+        loadLevel(chart, "1");
+
+        // then
+        String response = this.tester.getLastResponseAsString();
+        assertTrue(response.contains(chart.getMarkupId() + "_drilldownOptions[1] = "));
+        assertTrue(response.contains("second level"));
+        assertFalse(response.contains("first level"));
+    }
+
+    @Test
+    void testUnknownIndexIsRejected() {
+        // given
+        Chart chart = createChart();
+
+        // when
+        loadLevel(chart, "2");
+
+        // then
+        String response = this.tester.getLastResponseAsString();
+        assertFalse(response.contains("_drilldownOptions["));
+        assertFalse(response.contains("level"));
+    }
+
+    private void loadLevel(final Chart chart, final String index) {
+        LazyDrilldownBehavior behavior = chart.getBehaviors(LazyDrilldownBehavior.class).get(0);
+        this.tester.getRequest().setParameter("drilldownOptionsIndex", index);
+        this.tester.executeBehavior(behavior);
+    }
+
+    private Chart createChart() {
+        Options options = createOptions("root");
+        Options firstLevel = createOptions("first level");
+        Options secondLevel = createOptions("second level");
+        options.addSeries(new PointSeries().setData(new DrilldownPoint(options, firstLevel).setY(1),
+                new DrilldownPoint(options, secondLevel).setY(2)));
+        Chart chart = new Chart("chart", options);
+        chart.setLazyDrilldown(true);
+        this.tester.startComponentInPage(chart);
+        return chart;
+    }
+
+    private static Options createOptions(final String title) {
+        Options options = new Options();
+        options.setChartOptions(new ChartOptions().setType(SeriesType.COLUMN));
+        options.setTitle(new Title(title));
+        options.addSeries(new PointSeries().setData(new Point(3)));
+        return options;
+    }
+
+}
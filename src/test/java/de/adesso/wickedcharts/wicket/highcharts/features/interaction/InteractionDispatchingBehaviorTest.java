@@ -0,0 +1,233 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts.features.interaction;
+
+import de.adesso.wickedcharts.highcharts.options.Events;
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.PlotOptions;
+import de.adesso.wickedcharts.highcharts.options.PlotOptionsChoice;
+import de.adesso.wickedcharts.highcharts.options.interaction.InteractionEvent;
+import de.adesso.wickedcharts.highcharts.options.interaction.InteractionFunction;
+import de.adesso.wickedcharts.highcharts.options.interaction.InteractionRatePolicy;
+import de.adesso.wickedcharts.highcharts.options.interaction.SelectionEvent;
+import de.adesso.wickedcharts.highcharts.options.interaction.SelectionFunction;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import de.adesso.wickedcharts.highcharts.options.series.PointSeries;
+import de.adesso.wickedcharts.wicket.JavaScriptResourceRegistry;
+import de.adesso.wickedcharts.wicket.highcharts.Chart;
+import org.apache.wicket.mock.MockApplication;
+import org.apache.wicket.util.tester.WicketTester;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InteractionDispatchingBehaviorTest {
+
+    private WicketTester tester;
+
+    @BeforeEach
+    void setUp() {
+        this.tester = new WicketTester(new MockApplication());
+        JavaScriptResourceRegistry.getInstance().setJQueryReference("jquery.js");
+        JavaScriptResourceRegistry.getInstance().setHighchartsReference("highcharts.js");
+        JavaScriptResourceRegistry.getInstance().setHighchartsExportingReference("exporting.js");
+    }
+
+    @AfterEach
+    void tearDown() {
+        InteractionRateLimiter.getInstance().disable();
+        InteractionRateLimiter.getInstance().setOverflow(InteractionRateLimiter.Overflow.COALESCE);
+        this.tester.destroy();
+    }
+
+    @Test
+    void testFunctionsKeepTheirIdsWhenRegisteredAgain() {
+        // given
+        Options options = new Options();
+        InteractionFunction first = createInteractionFunction(options, new AtomicInteger());
+        InteractionFunction second = createInteractionFunction(options, new AtomicInteger());
+        InteractionFunction third = createInteractionFunction(options, new AtomicInteger());
+        InteractionDispatchingBehavior behavior = new InteractionDispatchingBehavior();
+        behavior.setFunctions(InteractionFunction.class, Arrays.asList(first, second));
+        Integer secondId = behavior.getFunctionId(second);
+
+        // when
+        behavior.setFunctions(InteractionFunction.class, Arrays.asList(second, third));
+
+        // then
+        assertEquals(secondId, behavior.getFunctionId(second));
+        assertNull(behavior.getFunctionId(first));
+        assertNotNull(behavior.getFunctionId(third));
+        assertNotEquals(secondId, behavior.getFunctionId(third));
+        assertEquals(2, behavior.getFunctionCount());
+    }
+
+    @Test
+    void testFunctionsOfOtherTypesAreKept() {
+        // given
+        Options options = new Options();
+        InteractionFunction interaction = createInteractionFunction(options, new AtomicInteger());
+        SelectionFunction selection = new SelectionFunction(options) {
+            @Override
+            public void onSelect(final SelectionEvent event) {
+            }
+        };
+        InteractionDispatchingBehavior behavior = new InteractionDispatchingBehavior();
+        behavior.setFunctions(InteractionFunction.class, Collections.singletonList(interaction));
+        Integer interactionId = behavior.getFunctionId(interaction);
+
+        // when
+        behavior.setFunctions(SelectionFunction.class, Collections.singletonList(selection));
+        behavior.setFunctions(SelectionFunction.class, Collections.<SelectionFunction> emptyList());
+
+        // then
+        assertEquals(interactionId, behavior.getFunctionId(interaction));
+        assertNull(behavior.getFunctionId(selection));
+        assertEquals(1, behavior.getFunctionCount());
+        assertThrows(IllegalArgumentException.class,
+                () -> behavior.setFunctions(SelectionFunction.class, Collections.singletonList(interaction)));
+    }
+
+    @Test
+    void testEventsOfUnknownFunctionsAreIgnored() {
+        // given
+        Options options = new Options();
+        AtomicInteger calls = new AtomicInteger();
+        InteractionFunction function = createInteractionFunction(options, calls);
+        Chart chart = createChart(options, function);
+        InteractionDispatchingBehavior behavior = InteractionDispatchingBehavior.getFromChart(chart);
+        int id = behavior.getFunctionId(function);
+
+        // when
+        this.tester.getRequest().setParameter(InteractionDispatchingBehavior.FUNCTION_ID, String.valueOf(id + 1));
+        this.tester.executeBehavior(behavior);
+
+        // then
+        assertEquals(0, calls.get());
+        this.tester.getRequest().setParameter(InteractionDispatchingBehavior.FUNCTION_ID, String.valueOf(id));
+        this.tester.executeBehavior(behavior);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testRatePolicyOnlyAppliesToItsFunction() {
+        // given
+        Options options = new Options();
+        InteractionFunction debounced = createInteractionFunction(options, new AtomicInteger())
+                .setRatePolicy(InteractionRatePolicy.DEBOUNCE, 300);
+        InteractionFunction plain = createInteractionFunction(options, new AtomicInteger());
+        options.addSeries(new PointSeries().setData(new Point(1).setEvents(new Events().setClick(plain))));
+
+        // when
+        Chart chart = createChart(options, debounced);
+
+        // then
+        InteractionDispatchingBehavior behavior = InteractionDispatchingBehavior.getFromChart(chart);
+        String throttlingId = chart.getMarkupId() + "-" + behavior.getFunctionId(debounced);
+        assertTrue(debounced.getFunction().contains(throttlingId));
+        assertTrue(debounced.getFunction().contains("\"tr\""));
+        assertFalse(plain.getFunction().contains("\"tr\""));
+    }
+
+    @Test
+    void testEventsExceedingTheLimitAreCoalesced() {
+        // given
+        Options options = new Options();
+        AtomicInteger calls = new AtomicInteger();
+        InteractionFunction function = createInteractionFunction(options, calls);
+        Chart chart = createChart(options, function);
+        InteractionDispatchingBehavior behavior = InteractionDispatchingBehavior.getFromChart(chart);
+        String id = String.valueOf(behavior.getFunctionId(function));
+        InteractionRateLimiter.getInstance().setSessionLimit(1, 0.001);
+
+        // when
+        sendEvent(behavior, id, false);
+        sendEvent(behavior, id, false);
+        String firstExcess = this.tester.getLastResponseAsString();
+        sendEvent(behavior, id, false);
+        String secondExcess = this.tester.getLastResponseAsString();
+
+        // then
+        assertEquals(1, calls.get());
+        assertTrue(firstExcess.contains("setTimeout"));
+        assertTrue(firstExcess.contains("wickedChartsCoalesced"));
+        assertFalse(secondExcess.contains("setTimeout"));
+        InteractionRateLimiter.getInstance().disable();
+        sendEvent(behavior, id, true);
+        assertEquals(2, calls.get());
+        sendEvent(behavior, id, true);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testEventsExceedingTheLimitAreDropped() {
+        // given
+        Options options = new Options();
+        AtomicInteger calls = new AtomicInteger();
+        InteractionFunction function = createInteractionFunction(options, calls);
+        Chart chart = createChart(options, function);
+        InteractionDispatchingBehavior behavior = InteractionDispatchingBehavior.getFromChart(chart);
+        String id = String.valueOf(behavior.getFunctionId(function));
+        InteractionRateLimiter.getInstance().setSessionLimit(1, 0.001);
+        InteractionRateLimiter.getInstance().setOverflow(InteractionRateLimiter.Overflow.DROP);
+
+        // when
+        sendEvent(behavior, id, false);
+        sendEvent(behavior, id, false);
+
+        // then
+        assertEquals(1, calls.get());
+        assertFalse(this.tester.getLastResponseAsString().contains("setTimeout"));
+    }
+
+    private void sendEvent(final InteractionDispatchingBehavior behavior, final String id, final boolean coalesced) {
+        this.tester.getRequest().setParameter(InteractionDispatchingBehavior.FUNCTION_ID, id);
+        if (coalesced) {
+            this.tester.getRequest().setParameter("wickedChartsCoalesced", "true");
+        }
+        this.tester.executeBehavior(behavior);
+    }
+
+    private Chart createChart(final Options options, final InteractionFunction function) {
+        options.setPlotOptions(new PlotOptionsChoice().setSeries(new PlotOptions()
+                .setEvents(new Events().setClick(function))));
+        options.addSeries(new PointSeries().setData(new Point(1), new Point(2)));
+        Chart chart = new Chart("chart", options);
+        this.tester.startComponentInPage(chart);
+        return chart;
+    }
+
+    private static InteractionFunction createInteractionFunction(final Options options, final AtomicInteger calls) {
+        return new InteractionFunction(options) {
+            @Override
+            public void onInteraction(final InteractionEvent event) {
+                calls.incrementAndGet();
+            }
+        };
+    }
+
+}
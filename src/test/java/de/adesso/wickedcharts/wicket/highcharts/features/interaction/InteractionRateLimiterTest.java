@@ -0,0 +1,91 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts.features.interaction;
+
+import org.apache.wicket.Session;
+import org.apache.wicket.mock.MockApplication;
+import org.apache.wicket.util.tester.WicketTester;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InteractionRateLimiterTest {
+
+    private WicketTester tester;
+
+    @BeforeEach
+    void setUp() {
+        this.tester = new WicketTester(new MockApplication());
+    }
+
+    @AfterEach
+    void tearDown() {
+        InteractionRateLimiter.getInstance().disable();
+        this.tester.destroy();
+    }
+
+    @Test
+    void testDisabledLimiterAllowsAllEvents() {
+        // given
+        InteractionRateLimiter limiter = InteractionRateLimiter.getInstance();
+        Session session = this.tester.getSession();
+
+        // when
+        long delay = 0;
+        for (int i = 0; i < 100; i++) {
+            delay += limiter.tryAcquire(session);
+        }
+
+        // then
+        assertEquals(0, delay);
+    }
+
+    @Test
+    void testEventsExceedingTheBurstAreDelayed() {
+        // given
+        InteractionRateLimiter limiter = InteractionRateLimiter.getInstance();
+        limiter.setSessionLimit(2, 1.0);
+        Session session = this.tester.getSession();
+
+        // when
+        long first = limiter.tryAcquire(session);
+        long second = limiter.tryAcquire(session);
+        long third = limiter.tryAcquire(session);
+
+        // then
+        assertEquals(0, first);
+        assertEquals(0, second);
+        assertTrue(third > 0 && third <= 1000);
+    }
+
+    @Test
+    void testChangedLimitReplacesBucket() {
+        // given
+        InteractionRateLimiter limiter = InteractionRateLimiter.getInstance();
+        limiter.setSessionLimit(1, 1.0);
+        Session session = this.tester.getSession();
+        limiter.tryAcquire(session);
+
+        // when
+        limiter.setSessionLimit(2, 1.0);
+
+        // then
+        assertEquals(0, limiter.tryAcquire(session));
+    }
+
+}
@@ -0,0 +1,95 @@
+/**
+ *   Copyright 2012-2019 Wicked Charts (http://github.com/adessoAG/wicked-charts)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package de.adesso.wickedcharts.wicket.highcharts.features.livedata;
+
+import de.adesso.wickedcharts.highcharts.options.Options;
+import de.adesso.wickedcharts.highcharts.options.livedata.JavaScriptParameters;
+import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataSeries;
+import de.adesso.wickedcharts.highcharts.options.livedata.LiveDataUpdateEvent;
+import de.adesso.wickedcharts.highcharts.options.series.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LiveDataAjaxBehaviorTest {
+
+    private static LiveDataSeries series(final int wickedChartsId, final String expression) {
+        LiveDataSeries series = new LiveDataSeries(new Options(), 1000) {
+            @Override
+            public Point update(final LiveDataUpdateEvent event) {
+                return null;
+            }
+        };
+        series.setWickedChartsId(wickedChartsId);
+        series.addJavaScriptParameter("filter", expression);
+        return series;
+    }
+
+    @Test
+    void testParametersAreSentPerSeries() {
+        // given
+        LiveDataAjaxBehavior behavior = new LiveDataAjaxBehavior();
+
+        // when
+        behavior.setSeries(Arrays.asList(series(1, "first()"), series(2, "second()")));
+
+        // then
+        Map<String, String> values = behavior.getJavaScriptValues();
+        assertEquals(2, values.size());
+        assertEquals("first()", values.get("1:filter"));
+        assertEquals("second()", values.get("2:filter"));
+    }
+
+    @Test
+    void testParametersOfRemovedSeriesAreNotSent() {
+        // given
+        LiveDataAjaxBehavior behavior = new LiveDataAjaxBehavior();
+        LiveDataSeries kept = series(2, "second()");
+        behavior.setSeries(Arrays.asList(series(1, "first()"), kept));
+
+        // when
+        behavior.setSeries(Collections.singletonList(kept));
+
+        // then
+        assertEquals(Collections.singletonMap("2:filter", "second()"), behavior.getJavaScriptValues());
+    }
+
+    @Test
+    void testSeriesReadsItsOwnParameters() {
+        // given
+        final Map<String, String> values = new HashMap<>();
+        values.put("1:filter", "a");
+        values.put("2:filter", "b");
+        JavaScriptParameters parameters = new JavaScriptParameters() {
+            @Override
+            public String getParameterValue(final String parameterName) {
+                return values.get(parameterName);
+            }
+        };
+
+        // when
+        JavaScriptParameters seriesParameters = LiveDataAjaxBehavior.getSeriesParameters(series(2, "second()"),
+                parameters);
+
+        // then
+        assertEquals("b", seriesParameters.getParameterValue("filter"));
+    }
+
+}